@@ -0,0 +1,63 @@
+package com.coffeebean.domain.cart.cart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.coffeebean.domain.cart.cart.entity.Cart;
+import com.coffeebean.domain.cart.cartItem.entity.CartItem;
+import com.coffeebean.domain.item.entity.Item;
+
+/**
+ * 주문 완료 후 장바구니에서 주문 상품을 제거하는 Cart.deleteItems 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartBenchmark {
+
+	@Param({"10", "100"})
+	private int cartSize; // 장바구니 상품 수
+
+	@Param({"1", "10"})
+	private int deleteCount; // 주문한 (삭제할) 상품 수
+
+	private List<Item> items;
+	private List<Item> ordered;
+	private Cart cart;
+
+	@Setup(Level.Trial)
+	public void setUpItems() {
+		items = new ArrayList<>();
+		for (int i = 0; i < cartSize; i++) {
+			items.add(Item.builder().id((long)i + 1).name("원두 " + i).price(10000).stockQuantity(100).build());
+		}
+		// 장바구니 뒤쪽 상품을 주문한 경우
+		ordered = items.subList(Math.max(cartSize - deleteCount, 0), cartSize);
+	}
+
+	// deleteItems 가 장바구니를 변경하므로 매 호출마다 새로 구성
+	@Setup(Level.Invocation)
+	public void setUpCart() {
+		cart = Cart.builder().id(1L).build();
+		for (Item item : items) {
+			cart.getCartItems().add(CartItem.builder().cart(cart).item(item).quantity(1).build());
+		}
+	}
+
+	@Benchmark
+	public Cart deleteItems() {
+		cart.deleteItems(ordered);
+		return cart;
+	}
+}
@@ -0,0 +1,116 @@
+package com.coffeebean.domain.order.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.coffeebean.CoffeebeanApplication;
+import com.coffeebean.domain.order.order.dto.OrderCreateRequest;
+import com.coffeebean.domain.order.order.dto.OrderCreateResponse;
+import com.coffeebean.domain.order.order.service.OrderCheckoutService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 주문 생성 (ApiV1OrderController.createOrder 의 트랜잭션 경계인 OrderCheckoutService.checkout) 매크로 벤치마크
+ * 인메모리 H2 에 상품을 itemCount 개 넣고, 주문 상품 lines 개짜리 주문을 반복 생성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderCreateBenchmark {
+
+	private static final int REQUEST_POOL_SIZE = 256;
+
+	@Param({"1000", "100000"})
+	private int itemCount;
+
+	@Param({"1", "10"})
+	private int lines;
+
+	private ConfigurableApplicationContext context;
+	private OrderCheckoutService orderCheckoutService;
+	private List<OrderCreateRequest> requests;
+	private final AtomicInteger sequence = new AtomicInteger();
+
+	@Setup
+	public void setUp() throws Exception {
+		// application.yml 보다 우선하도록 커맨드라인 인자로 전달
+		context = new SpringApplicationBuilder(CoffeebeanApplication.class)
+			.run(
+				"--server.port=0",
+				"--spring.profiles.active=bench",
+				"--spring.datasource.url=jdbc:h2:mem:db_bench;MODE=MySQL",
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--spring.jpa.show-sql=false",
+				"--logging.level.root=WARN",
+				"--mail.outbox.worker-enabled=false");
+
+		orderCheckoutService = context.getBean(OrderCheckoutService.class);
+		seedItems(context.getBean(JdbcTemplate.class));
+		requests = createRequests(context.getBean(ObjectMapper.class));
+	}
+
+	// 재고가 소진되지 않도록 충분히 큰 재고로 등록
+	private void seedItems(JdbcTemplate jdbcTemplate) {
+		jdbcTemplate.execute("delete from item where name like 'bench-%'");
+
+		List<Object[]> rows = IntStream.range(0, itemCount)
+			.mapToObj(i -> new Object[] {"bench-" + i, 10000 + i % 1000, 1_000_000_000})
+			.toList();
+		jdbcTemplate.batchUpdate("insert into item (name, price, stock_quantity) values (?, ?, ?)", rows);
+	}
+
+	private List<OrderCreateRequest> createRequests(ObjectMapper objectMapper) throws Exception {
+		List<Long> itemIds = context.getBean(JdbcTemplate.class)
+			.queryForList("select item_id from item where name like 'bench-%'", Long.class);
+
+		Random random = new Random(42);
+		List<OrderCreateRequest> result = new ArrayList<>(REQUEST_POOL_SIZE);
+		for (int i = 0; i < REQUEST_POOL_SIZE; i++) {
+			// 한 주문 안에서는 상품이 중복되지 않도록 선택
+			List<Map<String, Object>> items = random.ints(0, itemIds.size())
+				.distinct()
+				.limit(lines)
+				.mapToObj(index -> Map.<String, Object>of("id", itemIds.get(index), "count", 1))
+				.collect(Collectors.toList());
+
+			String json = objectMapper.writeValueAsString(Map.of(
+				"email", "bench" + i + "@exam.com",
+				"address", Map.of("city", "서울", "street", "원두로 1", "zipcode", "12345"),
+				"items", items,
+				"point", 0,
+				"cartOrder", false));
+			result.add(objectMapper.readValue(json, OrderCreateRequest.class));
+		}
+		return result;
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public OrderCreateResponse createOrder() {
+		OrderCreateRequest request = requests.get(Math.floorMod(sequence.getAndIncrement(), REQUEST_POOL_SIZE));
+		return orderCheckoutService.checkout(request, null);
+	}
+}
@@ -0,0 +1,82 @@
+package com.coffeebean.domain.order.order;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.order.order.dto.OrderCreateResponse;
+import com.coffeebean.domain.order.order.dto.OrderListDto;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.user.user.Address;
+
+/**
+ * 엔티티 -> 주문 DTO 변환 비용 (DB 접근 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderDtoMappingBenchmark {
+
+	@Param({"1", "10", "50"})
+	private int lines; // 주문 1건의 주문 상품 수
+
+	private Order order;
+
+	@Setup
+	public void setUp() {
+		order = Order.builder()
+			.id(1L)
+			.email("bench@exam.com")
+			.deliveryAddress(new Address("서울", "원두로 1", "12345"))
+			.deliveryStatus(DeliveryStatus.READY)
+			.orderStatus(OrderStatus.ORDER)
+			.build();
+
+		for (int i = 0; i < lines; i++) {
+			Item item = Item.builder().id((long)i + 1).name("원두 " + i).price(10000 + i).stockQuantity(100).build();
+			order.getOrderItems().add(OrderItem.builder()
+				.id((long)i + 1)
+				.order(order)
+				.item(item)
+				.orderPrice(item.getPrice())
+				.count(i % 3 + 1)
+				.build());
+		}
+	}
+
+	// 주문 내역 목록 1행 (대표 상품명 + 총 금액)
+	@Benchmark
+	public OrderDto orderDto() {
+		List<OrderItem> orderItems = order.getOrderItems();
+		return new OrderDto(
+			order.getId(),
+			order.getOrderDate(),
+			orderItems.get(0).getItem().getName(),
+			order.getOrderStatus(),
+			order.getDeliveryStatus(),
+			orderItems.stream().mapToInt(OrderItem::getTotalPrice).sum()
+		);
+	}
+
+	// 관리자 주문 목록 1행
+	@Benchmark
+	public OrderListDto orderListDto() {
+		return new OrderListDto(order);
+	}
+
+	// 주문 생성 응답
+	@Benchmark
+	public OrderCreateResponse orderCreateResponse() {
+		return new OrderCreateResponse(order, order.getOrderItems());
+	}
+}
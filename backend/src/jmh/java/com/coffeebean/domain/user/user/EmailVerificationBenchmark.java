@@ -0,0 +1,26 @@
+package com.coffeebean.domain.user.user;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.coffeebean.domain.user.user.service.EmailVerificationService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailVerificationBenchmark {
+
+	// 인증 코드 생성은 인증 코드 저장소, 메일 발송을 사용하지 않음
+	private final EmailVerificationService emailVerificationService = new EmailVerificationService(null, null);
+
+	@Benchmark
+	public String generateVerificationCode() {
+		return emailVerificationService.generateVerificationCode();
+	}
+}
@@ -0,0 +1,127 @@
+package com.coffeebean.domain.user.user;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.coffeebean.domain.user.user.verification.InMemoryVerificationCodeStore;
+import com.coffeebean.domain.user.user.verification.VerificationResult;
+
+/**
+ * 인증 코드 메모리 저장소 (InMemoryVerificationCodeStore) 에 pendingCodes 개의 코드가 쌓여 있을 때의 비용
+ * - 저장 / 확인 / 인증 여부 조회 (8 스레드 동시 호출)
+ * - 가득 찬 저장소에 새 이메일 저장 (가장 오래된 코드 삭제)
+ * - 만료된 코드 전체 정리
+ * 시작할 때 코드 하나당 힙 사용량을 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerificationCodeStoreBenchmark {
+
+	private static final String CODE = "aB3dE5gH";
+
+	@Param({"1000000"})
+	private int pendingCodes;
+
+	private InMemoryVerificationCodeStore store;
+	private final AtomicLong newEmails = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long before = usedHeap();
+		store = new InMemoryVerificationCodeStore(Duration.ofMinutes(10), Integer.MAX_VALUE, pendingCodes,
+			Clock.systemDefaultZone());
+		fill(store, pendingCodes);
+		long after = usedHeap();
+
+		System.out.printf("%n[verification] pending=%d, heap=%.1fMB, %.0f bytes/code%n", store.size(),
+			(after - before) / 1024.0 / 1024.0, (double)(after - before) / store.size());
+	}
+
+	private static void fill(InMemoryVerificationCodeStore store, int count) {
+		for (int i = 0; i < count; i++) {
+			store.save(email(i), CODE);
+		}
+	}
+
+	private static String email(int i) {
+		return "user" + i + "@exam.com";
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private String randomEmail() {
+		return email(ThreadLocalRandom.current().nextInt(pendingCodes));
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void save() {
+		store.save(randomEmail(), CODE);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public VerificationResult verify() {
+		return store.verify(randomEmail(), CODE);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public boolean isVerified() {
+		return store.isVerified(randomEmail());
+	}
+
+	// 저장소가 가득 찬 상태라 저장할 때마다 가장 오래된 코드가 지워진다
+	@Benchmark
+	@Threads(8)
+	public void saveEvictingOldest() {
+		store.save("new" + newEmails.incrementAndGet() + "@exam.com", CODE);
+	}
+
+	/**
+	 * pendingCodes 개가 모두 만료된 저장소를 정리하는 시간 (스케줄러 한 번 실행)
+	 */
+	@State(Scope.Thread)
+	public static class ExpiredStore {
+
+		@Param({"1000000"})
+		private int expiredCodes;
+
+		private InMemoryVerificationCodeStore store;
+
+		// 정리하면 비워지므로 매 호출마다 다시 채움 (ttl 0 이라 저장 즉시 만료)
+		@Setup(Level.Invocation)
+		public void setUp() {
+			store = new InMemoryVerificationCodeStore(Duration.ZERO, 5, expiredCodes, Clock.systemDefaultZone());
+			fill(store, expiredCodes);
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public int deleteExpired(ExpiredStore expiredStore) {
+		return expiredStore.store.deleteExpired();
+	}
+}
@@ -0,0 +1,62 @@
+package com.coffeebean.global.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.entity.Item;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 상품 목록 응답 (RsData<Page<ItemDto>>) 의 JSON 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RsDataSerializationBenchmark {
+
+	@Param({"10", "100"})
+	private int pageSize;
+
+	// 스프링 부트가 등록하는 ObjectMapper 와 같은 설정
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private RsData<Page<ItemDto>> response;
+
+	@Setup
+	public void setUp() {
+		List<ItemDto> items = new ArrayList<>();
+		for (int i = 0; i < pageSize; i++) {
+			items.add(new ItemDto(Item.builder()
+				.id((long)i + 1)
+				.name("원두 " + i)
+				.price(10000 + i)
+				.stockQuantity(100)
+				.imageUrl("/images/" + i + ".png")
+				.description("산미가 있는 원두 " + i)
+				.build()));
+		}
+		response = new RsData<>("200-1", "상품 목록 조회 성공",
+			new PageImpl<>(items, PageRequest.of(0, pageSize), 1000));
+	}
+
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+}
@@ -0,0 +1,179 @@
+package com.coffeebean.global.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+/**
+ * 업로드 파일 조회 처리량 비교 (8 스레드 동시 요청)
+ * legacy* 는 변경 전 정적 리소스 핸들러처럼 스트림 버퍼로 복사해서 보내는 방식
+ * bytes 카운터를 시간으로 나누면 MB/s, SampleTime 결과에서 p99 지연을 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class FileServingBenchmark {
+
+	private static final int ORIGINAL_SIZE = 1024 * 1024;
+	private static final int THUMBNAIL_SIZE = 16 * 1024;
+
+	private Path uploadDir;
+	private FileController controller;
+	private String original;
+	private String thumbnail;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Transferred {
+		public long bytes;
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		uploadDir = Files.createTempDirectory("file-serving-bench");
+		String hash = HexFormat.of().formatHex(new byte[32]).replace('0', 'a');
+		original = hash + ".jpg";
+		thumbnail = ImageVariant.THUMBNAIL.fileName(original);
+		Files.write(uploadDir.resolve(original), randomBytes(ORIGINAL_SIZE));
+		Files.write(uploadDir.resolve(thumbnail), randomBytes(THUMBNAIL_SIZE));
+
+		ImageVariantProcessor processor = new ImageVariantProcessor();
+		ReflectionTestUtils.setField(processor, "uploadDir", uploadDir.toString());
+		ReflectionTestUtils.setField(processor, "threads", 1);
+		ReflectionTestUtils.setField(processor, "queueCapacity", 1);
+		processor.init();
+
+		FileServingService service = new FileServingService(processor);
+		ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+		ReflectionTestUtils.setField(service, "hotCacheMaxBytes", 16L * 1024 * 1024);
+		ReflectionTestUtils.setField(service, "hotCacheMaxFileBytes", 64L * 1024);
+		ReflectionTestUtils.setField(service, "sendfileMinBytes", 48L * 1024);
+		service.init();
+
+		controller = new FileController(service);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(uploadDir)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+	private long serve(String fileName, String range, Transferred transferred) throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/" + fileName);
+		if (range != null) {
+			request.addHeader(HttpHeaders.RANGE, range);
+		}
+		CountingResponse response = new CountingResponse();
+
+		controller.serve(fileName, request, response);
+
+		transferred.bytes += response.out.count;
+		return response.out.count;
+	}
+
+	@Benchmark
+	public long original(Transferred transferred) throws IOException {
+		return serve(original, null, transferred);
+	}
+
+	// 동영상/이어받기처럼 임의 위치의 64KB 구간 요청
+	@Benchmark
+	public long originalRange(Transferred transferred) throws IOException {
+		long start = ThreadLocalRandom.current().nextLong(ORIGINAL_SIZE - 65536);
+		return serve(original, "bytes=%d-%d".formatted(start, start + 65535), transferred);
+	}
+
+	// 메모리 캐시 적중
+	@Benchmark
+	public long thumbnail(Transferred transferred) throws IOException {
+		return serve(thumbnail, null, transferred);
+	}
+
+	@Benchmark
+	public long legacyOriginal(Transferred transferred) throws IOException {
+		return legacyCopy(uploadDir.resolve(original), transferred);
+	}
+
+	@Benchmark
+	public long legacyThumbnail(Transferred transferred) throws IOException {
+		return legacyCopy(uploadDir.resolve(thumbnail), transferred);
+	}
+
+	private long legacyCopy(Path path, Transferred transferred) throws IOException {
+		CountingResponse response = new CountingResponse();
+		try (InputStream in = Files.newInputStream(path)) {
+			in.transferTo(response.getOutputStream());
+		}
+		transferred.bytes += response.out.count;
+		return response.out.count;
+	}
+
+	// 본문을 버리고 보낸 바이트 수만 센다 (측정 대상은 서버 쪽 읽기/복사 비용)
+	private static class CountingResponse extends MockHttpServletResponse {
+
+		private final CountingOutputStream out = new CountingOutputStream();
+
+		@Override
+		public ServletOutputStream getOutputStream() {
+			return out;
+		}
+	}
+
+	private static class CountingOutputStream extends ServletOutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener listener) {
+		}
+	}
+}
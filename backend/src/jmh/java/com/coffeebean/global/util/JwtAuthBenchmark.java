@@ -0,0 +1,85 @@
+package com.coffeebean.global.util;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 인증 필터 경로의 JWT 검증 비용 비교
+ * legacy* 는 변경 전 JwtUtil.getPayload 와 같은 방식 (매 호출마다 키 생성 + 파서 생성 + 서명 검증)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthBenchmark {
+
+	private static final String SECRET_KEY = "676e27c6-60e8-49c7-8c0f-adf8e7ecaa2e";
+
+	private final JwtAuthenticationFilterFromCookie filter = new JwtAuthenticationFilterFromCookie();
+
+	private String token;
+
+	@Setup
+	public void setUp() {
+		token = JwtUtil.createToken(Map.of("id", 1L, "email", "bench@exam.com"));
+	}
+
+	@Benchmark
+	public String createToken() {
+		return JwtUtil.createToken(Map.of("id", 1L, "email", "bench@exam.com"));
+	}
+
+	@Benchmark
+	public Object legacyGetPayload() {
+		SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+
+		return Jwts.parser()
+			.verifyWith(secretKey)
+			.build()
+			.parse(token)
+			.getPayload();
+	}
+
+	// 키와 파서를 재사용하고 서명 검증만 수행
+	@Benchmark
+	public Object parseWithSharedKey() {
+		return JwtUtil.parse(token);
+	}
+
+	// 검증된 토큰 캐시 적중
+	@Benchmark
+	public Object cachedGetPayload() {
+		return JwtUtil.getPayload(token);
+	}
+
+	// 필터 전체 경로 (쿠키 추출 + 검증 + SecurityContext 설정)
+	@Benchmark
+	public Object filter() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/carts");
+		request.setCookies(new Cookie("token", token));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, new MockFilterChain());
+
+		Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		SecurityContextHolder.clearContext();
+		return principal;
+	}
+}
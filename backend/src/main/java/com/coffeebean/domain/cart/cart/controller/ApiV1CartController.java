@@ -1,7 +1,5 @@
 package com.coffeebean.domain.cart.cart.controller;
 
-import java.util.List;
-
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,7 +10,6 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.coffeebean.domain.cart.cart.dto.CartItemDto;
 import com.coffeebean.domain.cart.cart.dto.CartListResponseDto;
 import com.coffeebean.domain.cart.cart.entity.Cart;
 import com.coffeebean.domain.cart.cart.service.CartService;
@@ -63,23 +60,11 @@ public class ApiV1CartController {
 
 	// 자신의 장바구니 전체 조회
 	@GetMapping
-	@Transactional
 	public RsData<CartListResponseDto> getCarts(@Login CustomUserDetails userDetails) {
-		User actor = User.builder()
-			.id(userDetails.getUserId())
-			.email(userDetails.getEmail())
-			.build();
-
-		Cart cart = cartService.getMyCart(actor);
-
-		List<CartItemDto> cartItems = cartItemService.getCartItems(cart).stream()
-			.map(CartItemDto::new)
-			.toList();
-
 		return new RsData<>(
 			"200-1",
 			"내 장바구니 조회가 완료되었습니다.",
-			new CartListResponseDto(cartItems)
+			cartService.getCartView(userDetails.getUserId())
 		);
 	}
 
@@ -1,6 +1,7 @@
 package com.coffeebean.domain.cart.cart.dto;
 
 import com.coffeebean.domain.cart.cartItem.entity.CartItem;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import org.springframework.lang.NonNull;
 
@@ -16,10 +17,35 @@ public class CartItemDto {
 
     private int price;
 
+    private int stockQuantity; // 현재 재고
+
+    private boolean available; // 담은 수량만큼 재고가 있는지
+
+    private long totalPrice; // 상품 가격 * 수량
+
+    @JsonIgnore
+    private long cartTotalPrice; // 장바구니 전체 금액 (모든 행에 같은 값)
+
     public CartItemDto(CartItem cartItem) {
         this.quantity = cartItem.getQuantity();
         this.id = cartItem.getItem().getId();
         this.name = cartItem.getItem().getName();
         this.price = cartItem.getItem().getPrice();
+        this.stockQuantity = cartItem.getItem().getStockQuantity();
+        this.available = stockQuantity >= quantity;
+        this.totalPrice = (long) price * quantity;
+    }
+
+    // JPQL projection 용 - 금액은 SQL 에서 계산
+    public CartItemDto(Long id, int quantity, String name, int price, int stockQuantity, Long totalPrice,
+            Long cartTotalPrice) {
+        this.id = id;
+        this.quantity = quantity;
+        this.name = name;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+        this.available = stockQuantity >= quantity;
+        this.totalPrice = totalPrice;
+        this.cartTotalPrice = cartTotalPrice;
     }
 }
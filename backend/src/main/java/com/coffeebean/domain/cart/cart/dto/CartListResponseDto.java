@@ -9,4 +9,9 @@ import java.util.List;
 @AllArgsConstructor
 public class CartListResponseDto {
     private List<CartItemDto> items;
-}
\ No newline at end of file
+    private long totalPrice; // 장바구니 전체 금액
+
+    public CartListResponseDto(List<CartItemDto> items) {
+        this(items, items.isEmpty() ? 0 : items.getFirst().getCartTotalPrice());
+    }
+}
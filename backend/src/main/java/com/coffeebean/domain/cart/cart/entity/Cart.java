@@ -16,6 +16,8 @@ import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
 @Getter
@@ -41,7 +43,12 @@ public class Cart {
 		cartItems.clear();
 	}
 
+	// 주문 완료 시에는 CartService.removeItems 의 bulk delete 를 사용
 	public void deleteItems(List<Item> items) {
-		cartItems.removeIf(cartItem -> items.contains(cartItem.getItem()));
+		Set<Long> itemIds = items.stream()
+			.map(Item::getId)
+			.collect(Collectors.toSet());
+		// 지연 로딩 프록시의 id 조회는 상품을 초기화하지 않는다
+		cartItems.removeIf(cartItem -> itemIds.contains(cartItem.getItem().getId()));
 	}
 }
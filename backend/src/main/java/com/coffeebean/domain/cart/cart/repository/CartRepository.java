@@ -3,6 +3,8 @@ package com.coffeebean.domain.cart.cart.repository;
 import com.coffeebean.domain.cart.cart.entity.Cart;
 import com.coffeebean.domain.user.user.enitity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,8 @@ import java.util.Optional;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUser(User user);
+
+    // 장바구니 엔티티를 로딩하지 않고 id 만 조회
+    @Query("select c.id from Cart c where c.user = :user")
+    Optional<Long> findIdByUser(@Param("user") User user);
 }
@@ -1,12 +1,17 @@
 package com.coffeebean.domain.cart.cart.service;
 
+import com.coffeebean.domain.cart.cart.dto.CartListResponseDto;
 import com.coffeebean.domain.cart.cart.entity.Cart;
 import com.coffeebean.domain.cart.cart.repository.CartRepository;
+import com.coffeebean.domain.cart.cartItem.repository.CartItemRepository;
 import com.coffeebean.domain.user.user.enitity.User;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Service
@@ -14,6 +19,14 @@ import java.util.Optional;
 public class CartService {
 
     private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final EntityManager entityManager;
+
+    // 장바구니 생성은 상품을 처음 담을 때 getMyCart 에서 수행, 조회 시에는 만들지 않음
+    @Transactional(readOnly = true)
+    public CartListResponseDto getCartView(Long userId) {
+        return new CartListResponseDto(cartItemRepository.findCartView(userId));
+    }
 
     @Transactional
     public Cart getMyCart(User actor) {
@@ -27,6 +40,38 @@ public class CartService {
         return opCart.get();
     }
 
+    /**
+     * 주문한 상품을 장바구니에서 제거 (cart_id, item_id 조건의 bulk delete 1회)
+     * 장바구니와 장바구니 상품 컬렉션은 로딩하지 않는다.
+     *
+     * @return 삭제된 장바구니 상품 수
+     */
+    @Transactional
+    public int removeItems(User actor, Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+
+        Optional<Long> opCartId = cartRepository.findIdByUser(actor);
+        if (opCartId.isEmpty()) {
+            return 0;
+        }
+
+        Long cartId = opCartId.get();
+        int deleted = cartItemRepository.deleteByCartIdAndItemIdIn(cartId, itemIds);
+        evictIfLoaded(cartId);
+        return deleted;
+    }
+
+    // bulk delete 는 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 이미 로딩된 장바구니가 있다면 분리해
+    // 이후 조회 시 DB 에서 다시 읽도록 한다 (장바구니 상품도 cascade 로 함께 분리)
+    private void evictIfLoaded(Long cartId) {
+        Cart cart = entityManager.getReference(Cart.class, cartId);
+        if (Hibernate.isInitialized(cart)) {
+            entityManager.detach(cart);
+        }
+    }
+
     @Transactional
     public void deleteCart(Cart cart) {
         cart.deleteAllCartItems();
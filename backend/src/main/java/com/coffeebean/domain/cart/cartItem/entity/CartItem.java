@@ -8,11 +8,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_cart_item_cart_item", columnList = "cart_id, item_id"))
 @Getter
 @Builder
 @AllArgsConstructor
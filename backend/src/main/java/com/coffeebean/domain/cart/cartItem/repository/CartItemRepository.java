@@ -1,16 +1,36 @@
 package com.coffeebean.domain.cart.cartItem.repository;
 
+import com.coffeebean.domain.cart.cart.dto.CartItemDto;
 import com.coffeebean.domain.cart.cart.entity.Cart;
 import com.coffeebean.domain.cart.cartItem.entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     List<CartItem> findByCart(Cart cart);
+
+    // 장바구니 조회 - 상품 정보, 행 금액, 장바구니 전체 금액을 쿼리 1회로 조회 (장바구니가 없으면 빈 결과)
+    @Query("select new com.coffeebean.domain.cart.cart.dto.CartItemDto(" +
+            "i.id, ci.quantity, i.name, i.price, i.stockQuantity, " +
+            "cast(i.price as long) * ci.quantity, " +
+            "sum(cast(i.price as long) * ci.quantity) over ()) " +
+            "from CartItem ci join ci.item i " +
+            "where ci.cart.user.id = :userId " +
+            "order by ci.id")
+    List<CartItemDto> findCartView(@Param("userId") Long userId);
     Optional<CartItem> findByCartIdAndItemId(Long cartId, Long itemId);
     Optional<CartItem> findByItemId(Long itemId);
+
+    // 주문한 상품을 장바구니에서 한 번의 delete 로 제거
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CartItem ci where ci.cart.id = :cartId and ci.item.id in :itemIds")
+    int deleteByCartIdAndItemIdIn(@Param("cartId") Long cartId, @Param("itemIds") Collection<Long> itemIds);
 }
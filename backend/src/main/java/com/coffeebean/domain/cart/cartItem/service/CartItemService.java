@@ -10,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -44,11 +43,6 @@ public class CartItemService {
         cartItemRepository.save(cartItem);
     }
 
-    @Transactional(readOnly = true)
-    public List<CartItem> getCartItems(Cart cart) {
-        return cartItemRepository.findByCart(cart);
-    }
-
     @Transactional
     public void modifyCartItem(Cart cart, Long itemId, Integer quantity) {
         CartItem cartItem = cartItemRepository.findByCartIdAndItemId(cart.getId(), itemId)
@@ -0,0 +1,191 @@
+package com.coffeebean.domain.item.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coffeebean.domain.item.dto.ItemCacheStatsDto;
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.coffeebean.global.httpcache.HttpResponseCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 카탈로그 캐시.
+ * 상품 정보(ItemDto)와 목록 페이지는 변경 시 명시적으로 무효화하고,
+ * 자주 바뀌는 재고는 짧은 TTL 의 별도 캐시에 두어 조회 시 최신 값으로 덧씌운다.
+ * 상품 정보나 목록을 무효화할 때 상품 조회 API 의 응답 캐시 (HTTP_CACHE_REGION) 도 함께 무효화한다.
+ * 주문으로 재고만 바뀐 경우에는 응답 캐시를 유지한다. (주문마다 버리면 응답 캐시가 거의 적중하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemCatalogCache {
+
+	public static final String HTTP_CACHE_REGION = "items";
+
+	private final HttpResponseCache httpResponseCache;
+
+	@Value("${item.cache.max-items:1000}")
+	private long maxItems;
+
+	@Value("${item.cache.max-pages:200}")
+	private long maxPages;
+
+	@Value("${item.cache.ttl-seconds:600}")
+	private long ttlSeconds;
+
+	@Value("${item.cache.stock-ttl-seconds:5}")
+	private long stockTtlSeconds;
+
+	private Cache<Long, ItemDto> items;
+	private Cache<PageKey, Page<ItemDto>> pages;
+	private Cache<Long, Integer> stocks;
+
+	// 상품, 목록 캐시를 무효화할 때마다 증가 (조회 중에 무효화되었는지 확인용)
+	private final AtomicLong catalogVersion = new AtomicLong();
+
+	@PostConstruct
+	public void init() {
+		items = Caffeine.newBuilder()
+			.maximumSize(maxItems)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+		pages = Caffeine.newBuilder()
+			.maximumSize(maxPages)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+		stocks = Caffeine.newBuilder()
+			.maximumSize(maxItems)
+			.expireAfterWrite(Duration.ofSeconds(stockTtlSeconds))
+			.recordStats()
+			.build();
+	}
+
+	public Optional<ItemDto> getItem(long id, Function<Long, ItemDto> loader) {
+		return Optional.ofNullable(getOrLoad(items, id, loader));
+	}
+
+	public Page<ItemDto> getPage(int page, int size, String sortBy, String direction, Double minRating,
+		Supplier<Page<ItemDto>> loader) {
+		return getOrLoad(pages, new PageKey(page, size, sortBy, direction.toLowerCase(), minRating), key -> loader.get());
+	}
+
+	// Cache.get(key, loader) 는 ConcurrentHashMap 의 락(synchronized) 안에서 loader 를 실행하므로
+	// 가상 스레드에서는 DB 조회가 끝날 때까지 캐리어 스레드가 고정된다. 락 밖에서 조회한 뒤 넣는다.
+	// 조회하는 동안 수정이 커밋되어 무효화되었다면 옛 값일 수 있으므로 넣은 값을 다시 지운다.
+	// (무효화는 버전을 먼저 올리므로 무효화가 넣기보다 앞서면 버전 비교에서, 뒤면 무효화에서 지워진다)
+	private <K, V> V getOrLoad(Cache<K, V> cache, K key, Function<K, V> loader) {
+		long version = catalogVersion.get();
+		V cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		V loaded = loader.apply(key);
+		if (loaded != null) {
+			cache.put(key, loaded);
+			if (catalogVersion.get() != version) {
+				cache.asMap().remove(key, loaded);
+			}
+		}
+		return loaded;
+	}
+
+	public int getStock(long id, Function<Collection<Long>, Map<Long, Integer>> loader) {
+		return getStocks(List.of(id), loader).getOrDefault(id, 0);
+	}
+
+	// 캐시에 없는 상품의 재고만 한 번에 조회
+	public Map<Long, Integer> getStocks(Collection<Long> ids,
+		Function<Collection<Long>, Map<Long, Integer>> loader) {
+		return stocks.getAll(ids, missing -> loader.apply(Set.copyOf(missing)));
+	}
+
+	public Page<ItemDto> withLatestStocks(Page<ItemDto> page, Function<Collection<Long>, Map<Long, Integer>> loader) {
+		List<Long> ids = page.getContent().stream().map(ItemDto::getId).toList();
+		Map<Long, Integer> latest = getStocks(ids, loader);
+		return page.map(item -> item.withStockQuantity(latest.getOrDefault(item.getId(), item.getStockQuantity())));
+	}
+
+	// 상품 정보 (리뷰 통계 포함) 가 바뀐 경우: 상품, 목록, 재고 모두 무효화
+	public void evictItem(long id) {
+		evictCatalog(() -> {
+			items.invalidate(id);
+			stocks.invalidate(id);
+			pages.invalidateAll();
+		});
+	}
+
+	// 전체 상품 정보가 바뀐 경우 (리뷰 통계 재집계)
+	public void evictAll() {
+		evictCatalog(() -> {
+			items.invalidateAll();
+			pages.invalidateAll();
+		});
+	}
+
+	// 목록 구성이 바뀐 경우 (상품 추가)
+	public void evictPages() {
+		evictCatalog(pages::invalidateAll);
+	}
+
+	// 주문으로 재고만 바뀐 경우: 재고 캐시만 무효화
+	// 상품 조회 응답 캐시는 유지하므로 응답의 재고는 http-cache.ttl-seconds 까지 늦게 반영될 수 있다
+	// (실제 차감은 조건부 UPDATE 로 재고를 확인하므로 주문이 재고를 넘지는 않는다)
+	public void evictStocks(Collection<Long> ids) {
+		List<Long> copy = List.copyOf(ids);
+		evictNowAndAfterCommit(() -> stocks.invalidateAll(copy));
+	}
+
+	// 상품 정보나 목록이 바뀐 경우: 응답 캐시도 무효화하고, 조회 중이던 값이 다시 들어가지 않도록 버전을 올린다
+	private void evictCatalog(Runnable eviction) {
+		httpResponseCache.evict(HTTP_CACHE_REGION);
+		evictNowAndAfterCommit(() -> {
+			catalogVersion.incrementAndGet();
+			eviction.run();
+		});
+	}
+
+	// 커밋 전에 다른 요청이 옛 값을 다시 캐시할 수 있으므로 커밋 이후에도 한 번 더 무효화
+	private void evictNowAndAfterCommit(Runnable eviction) {
+		eviction.run();
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					eviction.run();
+				}
+			});
+		}
+	}
+
+	public Map<String, ItemCacheStatsDto> getStats() {
+		Map<String, ItemCacheStatsDto> stats = new LinkedHashMap<>();
+		stats.put("items", new ItemCacheStatsDto(items));
+		stats.put("pages", new ItemCacheStatsDto(pages));
+		stats.put("stocks", new ItemCacheStatsDto(stocks));
+		return stats;
+	}
+
+	private record PageKey(int page, int size, String sortBy, String direction, Double minRating) {
+	}
+}
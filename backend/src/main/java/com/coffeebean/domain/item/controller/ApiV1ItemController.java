@@ -1,15 +1,23 @@
 package com.coffeebean.domain.item.controller;
 
+import com.coffeebean.domain.item.cache.ItemCatalogCache;
+import com.coffeebean.domain.item.dto.ItemCacheStatsDto;
 import com.coffeebean.domain.item.dto.ItemDto;
 import com.coffeebean.domain.item.dto.ItemListResponseDto;
 import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.search.ItemSearchCondition;
 import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.domain.question.question.QuestionSearchCondition;
 import com.coffeebean.domain.question.question.dto.QuestionDto;
 import com.coffeebean.domain.question.question.service.QuestionService;
+import com.coffeebean.domain.review.review.ReviewSearchCondition;
 import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
+import com.coffeebean.domain.review.review.service.FileStorageService;
 import com.coffeebean.domain.review.review.service.ReviewService;
+import com.coffeebean.global.dto.CursorPage;
 import com.coffeebean.global.dto.RsData;
 import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.httpcache.HttpCached;
 import com.coffeebean.global.security.annotations.AdminOnly;
 
 import jakarta.validation.Valid;
@@ -19,19 +27,12 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.parameters.P;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 
@@ -40,9 +41,13 @@ import java.util.Map;
 @RequestMapping("/api/v1/items")
 public class ApiV1ItemController {
 
+    private static final int MAX_REVIEW_PAGE_SIZE = 100;
+    private static final int MAX_QUESTION_PAGE_SIZE = 100;
+
     private final ItemService itemService;
     private final QuestionService questionService;
     private final ReviewService reviewService;
+    private final FileStorageService fileStorageService;
 
     // 상품 등록 (선택적 이미지 파일 업로드)
     @AdminOnly
@@ -51,22 +56,13 @@ public class ApiV1ItemController {
         @NotNull(message = "가격을 입력하세요") @Min(value = 1, message = "가격은 1 이상이어야 합니다.") @RequestParam("price") int price,
         @RequestParam("stockQuantity") int stockQuantity,
         @RequestParam("description") String description,
-        @RequestParam("image") MultipartFile image) throws IOException {
+        @RequestParam("image") MultipartFile image) {
 
+        // 내용 해시 이름으로 업로드 디렉토리에 저장 (/files/** 로 조회, 리사이즈 버전은 비동기 생성)
         String fileName = null;
 
         if (!image.isEmpty()) {
-            String uploadDir = "src/main/resources/static/";
-            File uploadDirFile = new File(uploadDir);
-
-            if (!uploadDirFile.exists()) {
-                uploadDirFile.mkdirs();
-            }
-
-            fileName = image.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir + fileName);
-
-            image.transferTo(filePath);
+            fileName = "files/" + fileStorageService.storeFile(image);
         }
 
         Item item = itemService.addItem(name, price, stockQuantity, description, fileName);
@@ -79,19 +75,37 @@ public class ApiV1ItemController {
     }
 
     // 상품 전체 조회 - 페이징
+    // sortBy: id, name, price, stockQuantity, rating(평균 별점), reviewCount / minRating: 최소 평균 별점
+    @HttpCached(ItemCatalogCache.HTTP_CACHE_REGION)
     @GetMapping
     public RsData<Page<ItemDto>> getItems(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String direction
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) Double minRating
     ) {
-        Sort sort = direction.equalsIgnoreCase("desc")
-                ? Sort.by(sortBy).descending()
-                : Sort.by(sortBy).ascending();
+        Page<ItemDto> items = itemService.getItemPage(page, size, sortBy, direction, minRating);
 
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ItemDto> items = itemService.getItems(pageable).map(ItemDto::new);
+        return new RsData<>(
+                "200-1",
+                "상품 목록이 조회되었습니다.",
+                items
+        );
+    }
+
+    // 상품 전체 조회 - 커서 (OFFSET 없이 조회, 첫 페이지는 cursor 를 빈 값으로 요청)
+    // sortBy 는 인덱스가 있는 id, price, name 만 가능하며 withTotal=true 일 때만 전체 개수를 함께 반환
+    @HttpCached(ItemCatalogCache.HTTP_CACHE_REGION)
+    @GetMapping(params = "cursor")
+    public RsData<CursorPage<ItemDto>> getItemsByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        CursorPage<ItemDto> items = itemService.getItemsByCursor(cursor, size, sortBy, direction, withTotal);
 
         return new RsData<>(
                 "200-1",
@@ -100,18 +114,59 @@ public class ApiV1ItemController {
         );
     }
 
+    // 상품 검색 - 관련도 순 (keyword 필수, minPrice/maxPrice/minStock 는 선택)
+    @GetMapping("/search")
+    public RsData<Page<ItemDto>> searchItems(
+            @ModelAttribute ItemSearchCondition condition,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Page<ItemDto> items = itemService.searchItems(condition, page, size);
+
+        return new RsData<>(
+                "200-1",
+                "상품 검색 결과가 조회되었습니다.",
+                items
+        );
+    }
+
+    // 상품명 자동완성
+    @GetMapping("/search/suggest")
+    public RsData<List<String>> suggestItemNames(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return new RsData<>(
+                "200-1",
+                "자동완성 목록이 조회되었습니다.",
+                itemService.suggestItemNames(prefix, size)
+        );
+    }
+
     // 상품 단건 조회
+    @HttpCached(ItemCatalogCache.HTTP_CACHE_REGION)
     @GetMapping("/{id}")
     public RsData<ItemDto> getItem(@PathVariable long id) {
 
-        Item item = itemService.getItem(id).orElseThrow(
+        ItemDto item = itemService.getItemDto(id).orElseThrow(
                 () -> new ServiceException("404-1", "존재하지 않는 상품입니다.")
         );
 
         return new RsData<>(
                 "200-1",
                 "%s가 조회 되었습니다.".formatted(item.getName()),
-                new ItemDto(item)
+                item
+        );
+    }
+
+    // 관리자 - 상품 캐시 현황 (hit/miss/eviction)
+    @AdminOnly
+    @GetMapping("/cache-stats")
+    public RsData<Map<String, ItemCacheStatsDto>> getCacheStats() {
+        return new RsData<>(
+                "200-1",
+                "상품 캐시 현황이 조회되었습니다.",
+                itemService.getCacheStats()
         );
     }
 
@@ -162,19 +217,24 @@ public class ApiV1ItemController {
 
     }
 
-    // 해당 상품의 질문 목록 조회
+    // 해당 상품의 질문 목록 조회 (최신순 최대 100개, 이후는 커서 조회 사용)
     @GetMapping("/{id}/questions")
-    public RsData<List<QuestionDto>> getQuestions(@RequestParam Long itemId,
-                                                  @PathVariable("id") Long id) {
-        try {
-            // itemId에 해당하는 질문 목록 조회
-            List<QuestionDto> questions = questionService.getQuestionsByItemId(itemId).stream()
-                    .map(QuestionDto::new)
-                    .toList();
-            return new RsData<>("200-1", "질문 목록 조회가 완료되었습니다.", questions);
-        } catch (Exception e) {
-            return new RsData<>("500-1", "질문 목록을 불러오는 데 실패했습니다.");
-        }
+    public RsData<List<QuestionDto>> getQuestions(@PathVariable("id") Long id) {
+        List<QuestionDto> questions = questionService.getQuestionsByCursor(
+                QuestionSearchCondition.ofItem(id), null, MAX_QUESTION_PAGE_SIZE, "desc").getContent();
+        return new RsData<>("200-1", "질문 목록 조회가 완료되었습니다.", questions);
+    }
+
+    // 해당 상품의 질문 목록 조회 - 커서 (최신순, 첫 페이지는 cursor 를 빈 값으로 요청)
+    @GetMapping(value = "/{id}/questions", params = "cursor")
+    public RsData<CursorPage<QuestionDto>> getQuestionsByCursor(
+            @PathVariable("id") Long id,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<QuestionDto> questions = questionService.getQuestionsByCursor(
+                QuestionSearchCondition.ofItem(id), cursor, size, "desc");
+        return new RsData<>("200-1", "질문 목록 조회가 완료되었습니다.", questions);
     }
 
     // 재고 수량만 변경
@@ -198,10 +258,11 @@ public class ApiV1ItemController {
         );
     }
 
-    // 상품 상세 페이지 상품 id로 리뷰 조회
+    // 상품 상세 페이지 상품 id로 리뷰 조회 (최신순 최대 100개, 이후는 커서 조회 사용)
     @GetMapping("/{id}/reviews")
     public RsData<List<ReviewDetailNotImageDto>> getReviewsByItemId(@PathVariable Long id) {
-        List<ReviewDetailNotImageDto> reviews = reviewService.getReviewsByItemId(id);
+        List<ReviewDetailNotImageDto> reviews = reviewService.getReviewsByCursor(
+                ReviewSearchCondition.ofItem(id), null, MAX_REVIEW_PAGE_SIZE, "createDate", "desc").getContent();
         return new RsData<>(
                 "200-1",
                 "리뷰가 조회되었습니다",
@@ -209,11 +270,49 @@ public class ApiV1ItemController {
         );
     }
 
-    // 리뷰 전체 조회 - 관리자
+    // 상품 상세 페이지 리뷰 조회 - 커서 (sortBy: createDate, rating / 첫 페이지는 cursor 를 빈 값으로 요청)
+    @GetMapping(value = "/{id}/reviews", params = "cursor")
+    public RsData<CursorPage<ReviewDetailNotImageDto>> getReviewsByItemIdAndCursor(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction
+    ) {
+        CursorPage<ReviewDetailNotImageDto> reviews = reviewService.getReviewsByCursor(
+                ReviewSearchCondition.ofItem(id), cursor, size, sortBy, direction);
+        return new RsData<>(
+                "200-1",
+                "리뷰가 조회되었습니다",
+                reviews
+        );
+    }
+
+    // 리뷰 전체 조회 - 관리자 (최신순 최대 100개, 이후는 커서 조회 사용)
+    @AdminOnly
     @GetMapping("/reviews")
     public RsData<List<ReviewDetailNotImageDto>> getReviews() {
-        System.out.println("admin");
-        List<ReviewDetailNotImageDto> reviews = reviewService.getAllReviews();
+        List<ReviewDetailNotImageDto> reviews = reviewService.getReviewsByCursor(
+                new ReviewSearchCondition(), null, MAX_REVIEW_PAGE_SIZE, "createDate", "desc").getContent();
+        return new RsData<>(
+                "200-1",
+                "리뷰 목록 조회가 완료되었습니다.",
+                reviews
+        );
+    }
+
+    // 리뷰 전체 조회 - 관리자, 커서 (itemId, rating, hasPhoto, from, to 로 필터링)
+    @AdminOnly
+    @GetMapping(value = "/reviews", params = "cursor")
+    public RsData<CursorPage<ReviewDetailNotImageDto>> getReviewsByCursor(
+            @ModelAttribute ReviewSearchCondition condition,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction
+    ) {
+        CursorPage<ReviewDetailNotImageDto> reviews = reviewService.getReviewsByCursor(
+                condition, cursor, size, sortBy, direction);
         return new RsData<>(
                 "200-1",
                 "리뷰 목록 조회가 완료되었습니다.",
@@ -0,0 +1,29 @@
+package com.coffeebean.domain.item.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.Getter;
+
+@Getter
+public class ItemCacheStatsDto {
+
+    private final long size;
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final double hitRate;
+
+    public ItemCacheStatsDto(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        this.size = cache.estimatedSize();
+        this.hitCount = stats.hitCount();
+        this.missCount = stats.missCount();
+        this.evictionCount = stats.evictionCount();
+        this.hitRate = stats.hitRate();
+    }
+}
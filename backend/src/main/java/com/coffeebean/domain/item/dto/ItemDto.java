@@ -1,6 +1,8 @@
 package com.coffeebean.domain.item.dto;
 
 import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.review.stats.entity.ItemReviewStats;
+import com.coffeebean.global.file.ImageVariant;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -20,6 +22,16 @@ public class ItemDto {
 
     private String imageUrl;
 
+    private String thumbnailUrl; // 목록용 리사이즈 이미지
+
+    private String mediumUrl; // 상세용 리사이즈 이미지
+
+    private long reviewCount; // 리뷰 수
+
+    private double averageRating; // 평균 별점
+
+    private long[] starCounts = new long[5]; // 1점 ~ 5점 리뷰 수
+
     public ItemDto(Item item) {
         this.id = item.getId();
         this.name = item.getName();
@@ -27,5 +39,36 @@ public class ItemDto {
         this.stockQuantity = item.getStockQuantity();
         this.description = item.getDescription();
         this.imageUrl = item.getImageUrl();
+        this.thumbnailUrl = ImageVariant.THUMBNAIL.url(imageUrl);
+        this.mediumUrl = ImageVariant.MEDIUM.url(imageUrl);
+    }
+
+    // 리뷰 통계 포함 (통계 행이 없으면 리뷰 0건)
+    public ItemDto(Item item, ItemReviewStats reviewStats) {
+        this(item);
+        if (reviewStats != null) {
+            this.reviewCount = reviewStats.getReviewCount();
+            this.averageRating = reviewStats.getAverageRating();
+            this.starCounts = reviewStats.getStarCounts();
+        }
+    }
+
+    private ItemDto(ItemDto source, int stockQuantity) {
+        this.id = source.id;
+        this.name = source.name;
+        this.price = source.price;
+        this.stockQuantity = stockQuantity;
+        this.description = source.description;
+        this.imageUrl = source.imageUrl;
+        this.thumbnailUrl = source.thumbnailUrl;
+        this.mediumUrl = source.mediumUrl;
+        this.reviewCount = source.reviewCount;
+        this.averageRating = source.averageRating;
+        this.starCounts = source.starCounts;
+    }
+
+    // 캐시된 상품 정보에 최신 재고만 반영한 복사본
+    public ItemDto withStockQuantity(int stockQuantity) {
+        return new ItemDto(this, stockQuantity);
     }
 }
@@ -0,0 +1,13 @@
+package com.coffeebean.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemStockDto {
+
+    private Long id;
+
+    private int stockQuantity;
+}
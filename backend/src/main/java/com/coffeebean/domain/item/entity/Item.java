@@ -1,15 +1,13 @@
 package com.coffeebean.domain.item.entity;
 
-import java.net.URI;
-
-import com.coffeebean.global.exception.ServiceException;
-
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +21,11 @@ import lombok.Setter;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+	// 커서 기반 목록 조회 (정렬 키, id) keyset 용
+	@Index(name = "idx_item_price_id", columnList = "price, item_id"),
+	@Index(name = "idx_item_name_id", columnList = "name, item_id")
+})
 public class Item {
 
 	@Id
@@ -41,11 +44,4 @@ public class Item {
 	@Lob
 	@Column(columnDefinition = "TEXT")
 	private String description;    // 상품 설명
-
-	public void reduceStock(int count) {
-		if (stockQuantity < count) {
-			throw new ServiceException("400-3", "재고가 충분하지 않습니다. 상품 수량을 확인하세요.");
-		}
-		stockQuantity -= count;
-	}
 }
@@ -1,7 +1,36 @@
 package com.coffeebean.domain.item.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.dto.ItemStockDto;
 import com.coffeebean.domain.item.entity.Item;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
+
+	long countByIdIn(Collection<Long> ids);
+
+	// 재고만 조회 (캐시된 상품 정보에 최신 재고를 덧씌울 때 사용)
+	@Query("select new com.coffeebean.domain.item.dto.ItemStockDto(i.id, i.stockQuantity) from Item i where i.id in :ids")
+	List<ItemStockDto> findStocksByIdIn(@Param("ids") Collection<Long> ids);
+
+	// 리뷰 통계를 포함한 단건 조회
+	@Query("select new com.coffeebean.domain.item.dto.ItemDto(i, s) from Item i "
+		+ "left join ItemReviewStats s on s.itemId = i.id where i.id = :id")
+	Optional<ItemDto> findDtoById(@Param("id") Long id);
+
+	// 리뷰 통계를 포함한 여러 건 조회 (검색 결과 페이지)
+	@Query("select new com.coffeebean.domain.item.dto.ItemDto(i, s) from Item i "
+		+ "left join ItemReviewStats s on s.itemId = i.id where i.id in :ids")
+	List<ItemDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
-}
\ No newline at end of file
+	// 상품 전체를 id 순서로 나눠 처리할 때 사용
+	@Query("select i.id from Item i where i.id > :lastId order by i.id")
+	List<Long> findIdsAfter(@Param("lastId") long lastId, Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package com.coffeebean.domain.item.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.entity.Item;
+
+public interface ItemRepositoryCustom {
+
+	/**
+	 * 주문 상품들의 재고를 하나의 UPDATE 문으로 차감한다.
+	 * 재고가 주문 수량 이상인 상품만 차감되므로, 반환값(차감된 상품 수)이 주문 상품 수보다 작으면 재고 부족이다.
+	 *
+	 * @param items key: 상품 id, value: 주문 수량
+	 * @return 재고가 차감된 상품 수
+	 */
+	int decreaseStocks(Map<Long, Integer> items);
+
+	/**
+	 * (정렬 키, id) 기준 keyset 조회. OFFSET 없이 마지막으로 조회한 위치 이후의 상품을 가져온다.
+	 *
+	 * @param sortBy    정렬 기준 (id, price, name)
+	 * @param desc      내림차순 여부
+	 * @param lastValue 마지막으로 조회한 상품의 정렬 키 값 (첫 페이지는 null)
+	 * @param lastId    마지막으로 조회한 상품 id (첫 페이지는 null)
+	 * @param limit     조회할 최대 개수
+	 */
+	List<Item> findAllAfter(String sortBy, boolean desc, Object lastValue, Long lastId, int limit);
+
+	/**
+	 * 리뷰 통계를 포함한 상품 목록 페이징 조회. 리뷰 테이블은 읽지 않는다.
+	 *
+	 * @param minRating 최소 평균 별점 (null 이면 조건 없음)
+	 * @param sortBy    정렬 기준 (id, name, price, stockQuantity, rating, reviewCount)
+	 * @param desc      내림차순 여부
+	 */
+	Page<ItemDto> findPageWithReviewStats(Double minRating, String sortBy, boolean desc, Pageable pageable);
+}
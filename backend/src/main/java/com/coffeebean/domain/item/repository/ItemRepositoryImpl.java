@@ -0,0 +1,134 @@
+package com.coffeebean.domain.item.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.entity.Item;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+	// 정렬 컬럼명이 JPQL 에 그대로 들어가므로 인덱스가 있는 컬럼만 허용
+	public static final Set<String> KEYSET_SORT_KEYS = Set.of("id", "price", "name");
+
+	// 페이지 목록 정렬 기준 -> 정렬 식 (리뷰 통계가 없는 상품은 0 으로 취급)
+	public static final Map<String, String> PAGE_SORT_KEYS = Map.of(
+		"id", "i.id",
+		"name", "i.name",
+		"price", "i.price",
+		"stockQuantity", "i.stockQuantity",
+		"rating", "coalesce(s.averageRating, 0.0)",
+		"reviewCount", "coalesce(s.reviewCount, 0L)"
+	);
+
+	private final EntityManager em;
+
+	@Override
+	public int decreaseStocks(Map<Long, Integer> items) {
+		if (items.isEmpty()) {
+			return 0;
+		}
+
+		// 상품 id 순서로 정렬해 동시 주문 간 락 획득 순서를 고정
+		Map<Long, Integer> sorted = new TreeMap<>(items);
+
+		// update item set stock_quantity = stock_quantity - (case item_id when ? then ? ... end)
+		// where item_id in (...) and stock_quantity >= (case item_id when ? then ? ... end)
+		StringBuilder countCase = new StringBuilder("case i.id");
+		for (int i = 0; i < sorted.size(); i++) {
+			countCase.append(" when :id").append(i).append(" then :count").append(i);
+		}
+		countCase.append(" else 0 end");
+
+		String jpql = "update Item i"
+			+ " set i.stockQuantity = i.stockQuantity - (" + countCase + ")"
+			+ " where i.id in :ids"
+			+ " and i.stockQuantity >= (" + countCase + ")";
+
+		Query query = em.createQuery(jpql);
+		List<Long> ids = new ArrayList<>(sorted.keySet());
+		int index = 0;
+		for (Map.Entry<Long, Integer> entry : sorted.entrySet()) {
+			query.setParameter("id" + index, entry.getKey());
+			query.setParameter("count" + index, entry.getValue());
+			index++;
+		}
+		query.setParameter("ids", ids);
+
+		return query.executeUpdate();
+	}
+
+	@Override
+	public List<Item> findAllAfter(String sortBy, boolean desc, Object lastValue, Long lastId, int limit) {
+		if (!KEYSET_SORT_KEYS.contains(sortBy)) {
+			throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortBy);
+		}
+
+		String op = desc ? "<" : ">";
+		String order = desc ? " desc" : " asc";
+
+		StringBuilder jpql = new StringBuilder("select i from Item i");
+		if (lastId != null) {
+			if (sortBy.equals("id")) {
+				jpql.append(" where i.id ").append(op).append(" :lastId");
+			} else {
+				// (sortKey, id) > (:lastValue, :lastId)
+				jpql.append(" where i.").append(sortBy).append(" ").append(op).append(" :lastValue")
+					.append(" or (i.").append(sortBy).append(" = :lastValue and i.id ").append(op).append(" :lastId)");
+			}
+		}
+		if (!sortBy.equals("id")) {
+			jpql.append(" order by i.").append(sortBy).append(order).append(", i.id").append(order);
+		} else {
+			jpql.append(" order by i.id").append(order);
+		}
+
+		TypedQuery<Item> query = em.createQuery(jpql.toString(), Item.class)
+			.setMaxResults(limit);
+		if (lastId != null) {
+			query.setParameter("lastId", lastId);
+			if (!sortBy.equals("id")) {
+				query.setParameter("lastValue", lastValue);
+			}
+		}
+		return query.getResultList();
+	}
+
+	@Override
+	public Page<ItemDto> findPageWithReviewStats(Double minRating, String sortBy, boolean desc, Pageable pageable) {
+		String sortExpression = PAGE_SORT_KEYS.get(sortBy);
+		if (sortExpression == null) {
+			throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortBy);
+		}
+
+		String from = " from Item i left join ItemReviewStats s on s.itemId = i.id"
+			+ (minRating != null ? " where coalesce(s.averageRating, 0.0) >= :minRating" : "");
+		String order = desc ? " desc" : " asc";
+
+		TypedQuery<ItemDto> query = em.createQuery(
+				"select new com.coffeebean.domain.item.dto.ItemDto(i, s)" + from
+					+ " order by " + sortExpression + order + ", i.id" + order, ItemDto.class)
+			.setFirstResult((int)pageable.getOffset())
+			.setMaxResults(pageable.getPageSize());
+		TypedQuery<Long> countQuery = em.createQuery("select count(i)" + from, Long.class);
+		if (minRating != null) {
+			query.setParameter("minRating", minRating);
+			countQuery.setParameter("minRating", minRating);
+		}
+
+		return new PageImpl<>(query.getResultList(), pageable, countQuery.getSingleResult());
+	}
+}
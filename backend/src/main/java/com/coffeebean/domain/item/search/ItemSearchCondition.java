@@ -0,0 +1,22 @@
+package com.coffeebean.domain.item.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 상품 검색 조건 (null 인 조건은 적용하지 않음)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSearchCondition {
+
+	private String keyword; // 검색어 (상품명, 설명)
+
+	private Integer minPrice;
+
+	private Integer maxPrice;
+
+	private Integer minStock; // 최소 재고 (1 이면 품절 상품 제외)
+}
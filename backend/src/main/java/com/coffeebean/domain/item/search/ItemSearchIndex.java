@@ -0,0 +1,335 @@
+package com.coffeebean.domain.item.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색용 메모리 역색인.
+ * 상품명/설명을 어절 단위 1-gram, 2-gram 으로 나눠 색인하므로 형태소 분석 없이 한글 부분 검색이 된다.
+ * 시작 시 전체를 색인하고, 이후에는 ItemService 의 상품 추가/수정/삭제가 커밋된 뒤 반영한다.
+ * 재고는 자주 바뀌므로 색인하지 않는다. (재고 조건은 ItemService 에서 최신 재고로 거른다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+
+	private static final double NAME_WEIGHT = 3.0;   // 상품명에서 일치하면 설명보다 가중치를 높게
+	private static final double NAME_PHRASE_BOOST = 2.0; // 검색어 전체가 상품명에 그대로 포함된 경우
+	private static final double K1 = 1.2;
+	private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+
+	private final ItemRepository itemRepository;
+
+	@Value("${item.search.rebuild-chunk-size:500}")
+	private int rebuildChunkSize;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Long, Document> documents = new HashMap<>();
+	// gram -> (상품 id -> 출현 빈도)
+	private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+	// 자동완성: 상품명 전체와 상품명 중간 어절부터 시작하는 문자열 -> 상품 id
+	private final NavigableMap<String, Set<Long>> suggestions = new TreeMap<>();
+
+	private record Document(long id, String name, String normalizedName, int price, Map<String, Posting> grams,
+							List<String> suggestTerms) {
+	}
+
+	private record Posting(int nameFrequency, int descriptionFrequency) {
+	}
+
+	// 전체 재색인 (DB 조회는 잠금 밖에서, 교체만 쓰기 잠금 안에서)
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		List<Document> rebuilt = new ArrayList<>();
+		Long lastId = 0L;
+		while (true) {
+			List<Item> items = itemRepository.findAllAfter("id", false, lastId, lastId, rebuildChunkSize);
+			items.forEach(item -> rebuilt.add(document(item)));
+			if (items.size() < rebuildChunkSize) {
+				break;
+			}
+			lastId = items.getLast().getId();
+		}
+
+		lock.writeLock().lock();
+		try {
+			documents.clear();
+			postings.clear();
+			suggestions.clear();
+			rebuilt.forEach(this::add);
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("상품 검색 색인 완료: {}개", rebuilt.size());
+	}
+
+	// 상품 추가/수정 - 호출 시점의 값으로 커밋 후 반영
+	public void index(Item item) {
+		Document document = document(item);
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				remove(document.id());
+				add(document);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	// 상품 삭제 - 커밋 후 반영
+	public void delete(long itemId) {
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				remove(itemId);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	/**
+	 * 검색어의 gram 을 모두 포함하는 상품 id 를 관련도 순으로 반환한다.
+	 * 점수는 gram 별 idf * (상품명 가중치 * tf 포화값 + 설명 tf 포화값) 의 합 (BM25 에서 문서 길이 보정을 뺀 형태)
+	 */
+	public List<Long> search(String keyword, Integer minPrice, Integer maxPrice) {
+		String query = normalize(keyword);
+		Set<String> grams = queryGrams(query);
+		if (grams.isEmpty()) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			List<Map<Long, Posting>> lists = new ArrayList<>();
+			for (String gram : grams) {
+				Map<Long, Posting> list = postings.get(gram);
+				if (list == null) {
+					return List.of();
+				}
+				lists.add(list);
+			}
+			// 가장 짧은 목록을 기준으로 교집합
+			lists.sort(Comparator.comparingInt(Map::size));
+
+			int total = documents.size();
+			Map<Long, Double> scores = new HashMap<>();
+			candidates:
+			for (Long id : lists.getFirst().keySet()) {
+				Document document = documents.get(id);
+				if ((minPrice != null && document.price() < minPrice)
+					|| (maxPrice != null && document.price() > maxPrice)) {
+					continue;
+				}
+
+				double score = 0;
+				for (Map<Long, Posting> list : lists) {
+					Posting posting = list.get(id);
+					if (posting == null) {
+						continue candidates;
+					}
+					double idf = Math.log(1 + (total - list.size() + 0.5) / (list.size() + 0.5));
+					score += idf * (NAME_WEIGHT * saturate(posting.nameFrequency())
+						+ saturate(posting.descriptionFrequency()));
+				}
+				if (document.normalizedName().contains(query)) {
+					score *= NAME_PHRASE_BOOST;
+				}
+				scores.put(id, score);
+			}
+
+			return scores.entrySet().stream()
+				.sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+				.map(Map.Entry::getKey)
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 상품명 자동완성 (상품명 또는 상품명 중간 어절이 prefix 로 시작하는 상품명)
+	public List<String> suggest(String prefix, int limit) {
+		String normalized = normalize(prefix);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			Set<String> names = new LinkedHashSet<>();
+			for (Set<Long> ids : suggestions.subMap(normalized, true, normalized + Character.MAX_VALUE, false)
+				.values()) {
+				for (Long id : ids) {
+					names.add(documents.get(id).name());
+					if (names.size() >= limit) {
+						return List.copyOf(names);
+					}
+				}
+			}
+			return List.copyOf(names);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void add(Document document) {
+		documents.put(document.id(), document);
+		document.grams().forEach((gram, posting) ->
+			postings.computeIfAbsent(gram, key -> new HashMap<>()).put(document.id(), posting));
+		for (String term : document.suggestTerms()) {
+			suggestions.computeIfAbsent(term, key -> new TreeSet<>()).add(document.id());
+		}
+	}
+
+	private void remove(long itemId) {
+		Document document = documents.remove(itemId);
+		if (document == null) {
+			return;
+		}
+		for (String gram : document.grams().keySet()) {
+			Map<Long, Posting> list = postings.get(gram);
+			list.remove(itemId);
+			if (list.isEmpty()) {
+				postings.remove(gram);
+			}
+		}
+		for (String term : document.suggestTerms()) {
+			Set<Long> ids = suggestions.get(term);
+			ids.remove(itemId);
+			if (ids.isEmpty()) {
+				suggestions.remove(term);
+			}
+		}
+	}
+
+	// 커밋 전에 반영하면 롤백된 변경이 검색될 수 있으므로 커밋 이후에 반영
+	private void afterCommit(Runnable update) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+		});
+	}
+
+	private Document document(Item item) {
+		String normalizedName = normalize(item.getName());
+		Map<String, Integer> nameGrams = indexGrams(normalizedName);
+		// 설명의 <br> 등 태그는 색인하지 않는다
+		String description = item.getDescription() == null
+			? null
+			: HTML_TAG.matcher(item.getDescription()).replaceAll(" ");
+		Map<String, Integer> descriptionGrams = indexGrams(normalize(description));
+		Map<String, Posting> grams = new HashMap<>();
+		nameGrams.forEach((gram, frequency) -> grams.put(gram, new Posting(frequency, 0)));
+		descriptionGrams.forEach((gram, frequency) -> grams.merge(gram, new Posting(0, frequency),
+			(name, description) -> new Posting(name.nameFrequency(), description.descriptionFrequency())));
+
+		Set<String> suggestTerms = new LinkedHashSet<>();
+		if (!normalizedName.isEmpty()) {
+			suggestTerms.add(normalizedName);
+			for (int i = normalizedName.indexOf(' '); i >= 0; i = normalizedName.indexOf(' ', i + 1)) {
+				suggestTerms.add(normalizedName.substring(i + 1));
+			}
+		}
+		return new Document(item.getId(), item.getName(), normalizedName, item.getPrice(), grams,
+			List.copyOf(suggestTerms));
+	}
+
+	private static double saturate(int frequency) {
+		return frequency * (K1 + 1) / (frequency + K1);
+	}
+
+	// NFKC 정규화 + 소문자, 문자/숫자 외에는 공백으로
+	static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		StringBuilder builder = new StringBuilder(normalized.length());
+		normalized.codePoints().forEach(codePoint -> {
+			if (Character.isLetterOrDigit(codePoint)) {
+				builder.appendCodePoint(codePoint);
+			} else if (!builder.isEmpty() && builder.charAt(builder.length() - 1) != ' ') {
+				builder.append(' ');
+			}
+		});
+		return builder.toString().strip();
+	}
+
+	// 색인: 어절별 1-gram 과 2-gram (한 글자 검색어도 찾을 수 있도록)
+	static Map<String, Integer> indexGrams(String normalized) {
+		Map<String, Integer> grams = new LinkedHashMap<>();
+		for (String word : words(normalized)) {
+			int[] codePoints = word.codePoints().toArray();
+			for (int i = 0; i < codePoints.length; i++) {
+				grams.merge(new String(codePoints, i, 1), 1, Integer::sum);
+				if (i + 1 < codePoints.length) {
+					grams.merge(new String(codePoints, i, 2), 1, Integer::sum);
+				}
+			}
+		}
+		return grams;
+	}
+
+	// 검색어: 어절별 2-gram (한 글자 어절은 1-gram)
+	static Set<String> queryGrams(String normalized) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (String word : words(normalized)) {
+			int[] codePoints = word.codePoints().toArray();
+			if (codePoints.length == 1) {
+				grams.add(word);
+			}
+			for (int i = 0; i + 1 < codePoints.length; i++) {
+				grams.add(new String(codePoints, i, 2));
+			}
+		}
+		return grams;
+	}
+
+	private static List<String> words(String normalized) {
+		return normalized.isEmpty() ? List.of() : List.of(normalized.split(" "));
+	}
+}
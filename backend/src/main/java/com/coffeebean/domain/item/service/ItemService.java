@@ -1,17 +1,34 @@
 package com.coffeebean.domain.item.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.coffeebean.domain.item.cache.ItemCatalogCache;
+import com.coffeebean.domain.item.dto.ItemCacheStatsDto;
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.dto.ItemStockDto;
 import com.coffeebean.domain.item.entity.Item;
 import com.coffeebean.domain.item.repository.ItemRepository;
-import com.coffeebean.global.exception.DataNotFoundException;
+import com.coffeebean.domain.item.repository.ItemRepositoryImpl;
+import com.coffeebean.domain.item.search.ItemSearchCondition;
+import com.coffeebean.domain.item.search.ItemSearchIndex;
+import com.coffeebean.domain.review.stats.entity.ItemReviewStats;
+import com.coffeebean.domain.review.stats.repository.ItemReviewStatsRepository;
+import com.coffeebean.domain.review.stats.service.ItemReviewStatsService;
+import com.coffeebean.global.dto.CursorPage;
+import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.util.CursorUtil;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,11 +37,15 @@ import lombok.RequiredArgsConstructor;
 public class ItemService {
 
 	private final ItemRepository itemRepository;
+	private final ItemCatalogCache itemCatalogCache;
+	private final ItemReviewStatsService itemReviewStatsService;
+	private final ItemReviewStatsRepository itemReviewStatsRepository;
+	private final ItemSearchIndex itemSearchIndex;
 
 	// 상품 추가 로직
 	public Item addItem(String name, int price, int stockQuantity, String description, String fileName) {
 
-		return itemRepository.save(
+		Item item = itemRepository.save(
 			Item.builder()
 				.name(name)
 				.price(price)
@@ -33,6 +54,11 @@ public class ItemService {
 				.imageUrl("http://localhost:8080/" + fileName)
 				.build()
 		);
+
+		itemReviewStatsService.create(item.getId());
+		itemCatalogCache.evictPages();
+		itemSearchIndex.index(item);
+		return item;
 	}
 
 	// 전체 조회
@@ -45,14 +71,130 @@ public class ItemService {
 		return itemRepository.findAll(pageable);
 	}
 
+	// 페이징 (캐시) - 재고는 최신 값으로 반영
+	public Page<ItemDto> getItemPage(int page, int size, String sortBy, String direction) {
+		return getItemPage(page, size, sortBy, direction, null);
+	}
+
+	// 페이징 (캐시) - 리뷰 통계 포함, 평점(rating)/리뷰 수(reviewCount) 정렬과 최소 평점 필터 지원
+	public Page<ItemDto> getItemPage(int page, int size, String sortBy, String direction, Double minRating) {
+		if (!ItemRepositoryImpl.PAGE_SORT_KEYS.containsKey(sortBy)) {
+			throw new ServiceException("400-1", "지원하지 않는 정렬 기준입니다.");
+		}
+
+		Page<ItemDto> items = itemCatalogCache.getPage(page, size, sortBy, direction, minRating,
+			() -> itemRepository.findPageWithReviewStats(minRating, sortBy, direction.equalsIgnoreCase("desc"),
+				PageRequest.of(page, size)));
+
+		return itemCatalogCache.withLatestStocks(items, this::loadStocks);
+	}
+
+	// 커서 기반 조회 - OFFSET 없이 (정렬 키, id) 이후의 상품을 조회
+	public CursorPage<ItemDto> getItemsByCursor(String cursor, int size, String sortBy, String direction,
+		boolean withTotal) {
+		if (!ItemRepositoryImpl.KEYSET_SORT_KEYS.contains(sortBy)) {
+			throw new ServiceException("400-1", "정렬 기준은 id, price, name 중 하나여야 합니다.");
+		}
+
+		String normalizedDirection = direction.equalsIgnoreCase("desc") ? "desc" : "asc";
+		int limit = Math.clamp(size, 1, 100);
+
+		Object lastValue = null;
+		Long lastId = null;
+		if (cursor != null && !cursor.isBlank()) {
+			// 커서 = (정렬 기준, 방향, 마지막 정렬 키 값, 마지막 id)
+			String[] values = CursorUtil.decode(cursor, 4);
+			if (!values[0].equals(sortBy) || !values[1].equals(normalizedDirection)) {
+				throw new ServiceException("400-7", "잘못된 커서입니다.");
+			}
+			try {
+				lastId = Long.parseLong(values[3]);
+				lastValue = switch (sortBy) {
+					case "price" -> Integer.parseInt(values[2]);
+					case "name" -> values[2];
+					default -> lastId;
+				};
+			} catch (NumberFormatException e) {
+				throw new ServiceException("400-7", "잘못된 커서입니다.");
+			}
+		}
+
+		List<Item> items = itemRepository.findAllAfter(sortBy, normalizedDirection.equals("desc"), lastValue,
+			lastId, limit + 1);
+		Map<Long, ItemReviewStats> reviewStats = itemReviewStatsRepository.findAllById(
+				items.stream().map(Item::getId).toList()).stream()
+			.collect(Collectors.toMap(ItemReviewStats::getItemId, Function.identity()));
+		List<ItemDto> fetched = items.stream()
+			.map(item -> new ItemDto(item, reviewStats.get(item.getId())))
+			.toList();
+
+		return CursorPage.of(
+			fetched,
+			limit,
+			item -> CursorUtil.encode(sortBy, normalizedDirection, sortValue(item, sortBy), item.getId()),
+			withTotal ? itemRepository.count() : null
+		);
+	}
+
+	private Object sortValue(ItemDto item, String sortBy) {
+		return switch (sortBy) {
+			case "price" -> item.getPrice();
+			case "name" -> item.getName();
+			default -> item.getId();
+		};
+	}
+
+	// 검색 - 관련도 순 (가격 조건은 색인에서, 재고 조건은 최신 재고로 거른다)
+	public Page<ItemDto> searchItems(ItemSearchCondition condition, int page, int size) {
+		if (condition.getKeyword() == null || condition.getKeyword().isBlank()) {
+			throw new ServiceException("400-1", "검색어를 입력하세요.");
+		}
+
+		List<Long> ids = itemSearchIndex.search(condition.getKeyword(), condition.getMinPrice(),
+			condition.getMaxPrice());
+		if (condition.getMinStock() != null && !ids.isEmpty()) {
+			Map<Long, Integer> stocks = itemCatalogCache.getStocks(ids, this::loadStocks);
+			ids = ids.stream().filter(id -> stocks.getOrDefault(id, 0) >= condition.getMinStock()).toList();
+		}
+
+		PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, 100));
+		int from = (int)Math.min(pageable.getOffset(), ids.size());
+		List<Long> pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+
+		Map<Long, ItemDto> items = pageIds.isEmpty() ? Map.of() : itemRepository.findDtosByIdIn(pageIds).stream()
+			.collect(Collectors.toMap(ItemDto::getId, Function.identity()));
+		List<ItemDto> content = pageIds.stream().map(items::get).filter(Objects::nonNull).toList();
+
+		return itemCatalogCache.withLatestStocks(new PageImpl<>(content, pageable, ids.size()), this::loadStocks);
+	}
+
+	// 상품명 자동완성
+	public List<String> suggestItemNames(String prefix, int size) {
+		return itemSearchIndex.suggest(prefix, Math.clamp(size, 1, 20));
+	}
+
 	// 단건 조회
 	public Optional<Item> getItem(long id) {
 		return itemRepository.findById(id);
 	}
 
+	// 단건 조회 (캐시) - 재고는 최신 값으로 반영
+	public Optional<ItemDto> getItemDto(long id) {
+		return itemCatalogCache.getItem(id, key -> itemRepository.findDtoById(key).orElse(null))
+			.map(item -> item.withStockQuantity(itemCatalogCache.getStock(id, this::loadStocks)));
+	}
+
+	private Map<Long, Integer> loadStocks(Collection<Long> ids) {
+		return itemRepository.findStocksByIdIn(ids).stream()
+			.collect(Collectors.toMap(ItemStockDto::getId, ItemStockDto::getStockQuantity));
+	}
+
 	// 상품 삭제
 	public void deleteItem(Item item) {
 		itemRepository.delete(item);
+		itemReviewStatsService.delete(item.getId());
+		itemCatalogCache.evictItem(item.getId());
+		itemSearchIndex.delete(item.getId());
 	}
 
 	// test를 위한 count
@@ -65,26 +207,19 @@ public class ItemService {
 		item.setPrice(price);
 		item.setStockQuantity(stockQuantity);
 		item.setDescription(description);
+		itemCatalogCache.evictItem(item.getId());
+		itemSearchIndex.index(item);
 		return item;
 	}
 
 	public void updateStockQuantity(Item item, int newStockQuntity) {
 		item.setStockQuantity(newStockQuntity);
 		itemRepository.save(item);
+		// 관리자가 재고를 바꾼 경우는 드물므로 상품 조회 응답 캐시까지 무효화
+		itemCatalogCache.evictItem(item.getId());
 	}
 
-	@Transactional(readOnly = true)
-	public boolean isStockSufficient(Map<Long, Integer> items) {
-		for (Long itemId : items.keySet()) {
-			int count = items.get(itemId);
-			int quantity = itemRepository.findById(itemId)
-				.orElseThrow(() -> new DataNotFoundException("존재하지 않는 상품이 포함되었습니다."))
-				.getStockQuantity();
-
-			if (quantity < count) {
-				return false;
-			}
-		}
-		return true;
+	public Map<String, ItemCacheStatsDto> getCacheStats() {
+		return itemCatalogCache.getStats();
 	}
 }
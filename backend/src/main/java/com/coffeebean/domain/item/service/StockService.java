@@ -0,0 +1,57 @@
+package com.coffeebean.domain.item.service;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.cache.ItemCatalogCache;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.global.exception.DataNotFoundException;
+import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.metrics.CheckoutMetrics;
+
+import io.micrometer.core.annotation.Timed;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class StockService {
+
+	private final ItemRepository itemRepository;
+	private final ItemCatalogCache itemCatalogCache;
+	private final CheckoutMetrics checkoutMetrics;
+
+	/**
+	 * 주문 상품들의 재고를 한 번에 차감(예약)한다.
+	 * 재고 확인과 차감이 하나의 조건부 UPDATE 로 처리되므로 동시 주문에도 초과 판매가 발생하지 않는다.
+	 * 하나라도 차감되지 않으면 예외를 던져 호출한 트랜잭션(주문 전체)을 롤백시킨다.
+	 *
+	 * @param items key: 상품 id, value: 주문 수량
+	 */
+	@Transactional
+	@Timed("coffeebean.stock.reserve")
+	public void reserve(Map<Long, Integer> items) {
+		if (items.isEmpty()) {
+			throw new ServiceException("400-4", "주문에 상품이 추가되지 않았습니다. 먼저 상품을 추가하세요.");
+		}
+
+		if (items.values().stream().anyMatch(count -> count == null || count < 1)) {
+			throw new ServiceException("400-6", "수량은 1개 이상입니다.");
+		}
+
+		int updated = itemRepository.decreaseStocks(items);
+		if (updated == items.size()) {
+			itemCatalogCache.evictStocks(items.keySet());
+			return;
+		}
+
+		// 차감된 상품 수가 부족하면 원인 확인 (상품 없음 / 재고 부족)
+		if (itemRepository.countByIdIn(items.keySet()) < items.size()) {
+			throw new DataNotFoundException("주문하려는 상품이 존재하지 않습니다.");
+		}
+		checkoutMetrics.stockRejected();
+		throw new ServiceException("400-3", "재고가 충분하지 않습니다. 상품 수량을 확인하세요.");
+	}
+}
@@ -0,0 +1,8 @@
+package com.coffeebean.domain.mail.outbox;
+
+public enum MailStatus {
+	PENDING,	// 발송 대기 (재시도 대기 포함)
+	SENDING,	// 워커가 가져가서 발송 중
+	SENT,		// 발송 완료
+	DEAD		// 최대 재시도 횟수 초과로 발송 포기
+}
@@ -0,0 +1,31 @@
+package com.coffeebean.domain.mail.outbox.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coffeebean.domain.mail.outbox.dto.MailOutboxStats;
+import com.coffeebean.domain.mail.outbox.service.MailOutboxWorker;
+import com.coffeebean.global.dto.RsData;
+import com.coffeebean.global.security.annotations.AdminOnly;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/mail-outbox")
+public class ApiV1MailOutboxController {
+
+	private final MailOutboxWorker mailOutboxWorker;
+
+	// 관리자 - 메일 발송 대기열 현황
+	@AdminOnly
+	@GetMapping("/stats")
+	public RsData<MailOutboxStats> getStats() {
+		return new RsData<>(
+			"200-1",
+			"메일 발송 현황 조회가 완료되었습니다.",
+			mailOutboxWorker.getStats()
+		);
+	}
+}
@@ -0,0 +1,16 @@
+package com.coffeebean.domain.mail.outbox.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MailOutboxStats {
+
+	private long pending;	// 발송 대기 (queue depth)
+	private long sending;	// 발송 중
+	private long dead;	// 발송 포기
+	private long totalSent;	// 워커 기동 이후 발송 성공 수
+	private long totalFailed;	// 워커 기동 이후 발송 실패 수 (재시도 포함)
+	private double lastThroughput;	// 마지막 처리 구간의 초당 발송 수
+}
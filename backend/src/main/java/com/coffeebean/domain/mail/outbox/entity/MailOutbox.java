@@ -0,0 +1,84 @@
+package com.coffeebean.domain.mail.outbox.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.coffeebean.domain.mail.outbox.MailStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 발송할 메일을 상태 변경과 같은 트랜잭션에서 저장해 두는 아웃박스 테이블.
+ * 커밋 이후 MailOutboxWorker 가 읽어서 비동기로 발송한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "mail_outbox", indexes = {
+	@Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+	@Index(name = "idx_mail_outbox_claim_token", columnList = "claim_token")
+})
+public class MailOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_outbox_seq_generator")
+	@SequenceGenerator(name = "mail_outbox_seq_generator", sequenceName = "mail_outbox_seq", allocationSize = 50)
+	@Column(name = "mail_outbox_id")
+	private Long id;
+
+	@Column(nullable = false)
+	private String recipient;	// 수신자 이메일
+
+	@Column(nullable = false)
+	private String subject;	// 메일 제목
+
+	@Lob
+	@Column(columnDefinition = "TEXT")
+	private String content;	// 메일 본문
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	@Builder.Default
+	private MailStatus status = MailStatus.PENDING;
+
+	private int attempts;	// 발송 시도 횟수
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;	// 다음 발송 가능 시각 (재시도 backoff)
+
+	@Column(name = "claim_token", length = 36)
+	private String claimToken;	// 발송 중인 워커 식별 토큰
+
+	private LocalDateTime claimedAt;
+
+	private LocalDateTime sentAt;
+
+	@Column(length = 500)
+	private String lastError;
+
+	@CreatedDate
+	@Setter(AccessLevel.PRIVATE)
+	private LocalDateTime createDate;
+}
@@ -0,0 +1,59 @@
+package com.coffeebean.domain.mail.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.mail.outbox.MailStatus;
+import com.coffeebean.domain.mail.outbox.entity.MailOutbox;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+	// 발송 가능한 메일 id 조회
+	@Query("select m.id from MailOutbox m where m.status = :status and m.nextAttemptAt <= :now order by m.id")
+	List<Long> findIdsReadyToSend(@Param("status") MailStatus status, @Param("now") LocalDateTime now,
+		Pageable pageable);
+
+	// PENDING 인 메일만 가져가므로 여러 워커가 같은 메일을 중복 발송하지 않는다
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update MailOutbox m set m.status = com.coffeebean.domain.mail.outbox.MailStatus.SENDING,"
+		+ " m.claimToken = :token, m.claimedAt = :now"
+		+ " where m.id in :ids and m.status = com.coffeebean.domain.mail.outbox.MailStatus.PENDING")
+	int claim(@Param("ids") List<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+	List<MailOutbox> findByClaimToken(String claimToken);
+
+	// 가져갈 때 받은 토큰이 그대로인 경우만 변경하므로 releaseStale 이후 다른 워커가 다시 가져간 메일은 덮어쓰지 않는다
+	@Transactional
+	@Modifying
+	@Query("update MailOutbox m set m.status = com.coffeebean.domain.mail.outbox.MailStatus.SENT,"
+		+ " m.attempts = m.attempts + 1, m.sentAt = :now, m.claimToken = null, m.lastError = null"
+		+ " where m.id = :id and m.claimToken = :token")
+	int markSent(@Param("id") Long id, @Param("token") String token, @Param("now") LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("update MailOutbox m set m.status = :status, m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt,"
+		+ " m.lastError = :error, m.claimToken = null"
+		+ " where m.id = :id and m.claimToken = :token")
+	int markFailed(@Param("id") Long id, @Param("token") String token, @Param("status") MailStatus status,
+		@Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+		@Param("error") String error);
+
+	// 발송 중 서버가 종료되어 SENDING 으로 남은 메일을 다시 대기 상태로 되돌림
+	@Transactional
+	@Modifying
+	@Query("update MailOutbox m set m.status = com.coffeebean.domain.mail.outbox.MailStatus.PENDING,"
+		+ " m.claimToken = null"
+		+ " where m.status = com.coffeebean.domain.mail.outbox.MailStatus.SENDING and m.claimedAt < :threshold")
+	int releaseStale(@Param("threshold") LocalDateTime threshold);
+
+	long countByStatus(MailStatus status);
+}
@@ -0,0 +1,12 @@
+package com.coffeebean.domain.mail.outbox.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 아웃박스에 메일이 저장되었음을 알리는 이벤트 (커밋 이후 워커를 깨우는 용도)
+@Getter
+@RequiredArgsConstructor
+public class MailEnqueuedEvent {
+
+	private final Long mailOutboxId;
+}
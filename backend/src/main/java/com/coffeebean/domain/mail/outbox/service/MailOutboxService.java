@@ -0,0 +1,39 @@
+package com.coffeebean.domain.mail.outbox.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.mail.outbox.entity.MailOutbox;
+import com.coffeebean.domain.mail.outbox.repository.MailOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+	private final MailOutboxRepository mailOutboxRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 메일을 아웃박스에 저장한다. 호출한 트랜잭션에 참여하므로 상태 변경과 함께 커밋/롤백되며,
+	 * 실제 발송은 커밋 이후 MailOutboxWorker 가 수행한다.
+	 */
+	@Transactional
+	public MailOutbox enqueue(String recipient, String subject, String content) {
+		MailOutbox mailOutbox = mailOutboxRepository.save(
+			MailOutbox.builder()
+				.recipient(recipient)
+				.subject(subject)
+				.content(content)
+				.nextAttemptAt(LocalDateTime.now())
+				.build()
+		);
+
+		eventPublisher.publishEvent(new MailEnqueuedEvent(mailOutbox.getId()));
+		return mailOutbox;
+	}
+}
@@ -0,0 +1,232 @@
+package com.coffeebean.domain.mail.outbox.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.coffeebean.domain.mail.outbox.MailStatus;
+import com.coffeebean.domain.mail.outbox.dto.MailOutboxStats;
+import com.coffeebean.domain.mail.outbox.entity.MailOutbox;
+import com.coffeebean.domain.mail.outbox.repository.MailOutboxRepository;
+import com.coffeebean.domain.user.user.service.MailService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스에 쌓인 메일을 발송하는 워커.
+ * 요청/트랜잭션 스레드와 분리된 가상 스레드에서 batch-size 단위로 메일을 가져가고,
+ * 동시에 SMTP 로 나가는 메일 수는 concurrency 로 제한한다.
+ * 실패한 메일은 지수 backoff 로 재시도하고 max-attempts 를 넘으면 DEAD 로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxWorker {
+
+	private final MailOutboxRepository mailOutboxRepository;
+	private final MailService mailService;
+
+	@Value("${mail.outbox.worker-enabled:true}")
+	private boolean workerEnabled;
+
+	@Value("${mail.outbox.batch-size:50}")
+	private int batchSize;
+
+	@Value("${mail.outbox.concurrency:8}")
+	private int concurrency;
+
+	@Value("${mail.outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${mail.outbox.backoff-base-ms:1000}")
+	private long backoffBaseMs;
+
+	@Value("${mail.outbox.backoff-max-ms:600000}")
+	private long backoffMaxMs;
+
+	@Value("${mail.outbox.stale-timeout-ms:300000}")
+	private long staleTimeoutMs;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+
+	private final AtomicLong totalSent = new AtomicLong();
+	private final AtomicLong totalFailed = new AtomicLong();
+	private volatile double lastThroughput;
+
+	private Semaphore permits;
+
+	@PostConstruct
+	public void init() {
+		permits = new Semaphore(Math.max(concurrency, 1));
+	}
+
+	// 메일을 저장한 트랜잭션이 커밋된 뒤에 발송을 시작 (롤백된 메일은 발송되지 않음)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMailEnqueued(MailEnqueuedEvent event) {
+		requestDrain();
+	}
+
+	// 이벤트를 놓친 메일, backoff 가 끝난 재시도 메일, 오래된 SENDING 메일을 주기적으로 처리
+	@Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:10000}")
+	public void poll() {
+		if (!workerEnabled) {
+			return;
+		}
+
+		LocalDateTime threshold = LocalDateTime.now().minus(Duration.ofMillis(staleTimeoutMs));
+		int released = mailOutboxRepository.releaseStale(threshold);
+		if (released > 0) {
+			log.warn("발송 중 상태로 남아 있던 메일 {}건을 대기 상태로 되돌렸습니다.", released);
+		}
+		requestDrain();
+	}
+
+	// 이미 처리 중이면 현재 루프가 끝난 뒤 한 번 더 돌도록 표시만 한다
+	public void requestDrain() {
+		if (!workerEnabled) {
+			return;
+		}
+
+		drainRequested.set(true);
+		if (draining.compareAndSet(false, true)) {
+			executor.execute(this::drainLoop);
+		}
+	}
+
+	private void drainLoop() {
+		try {
+			while (drainRequested.getAndSet(false)) {
+				drain();
+			}
+		} catch (Exception e) {
+			log.error("메일 아웃박스 처리 중 오류가 발생했습니다.", e);
+		} finally {
+			draining.set(false);
+			if (drainRequested.get()) {
+				requestDrain();
+			}
+		}
+	}
+
+	/**
+	 * 발송 가능한 메일이 없을 때까지 batch-size 단위로 가져가서 발송한다.
+	 *
+	 * @return 발송 성공 수
+	 */
+	public int drain() throws InterruptedException {
+		long startedAt = System.nanoTime();
+		int sent = 0;
+		int failed = 0;
+
+		while (true) {
+			List<Long> ids = mailOutboxRepository.findIdsReadyToSend(MailStatus.PENDING, LocalDateTime.now(),
+				PageRequest.of(0, batchSize));
+			if (ids.isEmpty()) {
+				break;
+			}
+
+			String token = UUID.randomUUID().toString();
+			mailOutboxRepository.claim(ids, token, LocalDateTime.now());
+			List<MailOutbox> claimed = mailOutboxRepository.findByClaimToken(token);
+
+			List<Callable<Boolean>> tasks = claimed.stream()
+				.map(mail -> (Callable<Boolean>)() -> send(mail))
+				.toList();
+
+			for (Future<Boolean> result : executor.invokeAll(tasks)) {
+				try {
+					if (result.get()) {
+						sent++;
+					} else {
+						failed++;
+					}
+				} catch (Exception e) {
+					failed++;
+				}
+			}
+		}
+
+		if (sent + failed > 0) {
+			double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+			lastThroughput = sent / seconds;
+			log.info("메일 발송 처리: 성공 {}건, 실패 {}건, {} mails/sec, 대기 {}건",
+				sent, failed, "%.1f".formatted(lastThroughput), mailOutboxRepository.countByStatus(MailStatus.PENDING));
+		}
+		return sent;
+	}
+
+	private boolean send(MailOutbox mail) throws InterruptedException {
+		permits.acquire();
+		try {
+			mailService.sendMailToUser(mail.getRecipient(), mail.getSubject(), mail.getContent());
+			mailOutboxRepository.markSent(mail.getId(), mail.getClaimToken(), LocalDateTime.now());
+			totalSent.incrementAndGet();
+			return true;
+		} catch (Exception e) {
+			int attempts = mail.getAttempts() + 1;
+			MailStatus status = attempts >= maxAttempts ? MailStatus.DEAD : MailStatus.PENDING;
+			mailOutboxRepository.markFailed(mail.getId(), mail.getClaimToken(), status, attempts,
+				LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(attempts))), abbreviate(e.getMessage()));
+			totalFailed.incrementAndGet();
+
+			if (status == MailStatus.DEAD) {
+				log.error("메일 발송을 {}회 실패하여 중단합니다. id={}, 수신자={}", attempts, mail.getId(),
+					mail.getRecipient());
+			}
+			return false;
+		} finally {
+			permits.release();
+		}
+	}
+
+	// 1회 실패: base, 2회: base * 2, 3회: base * 4 ... (최대 backoff-max-ms)
+	private long backoffMillis(int attempts) {
+		long backoff = backoffBaseMs << Math.min(attempts - 1, 30);
+		return Math.min(backoff, backoffMaxMs);
+	}
+
+	private String abbreviate(String message) {
+		if (message == null) {
+			return null;
+		}
+		return message.length() > 500 ? message.substring(0, 500) : message;
+	}
+
+	public MailOutboxStats getStats() {
+		return new MailOutboxStats(
+			mailOutboxRepository.countByStatus(MailStatus.PENDING),
+			mailOutboxRepository.countByStatus(MailStatus.SENDING),
+			mailOutboxRepository.countByStatus(MailStatus.DEAD),
+			totalSent.get(),
+			totalFailed.get(),
+			lastThroughput
+		);
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+}
@@ -11,6 +11,7 @@ import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.service.UserService;
 import com.coffeebean.global.dto.RsData;
 import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.httpcache.HttpCached;
 import com.coffeebean.global.security.annotations.AdminOnly;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -54,6 +55,7 @@ public class ApiV1NoticeController {
 	}
 
 	// 공지사항 목록 전체 조회
+	@HttpCached(NoticeService.HTTP_CACHE_REGION)
 	@GetMapping
 	public RsData<List<NoticeDto>> getNotices() {
 
@@ -70,6 +72,7 @@ public class ApiV1NoticeController {
 	}
 
 	// 공지사항 목록 전체 조회 - 페이징
+	@HttpCached(NoticeService.HTTP_CACHE_REGION)
 	@GetMapping("/list")
 	public RsData<Page<NoticeDto>> getNotices(Pageable pageable) {
 		Page<NoticeDto> noticePage = noticeService.getNotices(pageable);
@@ -81,6 +84,7 @@ public class ApiV1NoticeController {
 	}
 
 	// 공지사항 단건 조회
+	@HttpCached(NoticeService.HTTP_CACHE_REGION)
 	@GetMapping("/{id}")
 	public RsData<NoticeDto> findById(@PathVariable long id) {
 		Notice notice = noticeService.findByNoticeId(id);
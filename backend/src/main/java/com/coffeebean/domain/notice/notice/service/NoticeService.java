@@ -4,6 +4,7 @@ import com.coffeebean.domain.notice.notice.dto.NoticeDto;
 import com.coffeebean.domain.notice.notice.entity.Notice;
 import com.coffeebean.domain.notice.notice.repository.NoticeRepository;
 import com.coffeebean.global.exception.DataNotFoundException;
+import com.coffeebean.global.httpcache.HttpResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -15,7 +16,12 @@ import java.util.List;
 @RequiredArgsConstructor
 @Service
 public class NoticeService {
+
+    // 공지사항 조회 응답 캐시 (작성/수정/삭제 시 무효화)
+    public static final String HTTP_CACHE_REGION = "notices";
+
     private final NoticeRepository noticeRepository;
+    private final HttpResponseCache httpResponseCache;
 
     // 공지사항 작성
     @Transactional
@@ -27,6 +33,7 @@ public class NoticeService {
                 .build();
 
         noticeRepository.save(notice);
+        httpResponseCache.evict(HTTP_CACHE_REGION);
     }
 
     // 공지사항 목록 조회
@@ -46,6 +53,7 @@ public class NoticeService {
     @Transactional
     public void deleteNotice(Long noticeId) {
         noticeRepository.deleteById(noticeId);
+        httpResponseCache.evict(HTTP_CACHE_REGION);
     }
 
     // 공지사항 수정
@@ -53,6 +61,7 @@ public class NoticeService {
     public Notice modifyNotice(Notice notice, String title, String content) {
         notice.setTitle(title);
         notice.setContent(content);
+        httpResponseCache.evict(HTTP_CACHE_REGION);
         return noticeRepository.save(notice);
     }
 
@@ -0,0 +1,13 @@
+package com.coffeebean.domain.order.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 배송 상태가 변경된 주문의 메일 발송 정보
+@Getter
+@AllArgsConstructor
+public class DeliveryMailTarget {
+
+	private Long orderId;
+	private String email;
+}
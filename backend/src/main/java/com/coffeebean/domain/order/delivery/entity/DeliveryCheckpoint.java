@@ -0,0 +1,66 @@
+package com.coffeebean.domain.order.delivery.entity;
+
+import java.time.LocalDate;
+
+import com.coffeebean.domain.order.order.DeliveryStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배송 상태 일괄 변경 작업의 진행 위치.
+ * 실행일, 변경 전 상태, 파티션별로 마지막으로 처리한 주문 id 를 저장하여 중단된 작업을 이어서 처리한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "delivery_checkpoint", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_delivery_checkpoint", columnNames = {"run_date", "from_status", "partition_no"})
+})
+public class DeliveryCheckpoint {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "run_date", nullable = false)
+	private LocalDate runDate;	// 작업 실행일
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "from_status", nullable = false, length = 20)
+	private DeliveryStatus fromStatus;	// 변경 전 배송 상태
+
+	@Column(name = "partition_no", nullable = false)
+	private int partitionNo;
+
+	private long lastOrderId;	// 마지막으로 처리한 주문 id (다음 청크는 이 id 이후부터)
+
+	private long upperOrderId;	// 이 파티션이 처리할 마지막 주문 id
+
+	private long processedCount;	// 상태가 변경된 주문 수
+
+	private boolean completed;
+
+	public void advance(long lastOrderId, int processed) {
+		this.lastOrderId = lastOrderId;
+		this.processedCount += processed;
+	}
+
+	public void complete() {
+		this.completed = true;
+	}
+}
@@ -0,0 +1,14 @@
+package com.coffeebean.domain.order.delivery.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.coffeebean.domain.order.delivery.entity.DeliveryCheckpoint;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+
+public interface DeliveryCheckpointRepository extends JpaRepository<DeliveryCheckpoint, Long> {
+
+	List<DeliveryCheckpoint> findByRunDateAndFromStatusOrderByPartitionNo(LocalDate runDate, DeliveryStatus fromStatus);
+}
@@ -0,0 +1,166 @@
+package com.coffeebean.domain.order.delivery.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.mail.outbox.service.MailOutboxService;
+import com.coffeebean.domain.order.delivery.dto.DeliveryMailTarget;
+import com.coffeebean.domain.order.delivery.entity.DeliveryCheckpoint;
+import com.coffeebean.domain.order.delivery.repository.DeliveryCheckpointRepository;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.repository.OrderRepository;
+import com.coffeebean.global.exception.ServiceException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배송 상태 일괄 변경 처리기.
+ * 주문을 엔티티로 올리지 않고 order_id keyset 으로 chunk-size 만큼씩 잘라 청크마다 별도 트랜잭션에서
+ * bulk UPDATE + 메일 아웃박스 저장 + 체크포인트 갱신을 수행한다.
+ * 대상 id 범위는 parallelism 개의 파티션으로 나누어 동시에 처리하며, 중단되면 체크포인트부터 이어서 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryStatusProcessor {
+
+	private final OrderRepository orderRepository;
+	private final DeliveryCheckpointRepository deliveryCheckpointRepository;
+	private final MailOutboxService mailOutboxService;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${order.delivery.chunk-size:1000}")
+	private int chunkSize;
+
+	@Value("${order.delivery.parallelism:1}")
+	private int parallelism;
+
+	public void run(LocalDate runDate) {
+		// 배송 중 -> 배송 완료를 먼저 처리해야 하루에 배송 준비 -> 배송 완료로 두 단계가 진행되지 않는다
+		process(runDate, DeliveryStatus.START, DeliveryStatus.DONE,
+			"배송이 완료되었습니다.", "주문번호[%d]의 상품의 배송이 완료되었습니다.");
+		process(runDate, DeliveryStatus.READY, DeliveryStatus.START,
+			"배송이 시작되었습니다.", "주문번호[%d]의 상품의 배송이 시작되었습니다.");
+	}
+
+	private void process(LocalDate runDate, DeliveryStatus from, DeliveryStatus to, String subject,
+		String contentFormat) {
+		List<DeliveryCheckpoint> checkpoints = prepareCheckpoints(runDate, from).stream()
+			.filter(checkpoint -> !checkpoint.isCompleted())
+			.toList();
+		if (checkpoints.isEmpty()) {
+			return;
+		}
+
+		long startedAt = System.currentTimeMillis();
+		List<Future<Long>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(
+			Math.min(Math.max(parallelism, 1), checkpoints.size()))) {
+			for (DeliveryCheckpoint checkpoint : checkpoints) {
+				results.add(executor.submit(
+					() -> processPartition(checkpoint.getId(), from, to, subject, contentFormat)));
+			}
+		}
+
+		long processed = 0;
+		for (Future<Long> result : results) {
+			try {
+				processed += result.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ServiceException("500-1", "배송 상태 변경 작업이 중단되었습니다.");
+			} catch (ExecutionException e) {
+				log.error("배송 상태 변경 {} -> {} 처리 중 오류가 발생했습니다.", from, to, e.getCause());
+				throw new ServiceException("500-1", "배송 상태 변경 작업에 실패했습니다.");
+			}
+		}
+
+		log.info("배송 상태 변경 {} -> {}: {}건, {}ms", from, to, processed, System.currentTimeMillis() - startedAt);
+	}
+
+	// 처음 실행이면 현재 대상 id 범위를 파티션으로 나눠 체크포인트를 만들고, 재실행이면 기존 체크포인트를 사용
+	private List<DeliveryCheckpoint> prepareCheckpoints(LocalDate runDate, DeliveryStatus from) {
+		return transactionTemplate.execute(status -> {
+			List<DeliveryCheckpoint> checkpoints =
+				deliveryCheckpointRepository.findByRunDateAndFromStatusOrderByPartitionNo(runDate, from);
+			if (!checkpoints.isEmpty()) {
+				return checkpoints;
+			}
+
+			long minId = orderRepository.findMinIdForDelivery(from).orElse(0L);
+			long maxId = orderRepository.findMaxIdForDelivery(from).orElse(0L);
+			int partitions = Math.max(parallelism, 1);
+			long partitionSize = Math.max((maxId - minId + partitions) / partitions, 1);
+
+			List<DeliveryCheckpoint> created = new ArrayList<>();
+			for (int i = 0; i < partitions; i++) {
+				long lower = minId - 1 + partitionSize * i;
+				long upper = i == partitions - 1 ? maxId : Math.min(lower + partitionSize, maxId);
+
+				created.add(DeliveryCheckpoint.builder()
+					.runDate(runDate)
+					.fromStatus(from)
+					.partitionNo(i)
+					.lastOrderId(lower)
+					.upperOrderId(upper)
+					.completed(maxId == 0 || lower >= upper)
+					.build());
+			}
+			return deliveryCheckpointRepository.saveAll(created);
+		});
+	}
+
+	private long processPartition(Long checkpointId, DeliveryStatus from, DeliveryStatus to, String subject,
+		String contentFormat) {
+		long processed = 0;
+		while (true) {
+			ChunkResult result = transactionTemplate.execute(
+				status -> processChunk(checkpointId, from, to, subject, contentFormat));
+
+			processed += result.processed();
+			if (result.completed()) {
+				return processed;
+			}
+		}
+	}
+
+	// 청크 하나 = 트랜잭션 하나. 롤백되면 체크포인트도 함께 롤백되어 같은 청크부터 다시 처리된다
+	private ChunkResult processChunk(Long checkpointId, DeliveryStatus from, DeliveryStatus to, String subject,
+		String contentFormat) {
+		DeliveryCheckpoint checkpoint = deliveryCheckpointRepository.findById(checkpointId)
+			.orElseThrow(() -> new ServiceException("500-1", "배송 작업 체크포인트가 존재하지 않습니다."));
+
+		List<Long> ids = orderRepository.findIdsForDelivery(from, checkpoint.getLastOrderId(),
+			checkpoint.getUpperOrderId(), PageRequest.of(0, chunkSize));
+		if (ids.isEmpty()) {
+			checkpoint.complete();
+			return new ChunkResult(0, true);
+		}
+
+		orderRepository.bulkUpdateDeliveryStatus(ids, from, to);
+		List<DeliveryMailTarget> targets = orderRepository.findDeliveryMailTargets(ids, to);
+		for (DeliveryMailTarget target : targets) {
+			mailOutboxService.enqueue(target.getEmail(), subject, contentFormat.formatted(target.getOrderId()));
+		}
+
+		checkpoint.advance(ids.getLast(), targets.size());
+		if (ids.size() < chunkSize) {
+			checkpoint.complete();
+		}
+		return new ChunkResult(targets.size(), checkpoint.isCompleted());
+	}
+
+	private record ChunkResult(int processed, boolean completed) {
+	}
+}
@@ -0,0 +1,6 @@
+package com.coffeebean.domain.order.idempotency;
+
+public enum IdempotencyStatus {
+	IN_PROGRESS,	// 첫 요청이 처리 중
+	COMPLETED	// 처리 완료, 응답 저장됨
+}
@@ -0,0 +1,9 @@
+package com.coffeebean.domain.order.idempotency.dto;
+
+import com.coffeebean.domain.order.order.dto.OrderCreateResponse;
+
+/**
+ * @param replayed 이미 처리된 요청이라 저장된 응답을 그대로 돌려준 경우 true
+ */
+public record IdempotentOrderResponse(OrderCreateResponse response, boolean replayed) {
+}
@@ -0,0 +1,65 @@
+package com.coffeebean.domain.order.idempotency.entity;
+
+import java.time.LocalDateTime;
+
+import com.coffeebean.domain.order.idempotency.IdempotencyStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 요청의 Idempotency-Key 저장소.
+ * 키 원문 대신 (주문자 이메일 + 키) 의 SHA-256 을 저장하므로 헤더 길이와 상관없이 행 크기가 일정하다.
+ * 처리 중인 요청은 IN_PROGRESS 로, 완료된 요청은 응답 JSON 과 함께 COMPLETED 로 남고 expiresAt 이후 삭제된다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_key",
+	uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_key_hash", columnNames = "key_hash"),
+	indexes = @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at"))
+public class IdempotencyKey {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotency_key_seq_generator")
+	@SequenceGenerator(name = "idempotency_key_seq_generator", sequenceName = "idempotency_key_seq", allocationSize = 50)
+	@Column(name = "idempotency_key_id")
+	private Long id;
+
+	@Column(name = "key_hash", nullable = false, length = 64)
+	private String keyHash;	// SHA-256(이메일 + 키)
+
+	@Column(nullable = false, length = 64)
+	private String fingerprint;	// SHA-256(요청 본문), 같은 키로 다른 주문을 보내면 거절
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private IdempotencyStatus status;
+
+	@Lob
+	@Column(columnDefinition = "TEXT")
+	private String response;	// 완료된 주문의 OrderCreateResponse JSON
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+}
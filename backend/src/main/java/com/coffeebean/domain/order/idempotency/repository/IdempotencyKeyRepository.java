@@ -0,0 +1,41 @@
+package com.coffeebean.domain.order.idempotency.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.order.idempotency.entity.IdempotencyKey;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+	Optional<IdempotencyKey> findByKeyHash(String keyHash);
+
+	// 주문 트랜잭션에 참여하므로 주문과 함께 커밋/롤백된다
+	@Transactional
+	@Modifying
+	@Query("update IdempotencyKey k set k.status = com.coffeebean.domain.order.idempotency.IdempotencyStatus.COMPLETED,"
+		+ " k.response = :response"
+		+ " where k.keyHash = :keyHash"
+		+ " and k.status = com.coffeebean.domain.order.idempotency.IdempotencyStatus.IN_PROGRESS")
+	int complete(@Param("keyHash") String keyHash, @Param("response") String response);
+
+	// 처리에 실패한 요청의 키를 지워서 같은 키로 다시 시도할 수 있게 한다
+	@Transactional
+	@Modifying
+	@Query("delete from IdempotencyKey k where k.keyHash = :keyHash"
+		+ " and k.status = com.coffeebean.domain.order.idempotency.IdempotencyStatus.IN_PROGRESS")
+	int release(@Param("keyHash") String keyHash);
+
+	// 만료된 키와, 서버 종료 등으로 IN_PROGRESS 로 남은 키 삭제
+	@Transactional
+	@Modifying
+	@Query("delete from IdempotencyKey k where k.expiresAt < :now"
+		+ " or (k.status = com.coffeebean.domain.order.idempotency.IdempotencyStatus.IN_PROGRESS"
+		+ " and k.createdAt < :staleThreshold)")
+	int deleteExpired(@Param("now") LocalDateTime now, @Param("staleThreshold") LocalDateTime staleThreshold);
+}
@@ -0,0 +1,245 @@
+package com.coffeebean.domain.order.idempotency.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.order.idempotency.IdempotencyStatus;
+import com.coffeebean.domain.order.idempotency.dto.IdempotentOrderResponse;
+import com.coffeebean.domain.order.idempotency.entity.IdempotencyKey;
+import com.coffeebean.domain.order.idempotency.repository.IdempotencyKeyRepository;
+import com.coffeebean.domain.order.order.dto.OrderCreateResponse;
+import com.coffeebean.global.exception.ServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 가 붙은 주문 요청을 한 번만 처리한다.
+ * 첫 요청이 키를 IN_PROGRESS 로 먼저 커밋하고 주문을 처리하며, 주문 트랜잭션 안에서 응답과 함께 COMPLETED 로 바꾼다.
+ * 같은 키의 요청은 처리 중이면 끝날 때까지 기다리고 (같은 서버면 메모리에서, 다른 서버면 DB 를 폴링),
+ * 완료된 뒤에는 저장된 응답을 그대로 돌려준다. 주문이 실패하면 키를 지워서 다시 시도할 수 있게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyKeyService {
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final ObjectMapper objectMapper;
+
+	@Value("${order.idempotency.ttl-hours:24}")
+	private long ttlHours;
+
+	@Value("${order.idempotency.wait-timeout-ms:10000}")
+	private long waitTimeoutMs;
+
+	@Value("${order.idempotency.poll-interval-ms:100}")
+	private long pollIntervalMs;
+
+	@Value("${order.idempotency.stale-timeout-ms:300000}")
+	private long staleTimeoutMs;
+
+	// 이 서버에서 처리 중인 키. 같은 키의 요청은 DB 를 거치지 않고 처리가 끝날 때까지 기다린다
+	private final ConcurrentHashMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+	// 키는 주문 트랜잭션과 별도로 먼저 커밋해야 다른 요청이 처리 중인 것을 볼 수 있다
+	private TransactionTemplate requiresNew;
+
+	@PostConstruct
+	public void init() {
+		requiresNew = new TransactionTemplate(transactionManager);
+		requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * 같은 (주문자 이메일, 키) 로는 action 을 한 번만 실행한다.
+	 * action 은 주문 트랜잭션 안에서 {@link #complete} 를 호출해야 한다.
+	 *
+	 * @param request 요청 본문 (같은 키로 다른 요청을 보냈는지 비교)
+	 */
+	public IdempotentOrderResponse execute(String email, String key, Object request,
+		Supplier<OrderCreateResponse> action) {
+		String keyHash = keyHash(email, key);
+		String fingerprint = fingerprint(request);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+
+		while (true) {
+			CompletableFuture<Void> mine = new CompletableFuture<>();
+			CompletableFuture<Void> running = inFlight.putIfAbsent(keyHash, mine);
+			if (running != null) {
+				await(running, deadline);
+				continue;
+			}
+
+			try {
+				if (tryAcquire(keyHash, fingerprint)) {
+					return new IdempotentOrderResponse(runAcquired(keyHash, action), false);
+				}
+
+				IdempotencyKey existing = idempotencyKeyRepository.findByKeyHash(keyHash).orElse(null);
+				if (existing == null) {
+					// 먼저 온 요청이 실패해서 키가 지워짐 → 다시 시도
+					continue;
+				}
+				if (!existing.getFingerprint().equals(fingerprint)) {
+					throw new ServiceException("422-1", "같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다.");
+				}
+				if (existing.getStatus() == IdempotencyStatus.COMPLETED) {
+					return new IdempotentOrderResponse(readResponse(existing), true);
+				}
+			} finally {
+				inFlight.remove(keyHash, mine);
+				mine.complete(null);
+			}
+
+			// 다른 서버에서 처리 중
+			sleep(deadline);
+		}
+	}
+
+	/**
+	 * 주문 트랜잭션 안에서 키를 완료 상태로 바꾸고 응답을 저장한다. 주문이 롤백되면 함께 롤백된다.
+	 */
+	public void complete(String email, String key, OrderCreateResponse response) {
+		int updated = idempotencyKeyRepository.complete(keyHash(email, key), writeResponse(response));
+		// 처리 시간이 stale-timeout 을 넘어 키가 정리된 경우 (다른 요청이 같은 키로 처리 중일 수 있으므로 주문 롤백)
+		if (updated == 0) {
+			throw inProgress();
+		}
+	}
+
+	// 만료된 키와, 서버 종료 등으로 처리 중 상태로 남은 키 정리
+	@Scheduled(fixedDelayString = "${order.idempotency.cleanup-interval-ms:600000}")
+	public void deleteExpired() {
+		LocalDateTime now = LocalDateTime.now();
+		int deleted = idempotencyKeyRepository.deleteExpired(now, now.minus(Duration.ofMillis(staleTimeoutMs)));
+		if (deleted > 0) {
+			log.info("만료된 Idempotency-Key {}개 삭제", deleted);
+		}
+	}
+
+	private boolean tryAcquire(String keyHash, String fingerprint) {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			requiresNew.executeWithoutResult(status -> idempotencyKeyRepository.saveAndFlush(
+				IdempotencyKey.builder()
+					.keyHash(keyHash)
+					.fingerprint(fingerprint)
+					.status(IdempotencyStatus.IN_PROGRESS)
+					.createdAt(now)
+					.expiresAt(now.plusHours(ttlHours))
+					.build()
+			));
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			return false;
+		}
+	}
+
+	private OrderCreateResponse runAcquired(String keyHash, Supplier<OrderCreateResponse> action) {
+		try {
+			return action.get();
+		} catch (RuntimeException | Error e) {
+			idempotencyKeyRepository.release(keyHash);
+			throw e;
+		}
+	}
+
+	private void await(CompletableFuture<Void> running, long deadline) {
+		try {
+			running.get(remaining(deadline), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			throw inProgress();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw inProgress();
+		} catch (ExecutionException e) {
+			// 먼저 온 요청의 결과는 DB 에서 다시 확인
+		}
+	}
+
+	private void sleep(long deadline) {
+		try {
+			TimeUnit.NANOSECONDS.sleep(Math.min(remaining(deadline), TimeUnit.MILLISECONDS.toNanos(pollIntervalMs)));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw inProgress();
+		}
+	}
+
+	private long remaining(long deadline) {
+		long remaining = deadline - System.nanoTime();
+		if (remaining <= 0) {
+			throw inProgress();
+		}
+		return remaining;
+	}
+
+	private static ServiceException inProgress() {
+		return new ServiceException("409-1", "같은 주문 요청을 처리하고 있습니다. 잠시 후 다시 시도하세요.");
+	}
+
+	private static String keyHash(String email, String key) {
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			throw new ServiceException("400-8", "Idempotency-Key 는 1자 이상 %d자 이하여야 합니다.".formatted(MAX_KEY_LENGTH));
+		}
+		return sha256((email + "\n" + key).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String fingerprint(Object request) {
+		try {
+			return sha256(objectMapper.writer(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsBytes(request));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String writeResponse(OrderCreateResponse response) {
+		try {
+			return objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private OrderCreateResponse readResponse(IdempotencyKey idempotencyKey) {
+		try {
+			return objectMapper.readValue(idempotencyKey.getResponse(), OrderCreateResponse.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String sha256(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
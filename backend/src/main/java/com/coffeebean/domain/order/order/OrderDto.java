@@ -19,4 +19,10 @@ public class OrderDto {
     private OrderStatus orderStatus; // 주문 상태
     private DeliveryStatus deliveryStatus; // 배송 상태
     private int totalPrice; // 전체 주문 금액
+
+    // JPQL projection 용 (sum 결과가 Long 으로 반환됨)
+    public OrderDto(Long orderId, LocalDateTime orderDate, String itemName, OrderStatus orderStatus,
+            DeliveryStatus deliveryStatus, Long totalPrice) {
+        this(orderId, orderDate, itemName, orderStatus, deliveryStatus, totalPrice == null ? 0 : totalPrice.intValue());
+    }
 }
@@ -4,8 +4,11 @@ import com.coffeebean.domain.order.order.DeliveryStatus;
 import com.coffeebean.domain.order.order.OrderDetailDto;
 import com.coffeebean.domain.order.order.OrderDto;
 import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.dto.OrderExportFormat;
 import com.coffeebean.domain.order.order.dto.OrderListDto;
 import com.coffeebean.domain.order.order.dto.OrderListResponseDto;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
+import com.coffeebean.domain.order.order.service.OrderExportService;
 import com.coffeebean.domain.order.order.service.OrderService;
 import com.coffeebean.domain.user.user.dto.EmailVerificationRequest;
 import com.coffeebean.domain.user.user.service.EmailVerificationService;
@@ -15,13 +18,20 @@ import com.coffeebean.global.exception.DataNotFoundException;
 import com.coffeebean.global.exception.ServiceException;
 import com.coffeebean.global.security.annotations.AdminOnly;
 import com.coffeebean.global.util.CustomUserDetails;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Slf4j
@@ -31,6 +41,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
     private final EmailVerificationService emailVerificationService;
 
     /**
@@ -47,6 +58,24 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 1-1. 전체 주문 내역 페이징 조회 (최신순)
+     * GET /api/my/orders/history?page=0&size=10
+     */
+    @GetMapping("/my/orders/history")
+    public RsData<Page<OrderDto>> getOrderHistory(@Login CustomUserDetails customUserDetails,
+                                                  @RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "10") int size) {
+        Page<OrderDto> orders = orderService.getOrdersByEmail(customUserDetails.getEmail(),
+                PageRequest.of(page, Math.clamp(size, 1, 100)));
+
+        return new RsData<>(
+                "200-1",
+                "주문 내역이 조회되었습니다.",
+                orders
+        );
+    }
+
     /**
      * 2. 주문 상세 조회
      * GET /api/orders/{orderId}
@@ -118,11 +147,14 @@ public class OrderController {
         return ResponseEntity.noContent().build();
     }
 
-    // 관리자 - 주문 전체 조회
+    // 관리자 - 주문 목록 조회 (상태, 배송 상태, 주문일 범위, 이메일 조건 + 페이징)
     @AdminOnly
     @GetMapping("/v1/orders/list")
-    public RsData<OrderListResponseDto> getOrderList() {
-        List<OrderListDto> orders = orderService.getAllOrder();
+    public RsData<OrderListResponseDto> getOrderList(@ModelAttribute OrderSearchCondition condition,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        Page<OrderListDto> orders = orderService.searchOrders(condition,
+                PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, 100)));
 
         return new RsData<>(
                 "200-1",
@@ -131,6 +163,32 @@ public class OrderController {
         );
     }
 
+    /**
+     * 관리자 - 주문 내보내기 (목록과 같은 검색 조건)
+     * GET /api/v1/orders/export?format=ndjson|csv
+     */
+    @AdminOnly
+    @GetMapping("/v1/orders/export")
+    public void exportOrders(@ModelAttribute OrderSearchCondition condition,
+                             @RequestParam(defaultValue = "ndjson") String format,
+                             HttpServletResponse response) throws IOException {
+        OrderExportFormat exportFormat;
+        try {
+            exportFormat = OrderExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException("400-1", "지원하지 않는 형식입니다.");
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("orders." + exportFormat.getExtension())
+                .build()
+                .toString());
+
+        orderExportService.export(condition, exportFormat, response.getOutputStream());
+    }
+
 
     // 관리자 - 주문 상세 보기
     @AdminOnly
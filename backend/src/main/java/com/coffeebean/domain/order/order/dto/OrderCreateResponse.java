@@ -11,10 +11,12 @@ import com.coffeebean.domain.order.orderItem.entity.OrderItem;
 import com.coffeebean.domain.user.user.Address;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor // Idempotency-Key 로 저장한 응답을 다시 읽을 때 사용
 public class OrderCreateResponse {
 	private long id; // 주문ID
 	private String email; // 주문자 이메일
@@ -27,6 +29,7 @@ public class OrderCreateResponse {
 
 	@Getter
 	@Setter
+	@NoArgsConstructor
 	static class OrderItemBody {
 		private long id;
 		private String name;
@@ -0,0 +1,15 @@
+package com.coffeebean.domain.order.order.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"), // 주문 1건당 JSON 한 줄
+    CSV("text/csv", "csv"); // 주문 상품 1건당 한 줄
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,24 @@
+package com.coffeebean.domain.order.order.dto;
+
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 주문 내보내기용 projection - 주문 상품 1건당 1행
+@Getter
+@AllArgsConstructor
+public class OrderExportRow {
+
+    private Long orderId;
+    private String email;
+    private OrderStatus orderStatus;
+    private DeliveryStatus deliveryStatus;
+    private LocalDateTime orderDate;
+    private Long orderItemId;
+    private String itemName;
+    private int count;
+    private int orderPrice;
+}
@@ -1,9 +1,11 @@
 package com.coffeebean.domain.order.order.dto;
 
 import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
+@AllArgsConstructor
 public class OrderItemsDto {
 
     private Long id;
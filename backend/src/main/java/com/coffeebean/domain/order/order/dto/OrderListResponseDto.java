@@ -2,6 +2,7 @@ package com.coffeebean.domain.order.order.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 
@@ -9,4 +10,12 @@ import java.util.List;
 @AllArgsConstructor
 public class OrderListResponseDto {
     private List<OrderListDto> orders;
-}
\ No newline at end of file
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public OrderListResponseDto(Page<OrderListDto> page) {
+        this(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+}
@@ -0,0 +1,30 @@
+package com.coffeebean.domain.order.order.dto;
+
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 관리자 주문 목록 / 내보내기 검색 조건 (null 인 조건은 적용하지 않음)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchCondition {
+
+    private OrderStatus orderStatus;
+    private DeliveryStatus deliveryStatus;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from; // 주문일 시작 (포함)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to; // 주문일 끝 (포함)
+
+    private String email;
+}
@@ -29,12 +29,19 @@ import static jakarta.persistence.CascadeType.ALL;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 배송 상태 일괄 변경 시 상태별 order_id keyset 조회용
+        @Index(name = "idx_orders_delivery_status", columnList = "delivery_status, order_status, order_id"),
+        // 회원/비회원 주문 내역 최신순 조회용
+        @Index(name = "idx_orders_email_order_date", columnList = "email, order_date DESC")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Order {
 
+    // IDENTITY 는 insert 배치를 막으므로 시퀀스를 50개씩 미리 할당받아 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     @Column(name = "order_id")
     private Long id;
 
@@ -53,6 +60,7 @@ public class Order {
 
     @CreatedDate
     @Setter(AccessLevel.PRIVATE)
+    @Column(name = "order_date")
     private LocalDateTime orderDate; // 주문 시간
 
     @OneToMany(mappedBy = "order")
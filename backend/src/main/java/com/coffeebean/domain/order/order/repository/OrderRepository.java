@@ -1,7 +1,12 @@
 package com.coffeebean.domain.order.order.repository;
 
+import com.coffeebean.domain.order.delivery.dto.DeliveryMailTarget;
 import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,22 +17,61 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     List<Order> findAllByEmail(String email); // 사용자의 이메일로 전체 주문 내역 조회
     Optional<Order> findByEmail(String email); // 사용자의 이메일로 단건 주문 조회
 
-    @Query("select o from Order o where o.email = :email order by o.orderDate desc limit 3")
-    List<Order> findTop3ByEmailOrderByOrderDateDesc(@Param("email") String email); // 사용자의 이메일로 최신순 3건 조회
+    // 주문 내역 조회용 projection - 대표 상품명(첫 번째 주문 상품)과 총 금액을 SQL 에서 계산
+    String ORDER_HISTORY_SELECT = "select new com.coffeebean.domain.order.order.OrderDto(" +
+            "o.id, o.orderDate, " +
+            "(select i.name from OrderItem rep join rep.item i " +
+            " where rep.id = (select min(oi2.id) from OrderItem oi2 where oi2.order = o)), " +
+            "o.orderStatus, o.deliveryStatus, sum(oi.orderPrice * oi.count)) " +
+            "from Order o join o.orderItems oi " +
+            "where o.email = :email " +
+            "group by o.id, o.orderDate, o.orderStatus, o.deliveryStatus " +
+            "order by o.orderDate desc, o.id desc";
 
-    // 특정 배송 상태에 해당되는 주문 조회
-    List<Order> findByDeliveryStatusIn(List<DeliveryStatus> deliveryStatuses);
+    @Query(ORDER_HISTORY_SELECT)
+    List<OrderDto> findOrderHistory(@Param("email") String email);
 
-    // 전체 조회
-    @Query("SELECT o FROM Order o " +
-            "JOIN FETCH o.orderItems oi " +
-            "JOIN FETCH oi.item")
-    List<Order> findAllOrdersWithItems();
+    @Query(ORDER_HISTORY_SELECT)
+    List<OrderDto> findOrderHistory(@Param("email") String email, Pageable pageable);
 
+    @Query(value = ORDER_HISTORY_SELECT,
+            countQuery = "select count(o) from Order o " +
+                    "where o.email = :email and exists (select 1 from OrderItem oi where oi.order = o)")
+    Page<OrderDto> findOrderHistoryPage(@Param("email") String email, Pageable pageable);
+
+    // 배송 상태 일괄 변경 대상 범위 (파티션 분할용)
+    @Query("select min(o.id) from Order o " +
+            "where o.deliveryStatus = :status and o.orderStatus = com.coffeebean.domain.order.order.OrderStatus.ORDER")
+    Optional<Long> findMinIdForDelivery(@Param("status") DeliveryStatus status);
+
+    @Query("select max(o.id) from Order o " +
+            "where o.deliveryStatus = :status and o.orderStatus = com.coffeebean.domain.order.order.OrderStatus.ORDER")
+    Optional<Long> findMaxIdForDelivery(@Param("status") DeliveryStatus status);
+
+    // 배송 상태 일괄 변경 대상 id 를 order_id 기준 keyset 으로 조회
+    @Query("select o.id from Order o " +
+            "where o.id > :lastId and o.id <= :upperId " +
+            "and o.deliveryStatus = :status and o.orderStatus = com.coffeebean.domain.order.order.OrderStatus.ORDER " +
+            "order by o.id")
+    List<Long> findIdsForDelivery(@Param("status") DeliveryStatus status, @Param("lastId") long lastId,
+            @Param("upperId") long upperId, Pageable pageable);
+
+    // 조회 이후 취소 등으로 상태가 바뀐 주문은 변경하지 않도록 현재 상태를 조건으로 건다
+    @Modifying
+    @Query("update Order o set o.deliveryStatus = :to " +
+            "where o.id in :ids and o.deliveryStatus = :from " +
+            "and o.orderStatus = com.coffeebean.domain.order.order.OrderStatus.ORDER")
+    int bulkUpdateDeliveryStatus(@Param("ids") List<Long> ids, @Param("from") DeliveryStatus from,
+            @Param("to") DeliveryStatus to);
+
+    @Query("select new com.coffeebean.domain.order.delivery.dto.DeliveryMailTarget(o.id, o.email) " +
+            "from Order o where o.id in :ids and o.deliveryStatus = :status")
+    List<DeliveryMailTarget> findDeliveryMailTargets(@Param("ids") List<Long> ids,
+            @Param("status") DeliveryStatus status);
 
 }
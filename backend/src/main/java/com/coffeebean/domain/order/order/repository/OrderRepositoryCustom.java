@@ -0,0 +1,18 @@
+package com.coffeebean.domain.order.order.repository;
+
+import com.coffeebean.domain.order.order.dto.OrderExportRow;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
+import com.coffeebean.domain.order.order.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.stream.Stream;
+
+public interface OrderRepositoryCustom {
+
+    // 관리자 주문 목록 - 조건 검색 + 페이징 (최신 주문순)
+    Page<Order> search(OrderSearchCondition condition, Pageable pageable);
+
+    // 주문 내보내기 - 주문 id, 주문 상품 id 순서의 forward-only 스트림 (호출하는 쪽에서 트랜잭션 안에서 닫아야 함)
+    Stream<OrderExportRow> streamExportRows(OrderSearchCondition condition, int fetchSize);
+}
@@ -0,0 +1,93 @@
+package com.coffeebean.domain.order.order.repository;
+
+import com.coffeebean.domain.order.order.dto.OrderExportRow;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
+import com.coffeebean.domain.order.order.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private final EntityManager em;
+
+    @Override
+    public Page<Order> search(OrderSearchCondition condition, Pageable pageable) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(condition, params);
+
+        TypedQuery<Order> query = em.createQuery(
+                "select o from Order o" + where + " order by o.id desc", Order.class);
+        params.forEach(query::setParameter);
+        // 주문 상품은 default_batch_fetch_size 로 페이지 단위 in 쿼리 조회
+        List<Order> content = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        TypedQuery<Long> countQuery = em.createQuery("select count(o) from Order o" + where, Long.class);
+        params.forEach(countQuery::setParameter);
+
+        return new PageImpl<>(content, pageable, countQuery.getSingleResult());
+    }
+
+    @Override
+    public Stream<OrderExportRow> streamExportRows(OrderSearchCondition condition, int fetchSize) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(condition, params);
+
+        // 엔티티가 아닌 projection 이라 영속성 컨텍스트에 쌓이지 않는다
+        TypedQuery<OrderExportRow> query = em.createQuery(
+                "select new com.coffeebean.domain.order.order.dto.OrderExportRow(" +
+                        "o.id, o.email, o.orderStatus, o.deliveryStatus, o.orderDate, " +
+                        "oi.id, i.name, oi.count, oi.orderPrice) " +
+                        "from Order o join o.orderItems oi join oi.item i" + where +
+                        " order by o.id, oi.id", OrderExportRow.class);
+        params.forEach(query::setParameter);
+
+        return query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private String where(OrderSearchCondition condition, Map<String, Object> params) {
+        StringBuilder where = new StringBuilder();
+        if (condition.getOrderStatus() != null) {
+            and(where).append("o.orderStatus = :orderStatus");
+            params.put("orderStatus", condition.getOrderStatus());
+        }
+        if (condition.getDeliveryStatus() != null) {
+            and(where).append("o.deliveryStatus = :deliveryStatus");
+            params.put("deliveryStatus", condition.getDeliveryStatus());
+        }
+        if (condition.getFrom() != null) {
+            and(where).append("o.orderDate >= :from");
+            params.put("from", condition.getFrom().atStartOfDay());
+        }
+        if (condition.getTo() != null) {
+            // 종료일 당일 주문까지 포함
+            and(where).append("o.orderDate < :to");
+            params.put("to", condition.getTo().plusDays(1).atStartOfDay());
+        }
+        if (condition.getEmail() != null && !condition.getEmail().isBlank()) {
+            and(where).append("o.email = :email");
+            params.put("email", condition.getEmail().trim());
+        }
+        return where.toString();
+    }
+
+    private StringBuilder and(StringBuilder where) {
+        return where.append(where.isEmpty() ? " where " : " and ");
+    }
+}
@@ -0,0 +1,66 @@
+package com.coffeebean.domain.order.order.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.order.idempotency.service.IdempotencyKeyService;
+import com.coffeebean.domain.order.order.dto.OrderCreateRequest;
+import com.coffeebean.domain.order.order.dto.OrderCreateResponse;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.order.orderItem.service.OrderItemService;
+import com.coffeebean.domain.user.user.service.UserService;
+import com.coffeebean.global.exception.ServiceException;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OrderCheckoutService {
+
+	private final OrderService orderService;
+	private final OrderItemService orderItemService;
+	private final UserService userService;
+	private final IdempotencyKeyService idempotencyKeyService;
+
+	/**
+	 * 주문 등록. 재고 부족 등으로 실패하면 주문 전체가 롤백된다.
+	 *
+	 * @param idempotencyKey 요청의 Idempotency-Key (없으면 null), 주문과 같은 트랜잭션에서 완료 처리
+	 */
+	@Transactional
+	public OrderCreateResponse checkout(OrderCreateRequest orderCreateRequest, String idempotencyKey) {
+		String email = orderCreateRequest.getEmail();
+
+		// 주문에 상품이 하나도 포함되어 있지 않으면 실패
+		if (orderCreateRequest.getItems().isEmpty()) {
+			throw new ServiceException("400-4", "주문에 상품이 추가되지 않았습니다. 먼저 상품을 추가하세요.");
+		}
+
+		// 적립금을 사용하는 주문이면 적립금이 사용 가능한지 검사
+		if (orderCreateRequest.getPoint() != 0 &&
+			!userService.isPointAvailable(orderCreateRequest.getEmail(), orderCreateRequest.getPoint())) {
+			throw new ServiceException("400-5", "적립금을 사용할 수 없습니다.");
+		}
+
+		// Order 생성
+		Order order = orderService.createOrder(email,
+			orderCreateRequest.getAddress().getCity(),
+			orderCreateRequest.getAddress().getStreet(),
+			orderCreateRequest.getAddress().getZipcode());
+
+		// Order의 세부 상품 항목들 OderItem 저장 (재고 부족 시 주문 전체 롤백)
+		List<OrderItem> orderItems = orderItemService.createOrderItem(order, orderCreateRequest.getItems(), email,
+			orderCreateRequest.getCartOrder(), orderCreateRequest.getPoint());
+
+		orderService.sendOrderMail(order);
+
+		OrderCreateResponse response = new OrderCreateResponse(order, orderItems);
+		if (idempotencyKey != null) {
+			idempotencyKeyService.complete(email, idempotencyKey, response);
+		}
+		return response;
+	}
+}
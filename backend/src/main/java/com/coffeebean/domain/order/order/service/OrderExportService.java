@@ -0,0 +1,135 @@
+package com.coffeebean.domain.order.order.service;
+
+import com.coffeebean.domain.order.order.dto.OrderExportFormat;
+import com.coffeebean.domain.order.order.dto.OrderExportRow;
+import com.coffeebean.domain.order.order.dto.OrderItemsDto;
+import com.coffeebean.domain.order.order.dto.OrderListDto;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
+import com.coffeebean.domain.order.order.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 주문 내보내기
+ * 전체 주문을 메모리에 올리지 않고 DB 커서에서 읽은 행을 바로 응답 스트림에 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final String CSV_HEADER =
+            "order_id,email,order_status,delivery_status,order_date,order_item_id,item_name,count,order_price";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * @return 내보낸 주문 수
+     */
+    @Transactional(readOnly = true)
+    public long export(OrderSearchCondition condition, OrderExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try (Stream<OrderExportRow> rows = orderRepository.streamExportRows(condition, fetchSize)) {
+            long count = switch (format) {
+                case NDJSON -> writeNdjson(rows.iterator(), writer);
+                case CSV -> writeCsv(rows.iterator(), writer);
+            };
+            writer.flush();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 내보내기 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 정렬된 행을 주문 단위로 묶어 한 줄씩 쓴다. 메모리에는 현재 주문 1건의 상품만 유지된다.
+    private long writeNdjson(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        long count = 0;
+        OrderExportRow head = null;
+        List<OrderItemsDto> items = new ArrayList<>();
+
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            if (head != null && !head.getOrderId().equals(row.getOrderId())) {
+                writeNdjsonLine(head, items, writer);
+                count++;
+                items = new ArrayList<>();
+            }
+            head = row;
+            items.add(new OrderItemsDto(row.getOrderItemId(), row.getItemName(), row.getCount(), row.getOrderPrice()));
+        }
+        if (head != null) {
+            writeNdjsonLine(head, items, writer);
+            count++;
+        }
+        return count;
+    }
+
+    private void writeNdjsonLine(OrderExportRow head, List<OrderItemsDto> items, Writer writer) throws IOException {
+        OrderListDto order = new OrderListDto(head.getOrderId(), head.getEmail(), head.getOrderStatus(),
+                head.getDeliveryStatus(), head.getOrderDate(), items);
+        writer.write(objectMapper.writeValueAsString(order));
+        writer.write('\n');
+    }
+
+    private long writeCsv(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        long count = 0;
+        Long lastOrderId = null;
+
+        writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            if (!row.getOrderId().equals(lastOrderId)) {
+                lastOrderId = row.getOrderId();
+                count++;
+            }
+            writer.write(String.join(",",
+                    String.valueOf(row.getOrderId()),
+                    csv(row.getEmail()),
+                    row.getOrderStatus().name(),
+                    row.getDeliveryStatus().name(),
+                    String.valueOf(row.getOrderDate()),
+                    String.valueOf(row.getOrderItemId()),
+                    csv(row.getItemName()),
+                    String.valueOf(row.getCount()),
+                    String.valueOf(row.getOrderPrice())));
+            writer.write('\n');
+        }
+        return count;
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        // 스프레드시트에서 수식으로 실행되지 않도록 수식 시작 문자 앞에 ' 추가 (CSV injection)
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
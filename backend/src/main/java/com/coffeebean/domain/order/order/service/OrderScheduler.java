@@ -1,5 +1,8 @@
 package com.coffeebean.domain.order.order.service;
 
+import java.time.LocalDate;
+
+import com.coffeebean.domain.order.delivery.service.DeliveryStatusProcessor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -8,11 +11,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class OrderScheduler {
 
-    private final OrderService orderService;
+    private final DeliveryStatusProcessor deliveryStatusProcessor;
 
     // 배송 상태 변경 스케줄러
     @Scheduled(cron = "0 0 14 * * ?")// 매일 14시 실행
     public void scheduledDelivery() {
-        orderService.updateDeliveryStatus();
+        deliveryStatusProcessor.run(LocalDate.now());
     }
 }
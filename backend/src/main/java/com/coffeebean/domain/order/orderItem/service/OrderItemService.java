@@ -4,23 +4,25 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.coffeebean.domain.cart.cart.entity.Cart;
 import com.coffeebean.domain.cart.cart.service.CartService;
 import com.coffeebean.domain.item.entity.Item;
 import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.item.service.StockService;
 import com.coffeebean.domain.order.order.entity.Order;
 import com.coffeebean.domain.order.orderItem.entity.OrderItem;
 import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+import com.coffeebean.domain.user.pointHitstory.service.PointService;
 import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.repository.UserRepository;
-import com.coffeebean.domain.user.user.service.UserService;
 import com.coffeebean.global.exception.DataNotFoundException;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -31,43 +33,52 @@ public class OrderItemService {
 	private final ItemRepository itemRepository;
 	private final UserRepository userRepository;
 	private final CartService cartService;
-	private final UserService userService;
+	private final PointService pointService;
+	private final StockService stockService;
 
 	@Transactional
+	@Timed("coffeebean.order.items.create")
 	public List<OrderItem> createOrderItem(Order order, Map<Long, Integer> items, String email, boolean isCartOrder,
 		int point) {
-		List<OrderItem> orderItems = new ArrayList<>();
+		// 재고 차감을 먼저 수행하여 재고 부족 시 주문 전체를 롤백
+		stockService.reserve(items);
 
-		for (Long itemId : items.keySet()) {
-			int count = items.get(itemId);
-			Item item = itemRepository.findById(itemId)
-				.orElseThrow(() -> new DataNotFoundException("주문하려는 상품이 존재하지 않습니다."));
+		// 주문 상품을 IN 쿼리 한 번으로 조회
+		Map<Long, Item> itemMap = itemRepository.findAllById(items.keySet()).stream()
+			.collect(Collectors.toMap(Item::getId, Function.identity()));
+
+		List<OrderItem> orderItems = new ArrayList<>(items.size());
+
+		for (Map.Entry<Long, Integer> entry : items.entrySet()) {
+			Item item = itemMap.get(entry.getKey());
+			if (item == null) {
+				throw new DataNotFoundException("주문하려는 상품이 존재하지 않습니다.");
+			}
 
 			OrderItem orderItem = OrderItem.builder()
 				.order(order)
 				.item(item)
-				.count(count)
+				.count(entry.getValue())
 				.orderPrice(item.getPrice())
 				.build();
 
-			orderItemRepository.save(orderItem);
-			item.reduceStock(count);
+			order.getOrderItems().add(orderItem);
 			orderItems.add(orderItem);
 		}
 
-		// 장바구니에서 구매했다면 장바구니에서 해당 상품 삭제
+		// 시퀀스 id 를 사용하므로 insert 가 JDBC 배치로 묶여 실행된다
+		orderItemRepository.saveAll(orderItems);
+
+		// 장바구니에서 구매했다면 장바구니에서 해당 상품 삭제 (bulk delete)
 		Optional<User> opActor = userRepository.findByEmail(email);
 		if (isCartOrder && opActor.isPresent()) {
-			Cart cart = cartService.getMyCart(opActor.get());
-			cart.deleteItems(orderItems.stream()
-				.map(OrderItem::getItem)
-				.collect(Collectors.toList()));
+			cartService.removeItems(opActor.get(), items.keySet());
 		}
 
 		// 포인트를 사용하면 차감
 		if (point != 0 && opActor.isPresent()) {
 			User user = opActor.get();
-			userService.usePoint(user, point, "상품 결제에 적립금 사용");
+			pointService.use(user, point, "상품 결제에 적립금 사용");
 		}
 
 		return orderItems;
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.coffeebean.domain.question.answer.entity.Answer;
 import com.coffeebean.domain.question.answer.repository.AnswerRepository;
 import com.coffeebean.domain.question.question.entity.Question;
+import com.coffeebean.domain.question.question.repository.QuestionRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 public class AnswerService {
 
 	private final AnswerRepository answerRepository;
+	private final QuestionRepository questionRepository;
 
 	@Transactional
 	public void writeAnswer(Question question, String content) {
@@ -24,6 +26,9 @@ public class AnswerService {
 				.question(question)
 			.build()
 		);
+		// 전달받은 질문이 영속 상태가 아닐 수 있으므로 답변 여부는 UPDATE 로 반영
+		question.setAnswered(true);
+		questionRepository.updateAnswered(question.getId(), true);
 	}
 
 	// 답변 Id로 조회
@@ -0,0 +1,24 @@
+package com.coffeebean.domain.question.question;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 질문 목록 검색 조건 (null 인 조건은 적용하지 않음)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionSearchCondition {
+
+	private Long itemId;
+
+	private Boolean answered; // 답변 여부
+
+	public static QuestionSearchCondition ofItem(Long itemId) {
+		QuestionSearchCondition condition = new QuestionSearchCondition();
+		condition.setItemId(itemId);
+		return condition;
+	}
+}
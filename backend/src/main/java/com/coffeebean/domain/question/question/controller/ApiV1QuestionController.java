@@ -12,11 +12,13 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import com.coffeebean.domain.question.answer.service.AnswerService;
+import com.coffeebean.domain.question.question.QuestionSearchCondition;
 import com.coffeebean.domain.question.question.dto.QuestionDto;
 import com.coffeebean.domain.question.question.entity.Question;
 import com.coffeebean.domain.question.question.service.QuestionService;
 import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.service.UserService;
+import com.coffeebean.global.dto.CursorPage;
 import com.coffeebean.global.dto.RsData;
 import com.coffeebean.global.exception.ServiceException;
 
@@ -30,6 +32,8 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/v1/questions")
 public class ApiV1QuestionController {
 
+	private static final int MAX_QUESTION_PAGE_SIZE = 100;
+
 	private final QuestionService questionService;
 	private final UserService userService;
 	private final AnswerService answerService;
@@ -74,13 +78,12 @@ public class ApiV1QuestionController {
 		);
 	}
 
-	// 질문 목록 조회
+	// 질문 목록 조회 (작성순 최대 100개, 이후는 커서 조회 사용)
 	@GetMapping
 	public RsData<List<QuestionDto>> getQuestions() {
 
-		List<QuestionDto> questionLists = questionService.getQuestions().stream()
-			.map(QuestionDto::new)
-			.toList();
+		List<QuestionDto> questionLists = questionService.getQuestionsByCursor(
+			new QuestionSearchCondition(), null, MAX_QUESTION_PAGE_SIZE, "asc").getContent();
 
 		return new RsData<>(
 			"200-1",
@@ -89,6 +92,36 @@ public class ApiV1QuestionController {
 		);
 	}
 
+	// 질문 목록 조회 - 커서 (itemId, answered 로 거를 수 있음 / 첫 페이지는 cursor 를 빈 값으로 요청)
+	@GetMapping(params = "cursor")
+	public RsData<CursorPage<QuestionDto>> getQuestionsByCursor(
+		@ModelAttribute QuestionSearchCondition condition,
+		@RequestParam(defaultValue = "") String cursor,
+		@RequestParam(defaultValue = "20") int size,
+		@RequestParam(defaultValue = "desc") String direction
+	) {
+		return new RsData<>(
+			"200-1",
+			"질문 목록 조회가 완료되었습니다.",
+			questionService.getQuestionsByCursor(condition, cursor, size, direction)
+		);
+	}
+
+	// 답변 대기열 - 관리자 (미답변 질문을 먼저 오래된 순으로, 이후 답변된 질문)
+	@AdminOnly
+	@GetMapping("/queue")
+	public RsData<CursorPage<QuestionDto>> getQuestionQueue(
+		@ModelAttribute QuestionSearchCondition condition,
+		@RequestParam(defaultValue = "") String cursor,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return new RsData<>(
+			"200-1",
+			"답변 대기 질문 목록 조회가 완료되었습니다.",
+			questionService.getQuestionQueue(condition, cursor, size)
+		);
+	}
+
 
 	// 질문 삭제 - 유저
 	@DeleteMapping("/{id}")
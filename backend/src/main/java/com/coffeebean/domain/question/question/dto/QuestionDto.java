@@ -18,6 +18,7 @@ public class QuestionDto {
 	String content;
 	LocalDateTime createDate;
 	LocalDateTime modifyDate;
+	boolean answered;
 	AnswerDto answer;
 
 	@Getter(AccessLevel.PUBLIC)
@@ -43,6 +44,7 @@ public class QuestionDto {
 		this.content = question.getContent();
 		this.createDate = question.getCreateDate();
 		this.modifyDate = question.getModifyDate();
+		this.answered = question.getAnswer() != null;
 
 		// answer가 존재하면 값을 채우고, 없으면 "answer": null
 		if (question.getAnswer() != null) {
@@ -53,4 +55,22 @@ public class QuestionDto {
 			);
 		}
 	}
+
+	// 목록 조회용 프로젝션 (엔티티를 읽지 않고 작성자 이름, 답변까지 한 번에 조회)
+	public QuestionDto(Long id, Long itemId, String name, String subject, String content,
+		LocalDateTime createDate, LocalDateTime modifyDate, boolean answered,
+		Long answerId, String answerContent, LocalDateTime answerCreateDate, LocalDateTime answerModifyDate) {
+		this.id = id;
+		this.itemId = itemId;
+		this.name = name;
+		this.subject = subject;
+		this.content = content;
+		this.createDate = createDate;
+		this.modifyDate = modifyDate;
+		this.answered = answered;
+
+		if (answerId != null) {
+			this.answer = new AnswerDto(answerContent, answerCreateDate, answerModifyDate);
+		}
+	}
 }
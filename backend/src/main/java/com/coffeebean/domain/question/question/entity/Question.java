@@ -2,6 +2,7 @@ package com.coffeebean.domain.question.question.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,10 +19,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,6 +39,12 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+	// 상품별 질문 목록 (작성일, id) keyset
+	@Index(name = "idx_question_item_create_date", columnList = "item_id, create_date, id"),
+	// 관리자 답변 대기열 (미답변 먼저, 오래된 순)
+	@Index(name = "idx_question_answered_create_date", columnList = "answered, create_date, id")
+})
 public class Question {
 
 	@Id
@@ -51,6 +60,11 @@ public class Question {
 	@OneToOne(mappedBy = "question", cascade = CascadeType.ALL, orphanRemoval = true)
 	private Answer answer;
 
+	// 답변 여부 (목록/대기열 조회 시 answer 테이블을 읽지 않고 정렬, 필터링하기 위한 비정규화 컬럼)
+	@ColumnDefault("false")
+	@Column(nullable = false)
+	private boolean answered;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "author_id", nullable = false)
 	private User author;
@@ -61,6 +75,7 @@ public class Question {
 
 	@CreatedDate
 	@Setter(AccessLevel.PRIVATE)
+	@Column(name = "create_date")
 	private LocalDateTime createDate;
 
 	@LastModifiedDate
@@ -69,5 +84,6 @@ public class Question {
 
 	public void deleteAnswer() {
 		answer = null;
+		answered = false;
 	}
 }
@@ -1,23 +1,29 @@
 package com.coffeebean.domain.question.question.repository;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.coffeebean.domain.question.question.entity.Question;
 
 @Repository
-public interface QuestionRepository extends JpaRepository<Question, Long> {
+public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionRepositoryCustom {
 
 	@EntityGraph(attributePaths = {"author", "answer"})
 	Optional<Question> findById(Long id);
 
-	@EntityGraph(attributePaths = {"author", "answer"})
-	List<Question> findAll();
+	@Modifying
+	@Query("update Question q set q.answered = :answered where q.id = :id")
+	int updateAnswered(@Param("id") Long id, @Param("answered") boolean answered);
 
-	@EntityGraph(attributePaths = {"author", "answer"})
-	List<Question> findByItemId(Long itemId);
+	// answered 컬럼 도입 이전에 답변된 질문 보정
+	@Modifying
+	@Query("update Question q set q.answered = true "
+		+ "where q.answered = false and exists (select a.id from Answer a where a.question = q)")
+	int fillAnsweredFlags();
 }
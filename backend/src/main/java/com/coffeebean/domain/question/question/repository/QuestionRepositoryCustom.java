@@ -0,0 +1,28 @@
+package com.coffeebean.domain.question.question.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.coffeebean.domain.question.question.QuestionSearchCondition;
+import com.coffeebean.domain.question.question.dto.QuestionDto;
+
+public interface QuestionRepositoryCustom {
+
+	/**
+	 * 질문 목록 keyset 조회. (작성일, id) 가 커서보다 뒤인 질문을 limit 개까지 조회한다.
+	 *
+	 * @param condition      검색 조건
+	 * @param desc           최신순 여부
+	 * @param lastCreateDate 이전 페이지 마지막 질문의 작성일 (첫 페이지는 null)
+	 * @param lastId         이전 페이지 마지막 질문의 id (첫 페이지는 null)
+	 * @param limit          조회할 최대 개수
+	 */
+	List<QuestionDto> findAllAfter(QuestionSearchCondition condition, boolean desc, LocalDateTime lastCreateDate,
+		Long lastId, int limit);
+
+	/**
+	 * 답변 대기열 keyset 조회. 미답변 질문을 먼저, 각각 오래된 순으로 (답변 여부, 작성일, id) 가 커서보다 뒤인 질문을 조회한다.
+	 */
+	List<QuestionDto> findQueueAfter(QuestionSearchCondition condition, Boolean lastAnswered,
+		LocalDateTime lastCreateDate, Long lastId, int limit);
+}
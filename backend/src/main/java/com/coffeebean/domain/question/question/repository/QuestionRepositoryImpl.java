@@ -0,0 +1,87 @@
+package com.coffeebean.domain.question.question.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.coffeebean.domain.question.question.QuestionSearchCondition;
+import com.coffeebean.domain.question.question.dto.QuestionDto;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
+
+	// 작성자 이름, 답변은 join 으로 함께 가져오고 상품은 FK 값만 읽는다
+	private static final String SELECT = "select new com.coffeebean.domain.question.question.dto.QuestionDto("
+		+ "q.id, q.item.id, u.name, q.subject, q.content, q.createDate, q.modifyDate, q.answered,"
+		+ " a.id, a.content, a.createDate, a.modifyDate)"
+		+ " from Question q join q.author u left join q.answer a";
+
+	private final EntityManager em;
+
+	@Override
+	public List<QuestionDto> findAllAfter(QuestionSearchCondition condition, boolean desc,
+		LocalDateTime lastCreateDate, Long lastId, int limit) {
+		Map<String, Object> params = new LinkedHashMap<>();
+		List<String> where = where(condition, params);
+
+		if (lastId != null) {
+			// (createDate, id) > (:lastCreateDate, :lastId)
+			String op = desc ? "<" : ">";
+			where.add("(q.createDate " + op + " :lastCreateDate"
+				+ " or (q.createDate = :lastCreateDate and q.id " + op + " :lastId))");
+			params.put("lastCreateDate", lastCreateDate);
+			params.put("lastId", lastId);
+		}
+
+		String order = desc ? " desc" : " asc";
+		return query(where, "q.createDate" + order + ", q.id" + order, params, limit);
+	}
+
+	@Override
+	public List<QuestionDto> findQueueAfter(QuestionSearchCondition condition, Boolean lastAnswered,
+		LocalDateTime lastCreateDate, Long lastId, int limit) {
+		Map<String, Object> params = new LinkedHashMap<>();
+		List<String> where = where(condition, params);
+
+		if (lastId != null) {
+			// (answered, createDate, id) > (:lastAnswered, :lastCreateDate, :lastId)
+			where.add("(q.answered > :lastAnswered or (q.answered = :lastAnswered and ("
+				+ "q.createDate > :lastCreateDate"
+				+ " or (q.createDate = :lastCreateDate and q.id > :lastId))))");
+			params.put("lastAnswered", lastAnswered);
+			params.put("lastCreateDate", lastCreateDate);
+			params.put("lastId", lastId);
+		}
+
+		return query(where, "q.answered asc, q.createDate asc, q.id asc", params, limit);
+	}
+
+	private List<QuestionDto> query(List<String> where, String orderBy, Map<String, Object> params, int limit) {
+		String jpql = SELECT
+			+ (where.isEmpty() ? "" : " where " + String.join(" and ", where))
+			+ " order by " + orderBy;
+
+		TypedQuery<QuestionDto> query = em.createQuery(jpql, QuestionDto.class).setMaxResults(limit);
+		params.forEach(query::setParameter);
+		return query.getResultList();
+	}
+
+	private List<String> where(QuestionSearchCondition condition, Map<String, Object> params) {
+		List<String> where = new ArrayList<>();
+		if (condition.getItemId() != null) {
+			where.add("q.item.id = :itemId");
+			params.put("itemId", condition.getItemId());
+		}
+		if (condition.getAnswered() != null) {
+			where.add("q.answered = :answered");
+			params.put("answered", condition.getAnswered());
+		}
+		return where;
+	}
+}
@@ -1,20 +1,30 @@
 package com.coffeebean.domain.question.question.service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.coffeebean.domain.item.entity.Item;
 import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.domain.question.question.QuestionSearchCondition;
+import com.coffeebean.domain.question.question.dto.QuestionDto;
 import com.coffeebean.domain.question.question.entity.Question;
 import com.coffeebean.domain.question.question.repository.QuestionRepository;
 import com.coffeebean.domain.user.user.enitity.User;
+import com.coffeebean.global.dto.CursorPage;
 import com.coffeebean.global.exception.DataNotFoundException;
 import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.util.CursorUtil;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class QuestionService {
@@ -43,9 +53,69 @@ public class QuestionService {
 			.orElseThrow(() -> new DataNotFoundException("존재하지 않는 질문입니다."));
 	}
 
+	// 질문 목록 - 커서 (작성일순, 첫 페이지는 cursor 를 비워서 요청)
 	@Transactional(readOnly = true)
-	public List<Question> getQuestions() {
-		return questionRepository.findAll();
+	public CursorPage<QuestionDto> getQuestionsByCursor(QuestionSearchCondition condition, String cursor, int size,
+		String direction) {
+		String normalizedDirection = direction.equalsIgnoreCase("asc") ? "asc" : "desc";
+		int limit = Math.clamp(size, 1, 100);
+
+		LocalDateTime lastCreateDate = null;
+		Long lastId = null;
+		if (cursor != null && !cursor.isBlank()) {
+			// 커서 = (정렬 방향, 마지막 작성일, 마지막 id)
+			String[] values = CursorUtil.decode(cursor, 3);
+			if (!values[0].equals(normalizedDirection)) {
+				throw new ServiceException("400-7", "잘못된 커서입니다.");
+			}
+			try {
+				lastCreateDate = LocalDateTime.parse(values[1]);
+				lastId = Long.parseLong(values[2]);
+			} catch (NumberFormatException | DateTimeParseException e) {
+				throw new ServiceException("400-7", "잘못된 커서입니다.");
+			}
+		}
+
+		List<QuestionDto> fetched = questionRepository.findAllAfter(condition, normalizedDirection.equals("desc"),
+			lastCreateDate, lastId, limit + 1);
+
+		return CursorPage.of(
+			fetched,
+			limit,
+			question -> CursorUtil.encode(normalizedDirection, question.getCreateDate(), question.getId()),
+			null
+		);
+	}
+
+	// 답변 대기열 - 커서 (미답변 질문을 먼저, 오래된 순)
+	@Transactional(readOnly = true)
+	public CursorPage<QuestionDto> getQuestionQueue(QuestionSearchCondition condition, String cursor, int size) {
+		int limit = Math.clamp(size, 1, 100);
+
+		Boolean lastAnswered = null;
+		LocalDateTime lastCreateDate = null;
+		Long lastId = null;
+		if (cursor != null && !cursor.isBlank()) {
+			// 커서 = (마지막 답변 여부, 마지막 작성일, 마지막 id)
+			String[] values = CursorUtil.decode(cursor, 3);
+			try {
+				lastAnswered = Boolean.parseBoolean(values[0]);
+				lastCreateDate = LocalDateTime.parse(values[1]);
+				lastId = Long.parseLong(values[2]);
+			} catch (NumberFormatException | DateTimeParseException e) {
+				throw new ServiceException("400-7", "잘못된 커서입니다.");
+			}
+		}
+
+		List<QuestionDto> fetched = questionRepository.findQueueAfter(condition, lastAnswered, lastCreateDate,
+			lastId, limit + 1);
+
+		return CursorPage.of(
+			fetched,
+			limit,
+			question -> CursorUtil.encode(question.isAnswered(), question.getCreateDate(), question.getId()),
+			null
+		);
 	}
 
 	@Transactional
@@ -62,7 +132,13 @@ public class QuestionService {
 		question.deleteAnswer();
 	}
 
-	public List<Question> getQuestionsByItemId(Long itemId) {
-		return questionRepository.findByItemId(itemId);
+	// answered 컬럼 도입 이전에 답변된 질문 보정
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void fillAnsweredFlags() {
+		int filled = questionRepository.fillAnsweredFlags();
+		if (filled > 0) {
+			log.info("질문 답변 여부 보정 완료 - questions={}", filled);
+		}
 	}
 }
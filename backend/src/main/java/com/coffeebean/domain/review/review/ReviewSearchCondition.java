@@ -0,0 +1,35 @@
+package com.coffeebean.domain.review.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 리뷰 목록 검색 조건 (null 인 조건은 적용하지 않음)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSearchCondition {
+
+    private Long itemId;
+
+    private Integer rating; // 별점 (1 ~ 5)
+
+    private Boolean hasPhoto; // 포토 리뷰 여부
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from; // 작성일 시작 (포함)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to; // 작성일 끝 (포함)
+
+    public static ReviewSearchCondition ofItem(Long itemId) {
+        ReviewSearchCondition condition = new ReviewSearchCondition();
+        condition.setItemId(itemId);
+        return condition;
+    }
+}
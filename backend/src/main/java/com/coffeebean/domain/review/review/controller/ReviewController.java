@@ -3,6 +3,7 @@ package com.coffeebean.domain.review.review.controller;
 import com.coffeebean.domain.review.review.ReviewRequest;
 import com.coffeebean.domain.review.review.ReviewableOrderItemDto;
 import com.coffeebean.domain.review.review.entity.ReviewDetailDto;
+import com.coffeebean.domain.review.review.service.FileStorageService;
 import com.coffeebean.domain.review.review.service.ReviewService;
 import com.coffeebean.domain.user.user.service.UserService;
 import com.coffeebean.global.annotation.Login;
@@ -14,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -25,6 +27,7 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final UserService userService;
+    private final FileStorageService fileStorageService;
 
     /**
      * 작성 가능한 리뷰 조회 API
@@ -65,7 +68,7 @@ public class ReviewController {
                                               @Login CustomUserDetails userDetails,
                                               @Validated @ModelAttribute ReviewRequest reviewRequest) {
 
-        reviewService.writeReivew(orderItemId, reviewRequest);
+        reviewService.writeReivew(orderItemId, reviewRequest, storeImage(reviewRequest));
         return ResponseEntity.ok("리뷰가 성공적으로 작성되었습니다!");
     }
 
@@ -75,10 +78,19 @@ public class ReviewController {
                                                @Login CustomUserDetails userDetails,
                                                @Validated @ModelAttribute ReviewRequest reviewRequest) {
         Long userId = userDetails.getUserId();
-        reviewService.modifyReview(userId, reviewId, reviewRequest);
+        reviewService.modifyReview(userId, reviewId, reviewRequest, storeImage(reviewRequest));
         return ResponseEntity.ok("리뷰가 수정되었습니다.");
     }
 
+    // 사진 파일은 트랜잭션 밖에서 저장하고 리뷰에는 파일명(내용 해시)만 기록
+    private String storeImage(ReviewRequest reviewRequest) {
+        MultipartFile file = reviewRequest.getOriginalFileName();
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        return fileStorageService.storeFile(file);
+    }
+
     // 리뷰 삭제
     @DeleteMapping("/{reviewId}")
     public ResponseEntity<String> deleteReview(@Login CustomUserDetails userDetails,
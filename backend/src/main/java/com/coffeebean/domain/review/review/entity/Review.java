@@ -26,6 +26,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+	// 상품별 최신순 / 별점순 keyset 조회용
+	@Index(name = "idx_review_item_create_date", columnList = "item_id, create_date, review_id"),
+	@Index(name = "idx_review_item_rating", columnList = "item_id, rating, review_id"),
+	// 관리자 전체 조회 (최신순, 별점 필터) 용
+	@Index(name = "idx_review_create_date", columnList = "create_date, review_id"),
+	@Index(name = "idx_review_rating_create_date", columnList = "rating, create_date, review_id")
+})
 public class Review {
 
 	@Id
@@ -41,6 +49,10 @@ public class Review {
 	@JoinColumn(name = "order_item_id")
 	private OrderItem orderItem;
 
+	// 상품별 조회 시 review -> order_item -> item 조인을 피하기 위한 비정규화 컬럼
+	@Column(name = "item_id")
+	private Long itemId;
+
 	@Lob
 	@Column(columnDefinition = "TEXT")
 	private String content;    // 리뷰 내용
@@ -50,6 +62,7 @@ public class Review {
 	private int rating;    // 리뷰 별점
 
 	@CreatedDate
+	@Column(name = "create_date")
 	private LocalDateTime createDate; // 리뷰 작성 날짜
 
 	@Column(nullable = true)  // 사용자 입력 URL
@@ -70,6 +83,13 @@ public class Review {
 		this.rating = rating;
 	}
 
+	@PrePersist
+	private void fillItemId() {
+		if (itemId == null && orderItem != null) {
+			itemId = orderItem.getItem().getId();
+		}
+	}
+
 	// 리뷰 내용 수정
 	public void update(String content, int rating, String generatedFileName) {
 		if (rating < 1 || rating > 5) {
@@ -1,7 +1,7 @@
 package com.coffeebean.domain.review.review.entity;
 
 
-import lombok.AllArgsConstructor;
+import com.coffeebean.global.file.ImageVariant;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,7 +11,6 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 // 리뷰 내역 간단 조회 DTO
 public class ReviewDetailDto {
 
@@ -20,5 +19,16 @@ public class ReviewDetailDto {
     private int rating;
     private LocalDateTime createDate;
     private String imageUrl;
+    private String thumbnailUrl; // 목록용 리사이즈 이미지
+    private String mediumUrl;
 
+    public ReviewDetailDto(Long reviewId, String content, int rating, LocalDateTime createDate, String imageUrl) {
+        this.reviewId = reviewId;
+        this.content = content;
+        this.rating = rating;
+        this.createDate = createDate;
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = ImageVariant.THUMBNAIL.url(imageUrl);
+        this.mediumUrl = ImageVariant.MEDIUM.url(imageUrl);
+    }
 }
@@ -2,11 +2,11 @@ package com.coffeebean.domain.review.review.respository;
 
 import com.coffeebean.domain.review.review.entity.Review;
 import com.coffeebean.domain.review.review.entity.ReviewDetailDto;
-import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
 import com.coffeebean.domain.user.user.enitity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,7 +14,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
     Long user(User user);
 
     @Query("SELECT r FROM Review r WHERE r.user.id = :userId")
@@ -23,9 +23,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r.orderItem.id FROM Review r WHERE r.user.id = :userId")
     List<Long> findReviewedOrderItemIdsByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT new com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto(r.id, r.content, r.rating, r.createDate) " +
-            "FROM Review r JOIN r.orderItem oi JOIN oi.item i WHERE i.id = :itemId")
-    List<ReviewDetailNotImageDto> findByItemId(@Param("itemId") Long itemId);
-
-    List<Review> findAllByOrderByCreateDateDesc();
+    // item_id 컬럼 도입 이전에 작성된 리뷰의 상품 id 채우기
+    @Modifying
+    @Query("UPDATE Review r SET r.itemId = (SELECT oi.item.id FROM OrderItem oi WHERE oi = r.orderItem) " +
+            "WHERE r.itemId IS NULL AND r.orderItem IS NOT NULL")
+    int fillMissingItemIds();
 }
@@ -0,0 +1,22 @@
+package com.coffeebean.domain.review.review.respository;
+
+import com.coffeebean.domain.review.review.ReviewSearchCondition;
+import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
+
+import java.util.List;
+
+public interface ReviewRepositoryCustom {
+
+    /**
+     * 리뷰 목록 keyset 조회. (정렬 키, review_id) 가 커서보다 뒤인 리뷰를 limit 개까지 조회한다.
+     *
+     * @param condition 검색 조건
+     * @param sortBy    정렬 기준 (createDate, rating)
+     * @param desc      내림차순 여부
+     * @param lastValue 이전 페이지 마지막 리뷰의 정렬 키 값 (첫 페이지는 null)
+     * @param lastId    이전 페이지 마지막 리뷰의 id (첫 페이지는 null)
+     * @param limit     조회할 최대 개수
+     */
+    List<ReviewDetailNotImageDto> findAllAfter(ReviewSearchCondition condition, String sortBy, boolean desc,
+            Object lastValue, Long lastId, int limit);
+}
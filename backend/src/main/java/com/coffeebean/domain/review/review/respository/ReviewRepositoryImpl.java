@@ -0,0 +1,77 @@
+package com.coffeebean.domain.review.review.respository;
+
+import com.coffeebean.domain.review.review.ReviewSearchCondition;
+import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+    // 정렬 컬럼명이 JPQL 에 그대로 들어가므로 인덱스가 있는 컬럼만 허용
+    public static final Set<String> KEYSET_SORT_KEYS = Set.of("createDate", "rating");
+
+    private final EntityManager em;
+
+    @Override
+    public List<ReviewDetailNotImageDto> findAllAfter(ReviewSearchCondition condition, String sortBy, boolean desc,
+            Object lastValue, Long lastId, int limit) {
+        if (!KEYSET_SORT_KEYS.contains(sortBy)) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortBy);
+        }
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        List<String> where = where(condition, params);
+
+        if (lastId != null) {
+            // (sortKey, id) > (:lastValue, :lastId)
+            String op = desc ? "<" : ">";
+            where.add("(r." + sortBy + " " + op + " :lastValue"
+                    + " or (r." + sortBy + " = :lastValue and r.id " + op + " :lastId))");
+            params.put("lastValue", lastValue);
+            params.put("lastId", lastId);
+        }
+
+        String order = desc ? " desc" : " asc";
+        String jpql = "select new com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto("
+                + "r.id, r.content, r.rating, r.createDate) from Review r"
+                + (where.isEmpty() ? "" : " where " + String.join(" and ", where))
+                + " order by r." + sortBy + order + ", r.id" + order;
+
+        TypedQuery<ReviewDetailNotImageDto> query = em.createQuery(jpql, ReviewDetailNotImageDto.class)
+                .setMaxResults(limit);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    private List<String> where(ReviewSearchCondition condition, Map<String, Object> params) {
+        List<String> where = new ArrayList<>();
+        if (condition.getItemId() != null) {
+            where.add("r.itemId = :itemId");
+            params.put("itemId", condition.getItemId());
+        }
+        if (condition.getRating() != null) {
+            where.add("r.rating = :rating");
+            params.put("rating", condition.getRating());
+        }
+        if (condition.getHasPhoto() != null) {
+            where.add(condition.getHasPhoto() ? "r.generatedFileName is not null" : "r.generatedFileName is null");
+        }
+        if (condition.getFrom() != null) {
+            where.add("r.createDate >= :from");
+            params.put("from", condition.getFrom().atStartOfDay());
+        }
+        if (condition.getTo() != null) {
+            where.add("r.createDate < :to");
+            params.put("to", condition.getTo().plusDays(1).atStartOfDay());
+        }
+        return where;
+    }
+}
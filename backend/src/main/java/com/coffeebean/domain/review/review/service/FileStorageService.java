@@ -1,30 +1,33 @@
 package com.coffeebean.domain.review.review.service;
 
-import com.coffeebean.global.exception.FileNotFoundException;
 import com.coffeebean.global.exception.FileStorageException;
+import com.coffeebean.global.file.ImageVariantProcessor;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
 
+    private final ImageVariantProcessor imageVariantProcessor;
+
     @Value("${file.upload-dir}")  // yml에서 주입
     private String uploadDir;
 
@@ -38,43 +41,56 @@ public class FileStorageService {
         }
     }
 
-    // 서버에 사진 파일 저장
+    /**
+     * 서버에 사진 파일 저장 - 내용의 SHA-256 해시를 파일명으로 사용 (해시.확장자)
+     * 같은 내용의 파일은 한 번만 저장되고, 리사이즈 버전은 요청 스레드 밖에서 만든다.
+     *
+     * @return 저장된 파일명
+     */
     public String storeFile(MultipartFile file) {
-        String fileName = String.format("%s.%s",
-                UUID.randomUUID(),
-                getFileExtension(file.getOriginalFilename())
-        );
-        log.info("변경된 file name = {}", fileName);
-
-        Path targetLocation = Paths.get(uploadDir).resolve(fileName);
+        Path root = Paths.get(uploadDir);
+        Path temp = null;
         try {
-            Files.copy(file.getInputStream(), targetLocation,
-                    StandardCopyOption.REPLACE_EXISTING);
-            log.info("저장된 파일 경로 = {}", targetLocation);
+            // 해시를 계산하면서 임시 파일로 복사
+            temp = Files.createTempFile(root, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String extension = getFileExtension(file.getOriginalFilename());
+            String fileName = HexFormat.of().formatHex(digest.digest()) + (extension == null ? "" : "." + extension);
+            Path targetLocation = root.resolve(fileName);
+
+            if (Files.exists(targetLocation)) {
+                log.info("이미 저장된 파일 = {}", fileName);
+            } else {
+                Files.move(temp, targetLocation, StandardCopyOption.ATOMIC_MOVE);
+                log.info("저장된 파일 경로 = {}", targetLocation);
+            }
+
+            imageVariantProcessor.submit(fileName);
             return fileName;
-        } catch (IOException e) {
-            throw new FileStorageException("파일 저장 실패: " + fileName);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new FileStorageException("파일 저장 실패: " + file.getOriginalFilename());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("임시 파일 삭제 실패 = {}", temp);
+                }
+            }
         }
     }
 
     // 파일 확장자 추출해서 뒤에 붙이기 (확장자명만 봐도 어떤 건지 알 수 있게끔)
+    // 파일명에 그대로 들어가므로 영문/숫자 확장자만 허용
     private String getFileExtension(String fileName) {
-        return StringUtils.getFilenameExtension(fileName);
-    }
-
-    // 사진 파일 조회
-    public Resource loadFile(String fileName) {
-        try {
-            Path filePath = Paths.get(uploadDir).resolve(fileName).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new FileNotFoundException("파일을 찾을 수 없습니다. : " + fileName);
-            }
-        } catch (MalformedURLException e) {
-            throw new FileStorageException("잘못된 파일 경로입니다: " + fileName);
+        String extension = StringUtils.getFilenameExtension(fileName);
+        if (extension == null || !extension.matches("[A-Za-z0-9]{1,10}")) {
+            return null;
         }
+        return extension.toLowerCase();
     }
 }
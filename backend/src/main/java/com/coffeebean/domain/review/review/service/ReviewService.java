@@ -4,16 +4,25 @@ import com.coffeebean.domain.order.order.DeliveryStatus;
 import com.coffeebean.domain.order.orderItem.entity.OrderItem;
 import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
 import com.coffeebean.domain.review.review.ReviewRequest;
+import com.coffeebean.domain.review.review.ReviewSearchCondition;
 import com.coffeebean.domain.review.review.ReviewableOrderItemDto;
 import com.coffeebean.domain.review.review.entity.Review;
 import com.coffeebean.domain.review.review.entity.ReviewDetailDto;
 import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
 import com.coffeebean.domain.review.review.respository.ReviewRepository;
+import com.coffeebean.domain.review.review.respository.ReviewRepositoryImpl;
+import com.coffeebean.domain.review.stats.service.ItemReviewStatsService;
+import com.coffeebean.domain.user.pointHitstory.service.PointService;
 import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.repository.UserRepository;
+import com.coffeebean.global.dto.CursorPage;
+import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +31,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,7 +45,8 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
-    private final FileStorageService fileStorageService;
+    private final ItemReviewStatsService itemReviewStatsService;
+    private final PointService pointService;
 
     @Value("upload/")
     private String uploadDir;
@@ -45,7 +56,7 @@ public class ReviewService {
      * 상품 주문을 기준으로 이틀 후면 무조건 도착한다고 가정
      * 상품 주문 날짜 + 9 일 -> 리뷰 작성 가능일
      */
-    public void writeReivew(Long orderItemId, ReviewRequest reviewRequest) {
+    public void writeReivew(Long orderItemId, ReviewRequest reviewRequest, String generatedFileName) {
         // 주문 아이템 조회
         OrderItem orderItem = orderItemRepository.findById(orderItemId)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 주문입니다."));
@@ -57,10 +68,9 @@ public class ReviewService {
             User user = userRepository.findByEmail(email)
                     .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자입니다."));
 
-            String generatedFileName = getGeneratedFileName(reviewRequest);
-
             Review review = buildReview(reviewRequest, generatedFileName, orderItem, user);
             reviewRepository.save(review);
+            itemReviewStatsService.reviewAdded(orderItem.getItem().getId(), review.getRating());
 
             // 주문 아이템 상태 변경
             orderItem.markAsWritten();
@@ -70,19 +80,11 @@ public class ReviewService {
         }
     }
 
-    private String getGeneratedFileName(ReviewRequest reviewRequest) {
-        String generatedFileName = null;
-        if (reviewRequest.getOriginalFileName() != null && !reviewRequest.getOriginalFileName().isEmpty()) {
-            generatedFileName = fileStorageService.storeFile(reviewRequest.getOriginalFileName());
-        }
-        return generatedFileName;
-    }
-
     private Review buildReview(ReviewRequest reviewRequest, String generatedFileName, OrderItem orderItem, User user) {
         return Review.builder()
                 .content(reviewRequest.getContent())
                 .rating(reviewRequest.getRating())
-                .originalFileName(generatedFileName == null ? null : reviewRequest.getOriginalFileName().toString())
+                .originalFileName(generatedFileName == null ? null : reviewRequest.getOriginalFileName().getOriginalFilename())
                 .generatedFileName(generatedFileName)
                 .orderItem(orderItem)
                 .user(user)
@@ -92,11 +94,11 @@ public class ReviewService {
     private void pointAdded(OrderItem orderItem, User user, String generatedFileName) {
         int pointsToAdd = (int) (orderItem.getTotalPrice() * 0.1);
         String description = "리뷰 작성 포인트 적립 - 주문 상품 번호: " + orderItem.getId();
-        user.addPoints(pointsToAdd, description);
+        pointService.earn(user, pointsToAdd, description);
 
         if (generatedFileName != null) {
             String photoDescription = "포로 리뷰 작성 추가 포인트 적립 - 주문 상품 번호: " + orderItem.getId();
-            user.addPoints(2000, photoDescription);
+            pointService.earn(user, 2000, photoDescription);
         }
     }
 
@@ -157,14 +159,16 @@ public class ReviewService {
                 )).toList();
     }
 
-    public void modifyReview(Long userId, Long reviewId, ReviewRequest reviewRequest) {
+    public void modifyReview(Long userId, Long reviewId, ReviewRequest reviewRequest, String generatedFileName) {
 
         Review review = reviewRepository.findById(reviewId).orElseThrow(() -> new IllegalArgumentException("해당 리뷰가 존재하지 않습니다."));
 
         if (!review.getUser().getId().equals(userId)) {
             throw new IllegalStateException("본인의 리뷰만 수정할 수 있습니다.");
         }
-        review.update(reviewRequest.getContent(), reviewRequest.getRating(), getGeneratedFileName(reviewRequest));
+        int beforeRating = review.getRating();
+        review.update(reviewRequest.getContent(), reviewRequest.getRating(), generatedFileName);
+        itemReviewStatsService.ratingChanged(review.getOrderItem().getItem().getId(), beforeRating, review.getRating());
     }
 
     public void deleteReview(Long reviewId, Long usreId) {
@@ -175,19 +179,57 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        itemReviewStatsService.reviewRemoved(review.getOrderItem().getItem().getId(), review.getRating());
     }
 
-    // 아이템 id로 리뷰 조회
+    /**
+     * 리뷰 목록 커서 조회 (상품별 / 관리자 공용)
+     * OFFSET 없이 (정렬 키, review_id) 이후의 리뷰만 읽으므로 테이블 크기와 관계없이 한 페이지 비용이 일정하다.
+     */
     @Transactional(readOnly = true)
-    public List<ReviewDetailNotImageDto> getReviewsByItemId(Long itemId) {
-        return reviewRepository.findByItemId(itemId);
+    public CursorPage<ReviewDetailNotImageDto> getReviewsByCursor(ReviewSearchCondition condition, String cursor,
+            int size, String sortBy, String direction) {
+        if (!ReviewRepositoryImpl.KEYSET_SORT_KEYS.contains(sortBy)) {
+            throw new ServiceException("400-1", "정렬 기준은 createDate, rating 중 하나여야 합니다.");
+        }
+
+        String normalizedDirection = direction.equalsIgnoreCase("asc") ? "asc" : "desc";
+        int limit = Math.clamp(size, 1, 100);
+
+        Object lastValue = null;
+        Long lastId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            // 커서 = (정렬 기준, 방향, 마지막 정렬 키 값, 마지막 id)
+            String[] values = CursorUtil.decode(cursor, 4);
+            if (!values[0].equals(sortBy) || !values[1].equals(normalizedDirection)) {
+                throw new ServiceException("400-7", "잘못된 커서입니다.");
+            }
+            try {
+                lastId = Long.parseLong(values[3]);
+                lastValue = sortBy.equals("rating") ? Integer.parseInt(values[2]) : LocalDateTime.parse(values[2]);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new ServiceException("400-7", "잘못된 커서입니다.");
+            }
+        }
+
+        List<ReviewDetailNotImageDto> fetched = reviewRepository.findAllAfter(condition, sortBy,
+                normalizedDirection.equals("desc"), lastValue, lastId, limit + 1);
+
+        return CursorPage.of(
+                fetched,
+                limit,
+                review -> CursorUtil.encode(sortBy, normalizedDirection,
+                        sortBy.equals("rating") ? review.getRating() : review.getCreateDate(), review.getReviewId()),
+                null
+        );
     }
 
-    // 리뷰 전체 조회
-    @Transactional(readOnly = true)
-    public List<ReviewDetailNotImageDto> getAllReviews() {
-        return reviewRepository.findAllByOrderByCreateDateDesc().stream()
-                .map(ReviewDetailNotImageDto::new)
-                .toList();
+    // item_id 컬럼 도입 이전에 작성된 리뷰 보정
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingItemIds() {
+        int filled = reviewRepository.fillMissingItemIds();
+        if (filled > 0) {
+            log.info("리뷰 상품 id 보정 완료 - reviews={}", filled);
+        }
     }
 }
@@ -0,0 +1,32 @@
+package com.coffeebean.domain.review.stats.controller;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coffeebean.domain.review.stats.service.ItemReviewStatsService;
+import com.coffeebean.global.dto.RsData;
+import com.coffeebean.global.security.annotations.AdminOnly;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/review-stats")
+public class ApiV1ItemReviewStatsController {
+
+	private final ItemReviewStatsService itemReviewStatsService;
+
+	// 관리자 - 상품 리뷰 통계 전체 재집계
+	@AdminOnly
+	@PostMapping("/rebuild")
+	public RsData<Long> rebuild() {
+		long items = itemReviewStatsService.rebuild();
+
+		return new RsData<>(
+			"200-1",
+			"%d개 상품의 리뷰 통계가 재집계되었습니다.".formatted(items),
+			items
+		);
+	}
+}
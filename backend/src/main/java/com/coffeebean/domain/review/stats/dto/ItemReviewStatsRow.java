@@ -0,0 +1,23 @@
+package com.coffeebean.domain.review.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리뷰 테이블에서 재집계한 상품별 통계
+@Getter
+@AllArgsConstructor
+public class ItemReviewStatsRow {
+
+	private Long itemId;
+	private Long reviewCount;
+	private Long ratingSum;
+	private Long star1;
+	private Long star2;
+	private Long star3;
+	private Long star4;
+	private Long star5;
+
+	public long[] getStarCounts() {
+		return new long[] {star1, star2, star3, star4, star5};
+	}
+}
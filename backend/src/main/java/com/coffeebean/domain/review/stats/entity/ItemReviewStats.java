@@ -0,0 +1,62 @@
+package com.coffeebean.domain.review.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 리뷰 통계 (리뷰 작성/수정/삭제 시 증감 update 로 갱신)
+ * 상품 목록에서 리뷰 테이블을 읽지 않고 평점 정렬, 필터링을 하기 위한 집계 테이블
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "item_review_stats", indexes = {
+	@Index(name = "idx_item_review_stats_rating", columnList = "average_rating, item_id")
+})
+public class ItemReviewStats {
+
+	@Id
+	@Column(name = "item_id")
+	private Long itemId;
+
+	private long reviewCount; // 리뷰 수
+
+	private long ratingSum; // 별점 합계
+
+	@Column(name = "average_rating")
+	private double averageRating; // 평균 별점 (리뷰가 없으면 0)
+
+	// 별점별 리뷰 수
+	private long star1;
+	private long star2;
+	private long star3;
+	private long star4;
+	private long star5;
+
+	public ItemReviewStats(Long itemId) {
+		this.itemId = itemId;
+	}
+
+	// 1점 ~ 5점 순서의 리뷰 수
+	public long[] getStarCounts() {
+		return new long[] {star1, star2, star3, star4, star5};
+	}
+
+	// 재집계 결과로 덮어쓰기
+	public void reset(long reviewCount, long ratingSum, long[] starCounts) {
+		this.reviewCount = reviewCount;
+		this.ratingSum = ratingSum;
+		this.averageRating = reviewCount == 0 ? 0 : (double)ratingSum / reviewCount;
+		this.star1 = starCounts[0];
+		this.star2 = starCounts[1];
+		this.star3 = starCounts[2];
+		this.star4 = starCounts[3];
+		this.star5 = starCounts[4];
+	}
+}
@@ -0,0 +1,70 @@
+package com.coffeebean.domain.review.stats.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.coffeebean.domain.review.stats.dto.ItemReviewStatsRow;
+import com.coffeebean.domain.review.stats.entity.ItemReviewStats;
+
+import jakarta.persistence.LockModeType;
+
+public interface ItemReviewStatsRepository extends JpaRepository<ItemReviewStats, Long> {
+
+	/**
+	 * 통계 행을 읽지 않고 증감 update 한 번으로 갱신한다. (동시에 작성된 리뷰도 누락 없이 반영)
+	 * 평균은 다른 컬럼보다 먼저 변경 전 값 기준으로 계산한다. (MySQL 은 SET 절을 왼쪽부터 순서대로 적용)
+	 *
+	 * @return 변경된 행 수 (통계 행이 없으면 0)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("update ItemReviewStats s set " +
+		"s.averageRating = case when s.reviewCount + :countDelta > 0 " +
+		"  then (s.ratingSum + :ratingDelta) * 1.0 / (s.reviewCount + :countDelta) else 0 end, " +
+		"s.reviewCount = s.reviewCount + :countDelta, " +
+		"s.ratingSum = s.ratingSum + :ratingDelta, " +
+		"s.star1 = s.star1 + :star1, " +
+		"s.star2 = s.star2 + :star2, " +
+		"s.star3 = s.star3 + :star3, " +
+		"s.star4 = s.star4 + :star4, " +
+		"s.star5 = s.star5 + :star5 " +
+		"where s.itemId = :itemId")
+	int increment(@Param("itemId") Long itemId, @Param("countDelta") long countDelta,
+		@Param("ratingDelta") long ratingDelta, @Param("star1") long star1, @Param("star2") long star2,
+		@Param("star3") long star3, @Param("star4") long star4, @Param("star5") long star5);
+
+	/**
+	 * 통계 행이 없을 때만 빈 행을 만든다. 같은 상품의 첫 리뷰가 동시에 작성되어도 PK 중복으로 실패하지 않는다.
+	 * (H2 는 MODE=MySQL 에서 INSERT IGNORE 지원)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "insert ignore into item_review_stats " +
+		"(item_id, review_count, rating_sum, average_rating, star1, star2, star3, star4, star5) " +
+		"values (:itemId, 0, 0, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+	int insertIfAbsent(@Param("itemId") Long itemId);
+
+	// 재집계 중 같은 상품의 리뷰 통계 증감이 끼어들지 않도록 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from ItemReviewStats s where s.itemId in :itemIds")
+	List<ItemReviewStats> findAllForUpdate(@Param("itemIds") Collection<Long> itemIds);
+
+	@Query("select new com.coffeebean.domain.review.stats.dto.ItemReviewStatsRow(r.itemId, count(r), " +
+		"coalesce(sum(r.rating), 0L), " +
+		"sum(case when r.rating = 1 then 1 else 0 end), " +
+		"sum(case when r.rating = 2 then 1 else 0 end), " +
+		"sum(case when r.rating = 3 then 1 else 0 end), " +
+		"sum(case when r.rating = 4 then 1 else 0 end), " +
+		"sum(case when r.rating = 5 then 1 else 0 end)) " +
+		"from Review r where r.itemId in :itemIds group by r.itemId")
+	List<ItemReviewStatsRow> aggregateByItemIds(@Param("itemIds") Collection<Long> itemIds);
+
+	// 삭제된 상품의 통계 정리
+	@Modifying
+	@Query("delete from ItemReviewStats s where not exists (select 1 from Item i where i.id = s.itemId)")
+	int deleteOrphans();
+}
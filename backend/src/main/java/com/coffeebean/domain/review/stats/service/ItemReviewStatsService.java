@@ -0,0 +1,138 @@
+package com.coffeebean.domain.review.stats.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.item.cache.ItemCatalogCache;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.review.stats.dto.ItemReviewStatsRow;
+import com.coffeebean.domain.review.stats.entity.ItemReviewStats;
+import com.coffeebean.domain.review.stats.repository.ItemReviewStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemReviewStatsService {
+
+	private static final long[] NO_REVIEWS = new long[5];
+
+	private final ItemReviewStatsRepository itemReviewStatsRepository;
+	private final ItemRepository itemRepository;
+	private final ItemCatalogCache itemCatalogCache;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${review.stats.rebuild-chunk-size:500}")
+	private int rebuildChunkSize;
+
+	// 상품 등록 시 빈 통계 행 생성
+	@Transactional
+	public void create(Long itemId) {
+		itemReviewStatsRepository.save(new ItemReviewStats(itemId));
+	}
+
+	@Transactional
+	public void delete(Long itemId) {
+		itemReviewStatsRepository.findById(itemId).ifPresent(itemReviewStatsRepository::delete);
+	}
+
+	@Transactional
+	public void reviewAdded(Long itemId, int rating) {
+		long[] stars = new long[5];
+		stars[rating - 1] = 1;
+		increment(itemId, 1, rating, stars);
+	}
+
+	@Transactional
+	public void reviewRemoved(Long itemId, int rating) {
+		long[] stars = new long[5];
+		stars[rating - 1] = -1;
+		increment(itemId, -1, -rating, stars);
+	}
+
+	@Transactional
+	public void ratingChanged(Long itemId, int before, int after) {
+		if (before == after) {
+			return;
+		}
+		long[] stars = new long[5];
+		stars[before - 1] = -1;
+		stars[after - 1] = 1;
+		increment(itemId, 0, after - before, stars);
+	}
+
+	private void increment(Long itemId, long countDelta, long ratingDelta, long[] stars) {
+		int updated = itemReviewStatsRepository.increment(itemId, countDelta, ratingDelta,
+			stars[0], stars[1], stars[2], stars[3], stars[4]);
+
+		// 통계 행이 없던 상품 (통계 도입 이전에 등록된 상품)
+		// 동시에 같은 상품의 첫 리뷰가 작성되면 한쪽만 행을 만들고, 둘 다 증감 update 로 반영된다
+		if (updated == 0) {
+			itemReviewStatsRepository.insertIfAbsent(itemId);
+			itemReviewStatsRepository.increment(itemId, countDelta, ratingDelta,
+				stars[0], stars[1], stars[2], stars[3], stars[4]);
+		}
+
+		itemCatalogCache.evictItem(itemId);
+	}
+
+	/**
+	 * 리뷰 테이블에서 전체 상품의 통계를 다시 계산한다.
+	 * 상품 id 순서로 청크를 나누고 청크마다 트랜잭션을 커밋하며, 청크의 통계 행을 잠근 뒤 집계하므로
+	 * 재집계 중에 작성된 리뷰의 증감도 유실되지 않는다.
+	 *
+	 * @return 재집계한 상품 수
+	 */
+	public long rebuild() {
+		long lastId = 0;
+		long processed = 0;
+
+		while (true) {
+			List<Long> itemIds = itemRepository.findIdsAfter(lastId, PageRequest.of(0, rebuildChunkSize));
+			if (itemIds.isEmpty()) {
+				break;
+			}
+
+			transactionTemplate.executeWithoutResult(status -> rebuildChunk(itemIds));
+			processed += itemIds.size();
+			lastId = itemIds.getLast();
+		}
+
+		Integer orphans = transactionTemplate.execute(status -> itemReviewStatsRepository.deleteOrphans());
+		log.info("상품 리뷰 통계 재집계 완료 - items={}, orphans={}", processed, orphans);
+
+		itemCatalogCache.evictAll();
+		return processed;
+	}
+
+	private void rebuildChunk(List<Long> itemIds) {
+		Map<Long, ItemReviewStats> current = itemReviewStatsRepository.findAllForUpdate(itemIds).stream()
+			.collect(Collectors.toMap(ItemReviewStats::getItemId, Function.identity()));
+		Map<Long, ItemReviewStatsRow> aggregated = itemReviewStatsRepository.aggregateByItemIds(itemIds).stream()
+			.collect(Collectors.toMap(ItemReviewStatsRow::getItemId, Function.identity()));
+
+		for (Long itemId : itemIds) {
+			ItemReviewStats stats = current.get(itemId);
+			if (stats == null) {
+				stats = itemReviewStatsRepository.save(new ItemReviewStats(itemId));
+			}
+
+			ItemReviewStatsRow row = aggregated.get(itemId);
+			if (row == null) {
+				stats.reset(0, 0, NO_REVIEWS);
+			} else {
+				stats.reset(row.getReviewCount(), row.getRatingSum(), row.getStarCounts());
+			}
+		}
+	}
+}
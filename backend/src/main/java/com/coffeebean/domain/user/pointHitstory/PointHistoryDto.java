@@ -1,5 +1,6 @@
 package com.coffeebean.domain.user.pointHitstory;
 
+import com.coffeebean.domain.user.pointHitstory.entity.PointHistory;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -8,7 +9,15 @@ import java.time.LocalDateTime;
 @Data
 @AllArgsConstructor
 public class PointHistoryDto {
+    private Long id;
     private int amount; // 포인트 적립 및 차감 금액
     private String description; // 포인트 적립 및 차감 사유
     private LocalDateTime createDate; // 포인트 적립 및 차감 시각
-}
\ No newline at end of file
+
+    public PointHistoryDto(PointHistory pointHistory) {
+        this.id = pointHistory.getId();
+        this.amount = pointHistory.getAmount();
+        this.description = pointHistory.getDescription();
+        this.createDate = pointHistory.getCreateDate();
+    }
+}
@@ -2,6 +2,8 @@ package com.coffeebean.domain.user.pointHitstory.entity;
 
 import java.time.LocalDateTime;
 
+import com.coffeebean.domain.user.user.enitity.User;
+
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 
@@ -12,18 +14,30 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+/**
+ * 포인트 원장 (insert 만 하는 append-only 테이블)
+ * 잔액(User.totalPoints)은 PointService 에서 원자적 update 로 함께 변경한다.
+ */
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+	// 회원별 최신순 keyset 조회용
+	@Index(name = "idx_point_history_user_id", columnList = "user_id, id")
+})
 public class PointHistory {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id")
+	private User user;
+
 	private Integer amount; // 포인트 적립 및 차감 금액
 
 	private String description; // 포인트 적립 및 차감 사유
@@ -31,7 +45,8 @@ public class PointHistory {
 	@CreatedDate
 	private LocalDateTime createDate; // 포인트 적립 및 차감 시각
 
-	public PointHistory(int amount, String description) {
+	public PointHistory(User user, int amount, String description) {
+		this.user = user;
 		this.amount = amount;
 		this.description = description;
 	}
@@ -0,0 +1,24 @@
+package com.coffeebean.domain.user.pointHitstory.repository;
+
+import com.coffeebean.domain.user.pointHitstory.entity.PointHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
+
+    // 최신순 첫 페이지
+    @Query("select h from PointHistory h where h.user.id = :userId order by h.id desc")
+    List<PointHistory> findLatest(@Param("userId") Long userId, Pageable pageable);
+
+    // 최신순 keyset 조회 - lastId 보다 이전 내역
+    @Query("select h from PointHistory h where h.user.id = :userId and h.id < :lastId order by h.id desc")
+    List<PointHistory> findBefore(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 원장 합계 (잔액 대사용)
+    @Query("select coalesce(sum(h.amount), 0L) from PointHistory h where h.user.id = :userId")
+    long sumAmountByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,53 @@
+package com.coffeebean.domain.user.pointHitstory.service;
+
+import com.coffeebean.domain.user.pointHitstory.entity.PointHistory;
+import com.coffeebean.domain.user.pointHitstory.repository.PointHistoryRepository;
+import com.coffeebean.domain.user.user.enitity.User;
+import com.coffeebean.domain.user.user.repository.UserRepository;
+import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.metrics.CheckoutMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 적립/사용
+ * 잔액은 읽고 쓰지 않고 조건부 update 한 번으로 변경하므로 동시에 주문, 리뷰가 들어와도 갱신이 유실되지 않는다.
+ * 변경 내역은 원장(PointHistory)에 insert 만 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointService {
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final CheckoutMetrics checkoutMetrics;
+
+    @Transactional
+    public void earn(User user, int amount, String description) {
+        if (amount <= 0) {
+            return;
+        }
+        userRepository.increasePoints(user.getId(), amount);
+        record(user, amount, description);
+    }
+
+    @Transactional
+    public void use(User user, int amount, String description) {
+        if (amount <= 0) {
+            return;
+        }
+        // 잔액이 부족하면 update 되는 행이 없다
+        if (userRepository.decreasePoints(user.getId(), amount) == 0) {
+            throw new ServiceException("400-5", "적립금이 부족합니다.");
+        }
+        record(user, -amount, description);
+        checkoutMetrics.pointsSpent(amount);
+    }
+
+    private void record(User user, int amount, String description) {
+        pointHistoryRepository.save(new PointHistory(user, amount, description));
+        // 같은 트랜잭션에서 조회하는 엔티티 값도 맞춰 둔다 (totalPoints 는 update 대상 컬럼이 아님)
+        user.applyPoints(amount);
+    }
+}
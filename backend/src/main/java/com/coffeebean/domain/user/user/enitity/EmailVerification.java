@@ -0,0 +1,40 @@
+package com.coffeebean.domain.user.user.enitity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이메일 인증 코드 (verification.store=db).
+ * 이메일마다 한 행만 두고 코드를 다시 요청하면 덮어쓴다. 코드 원문 대신 SHA-256 을 저장한다.
+ */
+@Getter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "email_verification", indexes = {
+	@Index(name = "idx_email_verification_expires_at", columnList = "expires_at")
+})
+public class EmailVerification {
+
+	@Id
+	private String email;
+
+	@Column(name = "code_hash", nullable = false, length = 64)
+	private String codeHash;	// SHA-256(인증 코드)
+
+	private int attempts;	// 코드 입력 횟수
+
+	private boolean verified;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+}
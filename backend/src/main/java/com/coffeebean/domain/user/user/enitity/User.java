@@ -1,20 +1,13 @@
 package com.coffeebean.domain.user.user.enitity;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import com.coffeebean.domain.user.pointHitstory.entity.PointHistory;
 import com.coffeebean.domain.user.user.Address;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import lombok.*;
@@ -46,27 +39,14 @@ public class User {
 	@Embedded
 	private Address address;
 
+	// 잔액은 PointService 의 원자적 update 로만 변경 (엔티티 변경 감지로 덮어쓰지 않도록 updatable = false)
 	@Builder.Default
+	@Column(updatable = false)
 	private Integer totalPoints = 0; // (초기값 0)
 
-	@OneToMany(cascade = CascadeType.ALL)
-	@JoinColumn(name = "user_id")
-	@Builder.Default
-	private List<PointHistory> pointHistories = new ArrayList<>();
-
-	// 포인트 적립 메서드
-	public void addPoints(int amount, String description) {
-		totalPoints += amount; // 총 포인트 업데이트
-		pointHistories.add(new PointHistory(amount, description)); // 내역 추가
-	}
-
-	// 포인트 사용 메서드
-	public void usePoints(int amount) {
-		if (this.totalPoints < amount) {
-			throw new IllegalArgumentException("사용 가능한 포인트가 부족합니다.");
-		}
-		this.totalPoints -= amount; // 총 포인트 차감
-		this.pointHistories.add(new PointHistory(-amount, "포인트 사용")); // 내역 추가
+	// DB 에 반영된 포인트 변경을 엔티티에도 반영
+	public void applyPoints(int amount) {
+		totalPoints += amount;
 	}
 
 	public boolean isTotalPointAvailable(int point) {
@@ -11,6 +11,7 @@ import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.repository.UserRepository;
 import com.coffeebean.domain.user.user.service.UserService;
 import com.coffeebean.global.annotation.Login;
+import com.coffeebean.global.dto.CursorPage;
 import com.coffeebean.global.dto.RsData;
 import com.coffeebean.global.exception.DataNotFoundException;
 import com.coffeebean.global.exception.ServiceException;
@@ -63,6 +64,18 @@ public class MyPageController {
         return ResponseEntity.ok(pointHistories);
     }
 
+    // 적립금 내역 조회 - 커서 (첫 페이지는 cursor 를 빈 값으로 요청)
+    @GetMapping(value = "/point/history", params = "cursor")
+    public RsData<CursorPage<PointHistoryDto>> showPointHistoryByCursor(@Login CustomUserDetails userDetails,
+                                                                        @RequestParam(defaultValue = "") String cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        return new RsData<>(
+            "200-1",
+            "적립금 내역 조회가 완료되었습니다.",
+            userService.getPointHistories(userDetails.getUserId(), cursor, size)
+        );
+    }
+
     // 내 정보 조회 - 회원인 경우 결제 페이지에서 이메일, 배송지 주소를 미리 입력하기 위해 사용
     @GetMapping("/my/info")
     public RsData<UserInfoResponse> myInfo(@Login CustomUserDetails userDetails) {
@@ -0,0 +1,33 @@
+package com.coffeebean.domain.user.user.repository;
+
+import com.coffeebean.domain.user.user.enitity.EmailVerification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface EmailVerificationRepository extends JpaRepository<EmailVerification, String> {
+
+    // 유효한 코드이고 입력 횟수가 남아 있을 때만 횟수 증가 (동시에 입력해도 max-attempts 를 넘지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update EmailVerification v set v.attempts = v.attempts + 1"
+            + " where v.email = :email and v.expiresAt > :now and v.attempts < :maxAttempts")
+    int increaseAttempts(@Param("email") String email, @Param("now") LocalDateTime now,
+            @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("update EmailVerification v set v.verified = true, v.expiresAt = :expiresAt where v.email = :email")
+    int markVerified(@Param("email") String email, @Param("expiresAt") LocalDateTime expiresAt);
+
+    boolean existsByEmailAndVerifiedTrueAndExpiresAtAfter(String email, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EmailVerification v where v.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
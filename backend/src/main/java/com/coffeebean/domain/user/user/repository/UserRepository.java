@@ -1,22 +1,24 @@
 package com.coffeebean.domain.user.user.repository;
 
-import com.coffeebean.domain.user.pointHitstory.entity.PointHistory;
 import com.coffeebean.domain.user.user.enitity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
-    // 페이징 안 되고 중복 데이터 생길 수 있는데... 나중에 페이징 되기 바라면 로직 고쳐야 할 듯...
-    @Query("select distinct u from User u " +
-            "join fetch u.pointHistories " +
-            "where u.id = :id")
-    Optional<User> findByIdWithPointHistories(@Param("id") Long id);
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.totalPoints = u.totalPoints + :amount where u.id = :id")
+    int increasePoints(@Param("id") Long id, @Param("amount") int amount);
+
+    // 잔액이 충분할 때만 차감 (부족하면 0 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.totalPoints = u.totalPoints - :amount where u.id = :id and u.totalPoints >= :amount")
+    int decreasePoints(@Param("id") Long id, @Param("amount") int amount);
 }
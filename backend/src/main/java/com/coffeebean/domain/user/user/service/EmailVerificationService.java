@@ -1,95 +1,84 @@
 package com.coffeebean.domain.user.user.service;
 
-import com.coffeebean.domain.user.user.dto.VerificationData;
-import com.coffeebean.domain.user.user.enitity.User;
-import com.coffeebean.domain.user.user.repository.UserRepository;
-import jakarta.servlet.http.HttpSession;
+import com.coffeebean.domain.user.user.verification.VerificationCodeStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-import java.util.Random;
+import java.security.SecureRandom;
 
+/**
+ * 이메일 인증. 인증 코드와 인증 상태는 세션이 아니라 이메일 기준으로 VerificationCodeStore 에 저장하므로
+ * 코드를 요청한 서버와 입력한 서버가 달라도 되고, 다른 이메일의 인증이 서로 덮어쓰지 않는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailVerificationService {
 
-    private final HttpSession httpSession;
-    private final MailService mailService;
+    private static final SecureRandom RANDOM = new SecureRandom();
 
-    private static final String SESSION_KEY = "email_verification";
+    private final VerificationCodeStore verificationCodeStore;
+    private final MailService mailService;
 
     // 8자리 랜덤 인증 코드 생성 (영문 대소문자와 숫자)
     public String generateVerificationCode() {
-        Random random = new Random();
         StringBuilder key = new StringBuilder();
         for (int i = 0; i < 8; i++) {
-            int index = random.nextInt(3);
+            int index = RANDOM.nextInt(3);
             switch (index) {
-                case 0 -> key.append((char)(random.nextInt(26) + 97)); // 소문자
-                case 1 -> key.append((char)(random.nextInt(26) + 65)); // 대문자
-                case 2 -> key.append(random.nextInt(10));              // 숫자
+                case 0 -> key.append((char)(RANDOM.nextInt(26) + 97)); // 소문자
+                case 1 -> key.append((char)(RANDOM.nextInt(26) + 65)); // 대문자
+                case 2 -> key.append(RANDOM.nextInt(10));              // 숫자
             }
         }
         return key.toString();
     }
 
-    // 이메일 인증 요청 (세션에 인증 정보 저장)
+    // 이메일 인증 요청 (같은 이메일로 이전에 받은 코드는 무효)
     public void sendVerificationEmail(String email) throws Exception {
+        String normalizedEmail = normalize(email);
+
         // 인증 코드 생성
         String code = generateVerificationCode();
+        verificationCodeStore.save(normalizedEmail, code);
 
         // 인증 코드 전송
-        mailService.sendSimpleMessage(email, code);
-
-        httpSession.setAttribute(SESSION_KEY, new VerificationData(email.trim(), code, false));
-        log.info("세션에 저장된 데이터 -> email={}, code={}", email, code);
+        mailService.sendSimpleMessage(normalizedEmail, code);
+        log.info("인증 코드 발송 -> email={}", normalizedEmail);
     }
 
-    // 인증 코드 확인 후 세션 상태 변경
+    // 인증 코드 확인 후 인증 완료 상태로 변경
     public boolean verifyEmail(String email, String inputCode) {
-        VerificationData verificationData = (VerificationData) httpSession.getAttribute(SESSION_KEY);
-
-        System.out.println("세션 이메일: [" + verificationData.getEmail() + "]");
-        System.out.println("요청 이메일: [" + email + "]");
-
-        if (verificationData == null || !verificationData.getEmail().trim().equals(email.trim())) {
-            throw new IllegalArgumentException("이메일 인증 요청이 없습니다.");
-        }
-
-        if (!verificationData.getCode().equals(inputCode)) {
-            throw new IllegalArgumentException("인증 코드가 일치하지 않습니다.");
-        }
-
-        verificationData.setVerified(true);
-        httpSession.setAttribute(SESSION_KEY, verificationData);
-        return true;
+        return switch (verificationCodeStore.verify(normalize(email), inputCode)) {
+            case VERIFIED -> true;
+            case MISMATCH -> throw new IllegalArgumentException("인증 코드가 일치하지 않습니다.");
+            case TOO_MANY_ATTEMPTS -> throw new IllegalArgumentException("인증 코드 입력 횟수를 초과했습니다. 인증 코드를 다시 요청하세요.");
+            case NOT_FOUND -> throw new IllegalArgumentException("이메일 인증 요청이 없습니다.");
+        };
     }
 
+    // 비회원 주문 조회 인증 (요청 본문이 JSON 문자열이라 따옴표가 붙어서 올 수 있음, normalize 에서 제거)
     public boolean verifyEmailForGuest(String email, String inputCode) {
-        VerificationData verificationData = (VerificationData) httpSession.getAttribute(SESSION_KEY);
-
-        System.out.println("세션 이메일: [" + verificationData.getEmail() + "]");
-        System.out.println("요청 이메일: [" + email + "]");
+        return verifyEmail(email, inputCode);
+    }
 
-        if (!verificationData.getEmail().trim().replace("\"", "").equals(email.trim().replace("\"", ""))) {
-            throw new IllegalArgumentException("이메일 인증 요청이 없습니다.");
-        }
+    // 이메일 인증 여부 확인
+    public boolean isEmailVerified(String email) {
+        return verificationCodeStore.isVerified(normalize(email));
+    }
 
-        if (!verificationData.getCode().equals(inputCode)) {
-            throw new IllegalArgumentException("인증 코드가 일치하지 않습니다.");
+    // 만료된 인증 코드 정리
+    @Scheduled(fixedDelayString = "${verification.cleanup-interval-ms:60000}")
+    public void deleteExpiredCodes() {
+        int deleted = verificationCodeStore.deleteExpired();
+        if (deleted > 0) {
+            log.debug("만료된 인증 코드 {}개 삭제", deleted);
         }
-
-        verificationData.setVerified(true);
-        httpSession.setAttribute(SESSION_KEY, verificationData);
-        return true;
     }
 
-    // 세션으로 이메일 인증 여부 확인
-    public boolean isEmailVerified(String email) {
-        VerificationData verificationData = (VerificationData) httpSession.getAttribute(SESSION_KEY);
-        return verificationData != null && verificationData.getEmail().equals(email);
+    private static String normalize(String email) {
+        return email.trim().replace("\"", "");
     }
-}
\ No newline at end of file
+}
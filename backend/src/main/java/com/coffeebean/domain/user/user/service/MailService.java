@@ -1,15 +1,31 @@
 package com.coffeebean.domain.user.user.service;
 
 import com.coffeebean.global.exception.ServiceException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 서비스.
+ * JavaMail 의 SMTP 발송(Transport.connect/sendMessage)은 synchronized 안에서 네트워크 I/O 를 하므로
+ * 가상 스레드에서 직접 호출하면 발송이 끝날 때까지 캐리어 스레드가 고정(pinning)된다.
+ * 그래서 실제 발송은 send-threads 개의 플랫폼 스레드에서 하고, 호출한 스레드는 결과만 기다린다.
+ */
 @Service
 @RequiredArgsConstructor
 public class MailService {
@@ -19,6 +35,22 @@ public class MailService {
     @Value("${spring.mail.username}")
     private String SENDER_EMAIL;
 
+    @Value("${mail.send-threads:8}")
+    private int sendThreads;
+
+    private ExecutorService sendExecutor;
+
+    @PostConstruct
+    public void init() {
+        sendExecutor = Executors.newFixedThreadPool(Math.max(sendThreads, 1),
+                Thread.ofPlatform().name("mail-send-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        sendExecutor.shutdown();
+        sendExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
 
     public MimeMessage createMail(String recipientEmail, String code) throws MessagingException {
         MimeMessage message = javaMailSender.createMimeMessage();
@@ -49,10 +81,11 @@ public class MailService {
     }
 
     // 메일 발송 (인증 코드를 매개변수로 받아 이메일 전송)
+    @Timed("coffeebean.mail.send")
     public void sendSimpleMessage(String recipientEmail, String code) throws MessagingException {
         MimeMessage message = createMail(recipientEmail, code);
         try {
-            javaMailSender.send(message);
+            send(message);
         } catch (MailException e) {
             e.printStackTrace();
             throw new IllegalArgumentException("메일 발송 중 오류가 발생했습니다.");
@@ -60,6 +93,7 @@ public class MailService {
     }
 
     // 유저에게 메일 전송
+    @Timed("coffeebean.mail.send")
     public void sendMailToUser(String email, String subject, String content){
         try {
             MimeMessage message = javaMailSender.createMimeMessage();
@@ -67,7 +101,7 @@ public class MailService {
             helper.setTo(email);
             helper.setSubject(subject);
             helper.setText(content);
-            javaMailSender.send(message);
+            send(message);
         } catch (MessagingException e) {
             throw new ServiceException("500-1", "메일 전송 중 오류가 발생했습니다."); // 메일 전송 실패
         } catch (IllegalArgumentException e) {
@@ -77,4 +111,20 @@ public class MailService {
         }
     }
 
-}
\ No newline at end of file
+    // 발송 스레드에서 보내고 끝날 때까지 대기 (가상 스레드는 대기하는 동안 캐리어 스레드를 양보한다)
+    private void send(MimeMessage message) {
+        Future<?> result = sendExecutor.submit(() -> javaMailSender.send(message));
+        try {
+            result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new MailSendException("메일 발송이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new MailSendException("메일 발송 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+}
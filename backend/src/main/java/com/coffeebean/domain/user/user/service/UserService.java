@@ -6,18 +6,22 @@ import java.util.Map;
 import java.util.Optional;
 
 import com.coffeebean.domain.user.user.Address;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.coffeebean.domain.user.pointHitstory.PointHistoryDto;
 import com.coffeebean.domain.user.pointHitstory.entity.PointHistory;
+import com.coffeebean.domain.user.pointHitstory.repository.PointHistoryRepository;
 import com.coffeebean.domain.user.user.dto.SignupReqBody;
 import com.coffeebean.domain.user.user.dto.UserDto;
 import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.repository.UserRepository;
+import com.coffeebean.global.dto.CursorPage;
 import com.coffeebean.global.exception.DataNotFoundException;
 import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.util.CursorUtil;
 import com.coffeebean.global.util.JwtUtil;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -35,7 +39,10 @@ public class UserService {
 	private static final String ADMIN_PASSWORD = "admin1234";
 	private static final String ADMIN_ROLE = "ROLE_ADMIN";
 
+	private static final int MAX_POINT_HISTORY_PAGE_SIZE = 100;
+
 	private final UserRepository userRepository;
+	private final PointHistoryRepository pointHistoryRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final EmailVerificationService emailVerificationService;
 
@@ -162,25 +169,43 @@ public class UserService {
                 .getId();
     }
 
-	// 포인트 적립 내역 조회
+	// 포인트 적립 내역 조회 (최신순 최대 100건, 이후는 커서 조회 사용)
 	@Transactional(readOnly = true)
 	public List<PointHistoryDto> getPointHistories(Long userId) {
-		User user = userRepository.findById(userId).orElseThrow(() ->
-			new DataNotFoundException("사용자를 찾을 수 없습니다."));
-		log.info("user={}", user);
-
-		User userWithHistories = userRepository.findByIdWithPointHistories(userId).orElse(user);
-		List<PointHistory> pointHistories = userWithHistories.getPointHistories();
-		log.info("pointHistories={}", pointHistories);
+		List<PointHistoryDto> pointHistories = getPointHistories(userId, null, MAX_POINT_HISTORY_PAGE_SIZE)
+			.getContent();
 
-		if (userWithHistories.getPointHistories().isEmpty()) {
+		if (pointHistories.isEmpty()) {
 			throw new DataNotFoundException("포인트 적립 내역이 없습니다.");
 		}
+		return pointHistories;
+	}
+
+	// 포인트 적립 내역 커서 조회 - 원장 id 역순 keyset (커서 = 마지막 내역 id)
+	@Transactional(readOnly = true)
+	public CursorPage<PointHistoryDto> getPointHistories(Long userId, String cursor, int size) {
+		int limit = Math.clamp(size, 1, MAX_POINT_HISTORY_PAGE_SIZE);
+		PageRequest pageRequest = PageRequest.of(0, limit + 1);
+
+		List<PointHistory> fetched;
+		if (cursor == null || cursor.isBlank()) {
+			fetched = pointHistoryRepository.findLatest(userId, pageRequest);
+		} else {
+			long lastId;
+			try {
+				lastId = Long.parseLong(CursorUtil.decode(cursor, 1)[0]);
+			} catch (NumberFormatException e) {
+				throw new ServiceException("400-7", "잘못된 커서입니다.");
+			}
+			fetched = pointHistoryRepository.findBefore(userId, lastId, pageRequest);
+		}
 
-		return pointHistories.stream().map(pointHistory -> new PointHistoryDto(
-			pointHistory.getAmount(),
-			pointHistory.getDescription(),
-			pointHistory.getCreateDate())).toList();
+		return CursorPage.of(
+			fetched.stream().map(PointHistoryDto::new).toList(),
+			limit,
+			pointHistory -> CursorUtil.encode(pointHistory.getId()),
+			null
+		);
 	}
 
 	// 포인트가 충분한지 확인
@@ -193,21 +218,6 @@ public class UserService {
 		return actor.isTotalPointAvailable(point);
 	}
 
-	// 적립금을 사용하고 적립금 사용 내역을 저장
-	@Transactional
-	public void usePoint(User user, int point, String description) {
-		if (!user.isTotalPointAvailable(point)) {
-			throw new ServiceException("400-5", "적립금이 부족합니다.");
-		}
-		// 적립금 사용
-		user.setTotalPoints(user.getTotalPoints() - point);
-		// 적립금 사용 내역 추가
-		user.getPointHistories().add(PointHistory.builder()
-			.amount(-point)
-			.description(description)
-			.build());
-    }
-
 	// 유저 상세 정보 조회
 	@Transactional
 	public UserDto getDetails(String email) {
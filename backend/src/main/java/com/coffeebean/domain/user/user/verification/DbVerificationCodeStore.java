@@ -0,0 +1,76 @@
+package com.coffeebean.domain.user.user.verification;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.user.user.enitity.EmailVerification;
+import com.coffeebean.domain.user.user.repository.EmailVerificationRepository;
+
+/**
+ * 여러 서버가 공유하는 인증 코드 저장소 (verification.store=db, 기본값).
+ * email_verification 테이블에 이메일마다 한 행을 두고, 입력 횟수는 조건부 UPDATE 로 올려서
+ * 서버 여러 대에서 동시에 입력해도 max-attempts 를 넘지 않는다.
+ */
+public class DbVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final Duration ttl;
+    private final int maxAttempts;
+    private final Clock clock;
+
+    public DbVerificationCodeStore(EmailVerificationRepository emailVerificationRepository, Duration ttl,
+            int maxAttempts, Clock clock) {
+        this.emailVerificationRepository = emailVerificationRepository;
+        this.ttl = ttl;
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(String email, String code) {
+        EmailVerification emailVerification = new EmailVerification(email,
+                HexFormat.of().formatHex(VerificationCodes.hash(code)), 0, false, LocalDateTime.now(clock).plus(ttl));
+        try {
+            emailVerificationRepository.save(emailVerification);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 이메일로 동시에 처음 요청한 경우 (먼저 저장된 행을 덮어씀)
+            emailVerificationRepository.save(emailVerification);
+        }
+    }
+
+    @Override
+    @Transactional
+    public VerificationResult verify(String email, String code) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (emailVerificationRepository.increaseAttempts(email, now, maxAttempts) == 0) {
+            return emailVerificationRepository.findById(email)
+                    .filter(emailVerification -> emailVerification.getExpiresAt().isAfter(now))
+                    .map(emailVerification -> VerificationResult.TOO_MANY_ATTEMPTS)
+                    .orElse(VerificationResult.NOT_FOUND);
+        }
+
+        EmailVerification emailVerification = emailVerificationRepository.findById(email).orElseThrow();
+        if (!VerificationCodes.matches(HexFormat.of().parseHex(emailVerification.getCodeHash()), code)) {
+            return VerificationResult.MISMATCH;
+        }
+        emailVerificationRepository.markVerified(email, now.plus(ttl));
+        return VerificationResult.VERIFIED;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerified(String email) {
+        return emailVerificationRepository.existsByEmailAndVerifiedTrueAndExpiresAtAfter(email,
+                LocalDateTime.now(clock));
+    }
+
+    @Override
+    public int deleteExpired() {
+        return emailVerificationRepository.deleteExpired(LocalDateTime.now(clock));
+    }
+}
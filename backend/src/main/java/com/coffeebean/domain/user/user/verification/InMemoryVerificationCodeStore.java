@@ -0,0 +1,159 @@
+package com.coffeebean.domain.user.user.verification;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 서버용 인증 코드 저장소 (verification.store=memory).
+ * 이메일 해시로 나눈 구간(stripe)마다 락과 LinkedHashMap 을 따로 두어 서로 다른 이메일의 요청은 경합하지 않는다.
+ * 모든 코드의 ttl 이 같고 만료 시각을 바꿀 때마다 맨 뒤로 다시 넣으므로 각 구간은 만료 순서로 정렬되어 있고,
+ * 만료 정리는 앞에서부터 만료된 코드만 지운다. 구간마다 max-entries / STRIPES 개를 넘으면 가장 오래된 코드부터 지운다.
+ * (가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 사용)
+ */
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final long ttlMillis;
+    private final int maxAttempts;
+    private final Clock clock;
+
+    public InMemoryVerificationCodeStore(Duration ttl, int maxAttempts, int maxEntries, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+        int maxEntriesPerStripe = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxEntriesPerStripe);
+        }
+    }
+
+    @Override
+    public void save(String email, String code) {
+        Entry entry = new Entry(VerificationCodes.hash(code), clock.millis() + ttlMillis);
+        Stripe stripe = stripe(email);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(email);
+            stripe.entries.put(email, entry);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public VerificationResult verify(String email, String code) {
+        long now = clock.millis();
+        Stripe stripe = stripe(email);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(email);
+            if (entry == null || entry.isExpired(now)) {
+                return VerificationResult.NOT_FOUND;
+            }
+            if (entry.attempts >= maxAttempts) {
+                return VerificationResult.TOO_MANY_ATTEMPTS;
+            }
+            entry.attempts++;
+            if (!VerificationCodes.matches(entry.codeHash, code)) {
+                return VerificationResult.MISMATCH;
+            }
+
+            // 만료 순서를 유지하도록 맨 뒤로 다시 넣는다
+            entry.verified = true;
+            entry.expiresAt = now + ttlMillis;
+            stripe.entries.remove(email);
+            stripe.entries.put(email, entry);
+            return VerificationResult.VERIFIED;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        long now = clock.millis();
+        Stripe stripe = stripe(email);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(email);
+            return entry != null && entry.verified && !entry.isExpired(now);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public int deleteExpired() {
+        long now = clock.millis();
+        int deleted = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                Iterator<Entry> iterator = stripe.entries.values().iterator();
+                while (iterator.hasNext() && iterator.next().isExpired(now)) {
+                    iterator.remove();
+                    deleted++;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return deleted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripe(String email) {
+        int hash = email.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries;
+
+        Stripe(int maxEntries) {
+            entries = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+
+    private static class Entry {
+
+        private final byte[] codeHash;
+        private long expiresAt;
+        private int attempts;
+        private boolean verified;
+
+        Entry(byte[] codeHash, long expiresAt) {
+            this.codeHash = codeHash;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.coffeebean.domain.user.user.verification;
+
+/**
+ * 이메일별 인증 코드 저장소.
+ * 코드는 ttl 이 지나면 만료되고, 코드마다 max-attempts 번까지만 입력할 수 있다.
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 인증 코드 저장. 같은 이메일의 이전 코드와 입력 횟수, 인증 상태는 초기화된다.
+     */
+    void save(String email, String code);
+
+    /**
+     * 입력한 코드 확인. 일치하면 인증 완료 상태로 바꾸고 만료 시각을 ttl 만큼 연장한다.
+     */
+    VerificationResult verify(String email, String code);
+
+    boolean isVerified(String email);
+
+    /**
+     * 만료된 코드 삭제
+     *
+     * @return 삭제한 코드 수
+     */
+    int deleteExpired();
+}
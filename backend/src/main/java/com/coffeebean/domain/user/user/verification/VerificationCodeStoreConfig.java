@@ -0,0 +1,36 @@
+package com.coffeebean.domain.user.user.verification;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.coffeebean.domain.user.user.repository.EmailVerificationRepository;
+
+@Configuration
+public class VerificationCodeStoreConfig {
+
+    @Value("${verification.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${verification.max-attempts:5}")
+    private int maxAttempts;
+
+    @Bean
+    @ConditionalOnProperty(name = "verification.store", havingValue = "db", matchIfMissing = true)
+    public VerificationCodeStore dbVerificationCodeStore(EmailVerificationRepository emailVerificationRepository) {
+        return new DbVerificationCodeStore(emailVerificationRepository, Duration.ofSeconds(ttlSeconds), maxAttempts,
+                Clock.systemDefaultZone());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "verification.store", havingValue = "memory")
+    public VerificationCodeStore inMemoryVerificationCodeStore(
+            @Value("${verification.memory.max-entries:1000000}") int maxEntries) {
+        return new InMemoryVerificationCodeStore(Duration.ofSeconds(ttlSeconds), maxAttempts, maxEntries,
+                Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,24 @@
+package com.coffeebean.domain.user.user.verification;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 인증 코드는 SHA-256 으로만 보관하고, 비교는 입력에 따라 시간이 달라지지 않도록 MessageDigest.isEqual 로 한다
+final class VerificationCodes {
+
+    private VerificationCodes() {
+    }
+
+    static byte[] hash(String code) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(code.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static boolean matches(byte[] codeHash, String inputCode) {
+        return inputCode != null && MessageDigest.isEqual(codeHash, hash(inputCode));
+    }
+}
@@ -0,0 +1,8 @@
+package com.coffeebean.domain.user.user.verification;
+
+public enum VerificationResult {
+    VERIFIED,           // 코드 일치
+    MISMATCH,           // 코드 불일치 (입력 횟수 1회 사용)
+    TOO_MANY_ATTEMPTS,  // 입력 횟수 초과, 코드를 다시 요청해야 함
+    NOT_FOUND           // 인증 요청이 없거나 만료됨
+}
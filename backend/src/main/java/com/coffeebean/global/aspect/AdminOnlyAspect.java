@@ -28,9 +28,9 @@ public class AdminOnlyAspect {
 	@Before("checkAdminPointcut()")
 	public void before() {
 		// Admin 쿠키 검증
-		String token = JwtUtil.getJwtFromCookies(request)
+		// 필터에서 검증한 결과를 재사용
+		Map<String, Object> payload = JwtUtil.getPayload(request)
 				.orElseThrow(() -> new ServiceException("401-1", "인증 정보가 없습니다."));
-		Map<String, Object> payload = JwtUtil.getPayload(token);
 
 		if (!payload.containsKey("role") || !payload.get("role").equals("ROLE_ADMIN")) {
 			throw new ServiceException("403-1", "관리자 권한이 없습니다.");
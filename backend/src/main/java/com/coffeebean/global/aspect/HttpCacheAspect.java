@@ -0,0 +1,84 @@
+package com.coffeebean.global.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.coffeebean.global.dto.RsData;
+import com.coffeebean.global.httpcache.HttpCached;
+import com.coffeebean.global.httpcache.HttpResponseCache;
+import com.coffeebean.global.httpcache.HttpResponseCache.CachedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HttpCached 가 붙은 GET 의 응답을 직렬화된 JSON 바이트로 캐시한다.
+ * 본문을 직접 쓰고 null 을 반환하므로 메시지 컨버터는 다시 직렬화하지 않는다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class HttpCacheAspect {
+
+	private final HttpServletRequest request;
+	private final HttpServletResponse response;
+	private final HttpResponseCache httpResponseCache;
+	private final ObjectMapper objectMapper;
+
+	@Around("@annotation(httpCached)")
+	public Object cache(ProceedingJoinPoint joinPoint, HttpCached httpCached) throws Throwable {
+		String region = httpCached.value();
+		String path = request.getQueryString() == null
+			? request.getRequestURI()
+			: request.getRequestURI() + "?" + request.getQueryString();
+
+		// 버전은 조회 전에 읽는다 (조회 중에 쓰기가 일어나면 다음 요청은 새 버전으로 다시 조회)
+		long version = httpResponseCache.version(region);
+		String etag = httpResponseCache.etag(region, version);
+		response.setHeader(HttpHeaders.ETAG, etag);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+		if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+			httpResponseCache.notModified(region, version, path);
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return null;
+		}
+
+		CachedResponse cached = httpResponseCache.get(region, version, path);
+		if (cached == null) {
+			Object result = joinPoint.proceed();
+			if (!(result instanceof RsData<?> rsData) || rsData.getStatusCode() != HttpServletResponse.SC_OK) {
+				return result;
+			}
+			cached = new CachedResponse(rsData.getStatusCode(), objectMapper.writeValueAsBytes(rsData));
+			httpResponseCache.put(region, version, path, cached);
+		}
+
+		response.setStatus(cached.status());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setContentLength(cached.body().length);
+		response.getOutputStream().write(cached.body());
+		return null;
+	}
+
+	// If-None-Match: W/"a", "b" 또는 * (약한 비교)
+	private boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		String opaque = etag.substring(2);
+		for (String tag : ifNoneMatch.split(",")) {
+			String trimmed = tag.trim();
+			if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals(opaque)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
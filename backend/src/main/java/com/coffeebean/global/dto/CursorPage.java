@@ -0,0 +1,37 @@
+package com.coffeebean.global.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서(keyset) 기반 목록 응답.
+ * nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어지는 목록을 조회한다.
+ * totalCount 는 요청한 경우에만 포함된다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+
+    private List<T> content;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private Long totalCount;
+
+    // size + 1 개를 조회한 결과로 다음 페이지 존재 여부와 다음 커서를 계산
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf,
+            Long totalCount) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.getLast()) : null;
+        return new CursorPage<>(content, nextCursor, hasNext, totalCount);
+    }
+}
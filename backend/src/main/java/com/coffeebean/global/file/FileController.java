@@ -0,0 +1,91 @@
+package com.coffeebean.global.file;
+
+import com.coffeebean.global.exception.ServiceException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 업로드 파일 조회 (/files/{fileName})
+ * ETag 조건부 요청 (304), 단일 Range 요청 (206 / 416) 을 지원하고
+ * 내용 해시 이름의 파일은 1년 immutable 로 캐시하게 한다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class FileController {
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+
+    private final FileServingService fileServingService;
+
+    @GetMapping("/files/{fileName:.+}")
+    public void serve(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ServedFile file = fileServingService.resolve(fileName)
+                .orElseThrow(() -> new ServiceException("404-1", "파일을 찾을 수 없습니다."));
+
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.immutable() ? IMMUTABLE : REVALIDATE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (file.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = file.size();
+        long start = 0;
+        long end = size - 1;
+
+        HttpRange range = singleRange(request, file);
+        if (range != null) {
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+            if (start >= size || start > end) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, size));
+        }
+
+        long length = size == 0 ? 0 : end - start + 1;
+        response.setContentType(file.contentType().toString());
+        response.setContentLengthLong(length);
+
+        if (length == 0 || request.getMethod().equals("HEAD")) {
+            return;
+        }
+        fileServingService.transfer(file, start, length, request, response);
+    }
+
+    // 여러 구간 요청 (multipart/byteranges) 과 If-Range 가 맞지 않는 요청은 전체 파일로 응답
+    private HttpRange singleRange(HttpServletRequest request, ServedFile file) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || file.size() == 0) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(file.etag())) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.getFirst() : null;
+    }
+}
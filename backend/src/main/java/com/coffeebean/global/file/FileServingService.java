@@ -0,0 +1,184 @@
+package com.coffeebean.global.file;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 (/files/**) 조회.
+ * 본문은 Tomcat 이 sendfile 을 지원하면 sendfile 로 사용자 공간 버퍼 복사 없이 보내고,
+ * 지원하지 않거나 작은 파일이면 버퍼로 읽어서 응답 스트림에 쓴다.
+ * 자주 조회되는 작은 썸네일만 메모리 캐시에 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileServingService {
+
+    // Tomcat 이 sendfile 을 지원할 때 요청 속성으로 파일을 넘기면 응답 커밋 시 커널이 직접 전송한다
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 하위 경로, 상대 경로를 막기 위해 파일명만 허용
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_.-]{0,127}");
+    // 내용 해시 이름 (해시 또는 해시_리사이즈버전)
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("[0-9a-f]{64}(_[a-z]+)?");
+
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
+
+    private final ImageVariantProcessor imageVariantProcessor;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${file.serve.hot-cache-max-bytes:16777216}")
+    private long hotCacheMaxBytes;
+
+    @Value("${file.serve.hot-cache-max-file-bytes:65536}")
+    private long hotCacheMaxFileBytes;
+
+    @Value("${file.serve.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    private Path root;
+    private Cache<String, byte[]> hotCache;
+
+    @PostConstruct
+    public void init() {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        hotCache = Caffeine.newBuilder()
+                .maximumWeight(hotCacheMaxBytes)
+                .weigher((String fileName, byte[] bytes) -> bytes.length)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 파일명으로 내려줄 파일을 찾는다.
+     * 리사이즈 버전이 아직 없으면 생성을 다시 요청하고 원본을 캐시 불가로 내려준다.
+     */
+    public Optional<ServedFile> resolve(String fileName) {
+        if (!FILE_NAME.matcher(fileName).matches() || fileName.contains("..")) {
+            return Optional.empty();
+        }
+
+        Optional<ServedFile> file = servedFile(fileName, true);
+        if (file.isPresent()) {
+            return file;
+        }
+
+        ImageVariant variant = ImageVariant.of(fileName);
+        if (variant == null) {
+            return Optional.empty();
+        }
+        String original = variant.originalFileName(fileName);
+        imageVariantProcessor.submit(original);
+        return servedFile(original, false);
+    }
+
+    private Optional<ServedFile> servedFile(String fileName, boolean cacheable) {
+        Path path = root.resolve(fileName);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        if (!attributes.isRegularFile()) {
+            return Optional.empty();
+        }
+
+        String baseName = StringUtils.stripFilenameExtension(fileName);
+        boolean contentAddressed = CONTENT_ADDRESSED.matcher(baseName).matches();
+        String etag = contentAddressed
+                ? "\"" + baseName + "\""
+                : "\"" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-"
+                + Long.toHexString(attributes.size()) + "\"";
+
+        return Optional.of(new ServedFile(fileName, path, attributes.size(), etag, contentAddressed && cacheable,
+                MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM)));
+    }
+
+    /**
+     * 파일의 [position, position + count) 구간을 응답 본문으로 보낸다. 헤더는 호출 전에 설정되어 있어야 한다.
+     */
+    public void transfer(ServedFile file, long position, long count, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        byte[] hot = hotBytes(file);
+        if (hot != null) {
+            response.getOutputStream().write(hot, (int) position, (int) count);
+            return;
+        }
+
+        if (count >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            return;
+        }
+
+        // 응답 스트림은 파일이나 소켓 채널이 아니므로 transferTo 를 써도 어차피 버퍼로 복사된다
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            InputStream in = Channels.newInputStream(channel.position(position));
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[TRANSFER_BUFFER_SIZE];
+            long remaining = count;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    // 내용이 바뀌지 않는 작은 썸네일만 메모리에 둔다
+    private byte[] hotBytes(ServedFile file) {
+        if (!file.immutable() || file.size() > hotCacheMaxFileBytes
+                || ImageVariant.of(file.fileName()) != ImageVariant.THUMBNAIL) {
+            return null;
+        }
+        // 파일 읽기가 캐시 락 안에서 일어나지 않도록 get(key, loader) 대신 읽은 뒤 넣는다 (가상 스레드 pinning 방지)
+        byte[] cached = hotCache.getIfPresent(file.fileName());
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file.path());
+            hotCache.put(file.fileName(), bytes);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public CacheStats getHotCacheStats() {
+        return hotCache.stats();
+    }
+}
@@ -0,0 +1,60 @@
+package com.coffeebean.global.file;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 업로드 이미지의 리사이즈 버전.
+ * 원본 파일명(해시.확장자) 뒤에 접미사를 붙인 이름으로 같은 디렉토리에 저장한다. (abc.jpg -> abc_thumb.jpg)
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 200),  // 상품/리뷰 목록
+    MEDIUM("medium", 600);    // 상품 상세
+
+    private final String suffix;
+    private final int maxSize; // 긴 변 기준 최대 px
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    // abc.jpg -> abc_thumb.jpg
+    public String fileName(String originalFileName) {
+        String extension = StringUtils.getFilenameExtension(originalFileName);
+        String baseName = StringUtils.stripFilenameExtension(originalFileName);
+        return baseName + "_" + suffix + (extension == null ? "" : "." + extension);
+    }
+
+    // 업로드 파일 URL (/files/해시.확장자) 이면 리사이즈 버전 URL, 그 외 (기본 이미지 등) 는 그대로
+    public String url(String imageUrl) {
+        if (imageUrl == null || !imageUrl.contains("/files/")) {
+            return imageUrl;
+        }
+        int index = imageUrl.lastIndexOf('/') + 1;
+        return imageUrl.substring(0, index) + fileName(imageUrl.substring(index));
+    }
+
+    // abc_thumb.jpg -> THUMBNAIL, 리사이즈 파일명이 아니면 null
+    public static ImageVariant of(String fileName) {
+        String baseName = StringUtils.stripFilenameExtension(fileName);
+        for (ImageVariant variant : values()) {
+            if (baseName.endsWith("_" + variant.suffix)) {
+                return variant;
+            }
+        }
+        return null;
+    }
+
+    // abc_thumb.jpg -> abc.jpg
+    public String originalFileName(String variantFileName) {
+        String extension = StringUtils.getFilenameExtension(variantFileName);
+        String baseName = StringUtils.stripFilenameExtension(variantFileName);
+        return baseName.substring(0, baseName.length() - suffix.length() - 1)
+                + (extension == null ? "" : "." + extension);
+    }
+}
@@ -0,0 +1,156 @@
+package com.coffeebean.global.file;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지의 리사이즈 버전(썸네일/중간 크기) 생성기.
+ * 요청 스레드와 분리된 고정 크기 스레드 풀에서 처리하고 대기열이 가득 차면 버린다.
+ * 버려지거나 서버 재시작으로 유실된 작업은 리사이즈 파일 조회 시 다시 요청된다. (FileServingService)
+ */
+@Slf4j
+@Component
+public class ImageVariantProcessor {
+
+    private static final Set<String> WRITABLE_FORMATS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${image.variant.threads:2}")
+    private int threads;
+
+    @Value("${image.variant.queue-capacity:200}")
+    private int queueCapacity;
+
+    // 같은 파일의 작업이 대기열에 중복으로 쌓이지 않도록 처리 중인 파일명 기록
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static boolean isResizable(String fileName) {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        return extension != null && WRITABLE_FORMATS.contains(extension.toLowerCase());
+    }
+
+    /**
+     * 리사이즈 버전 생성을 대기열에 넣는다.
+     *
+     * @return 대기열에 넣었으면 true (이미 처리 중이거나 대기열이 가득 차면 false)
+     */
+    public boolean submit(String fileName) {
+        if (!isResizable(fileName) || !inFlight.add(fileName)) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(fileName);
+                } finally {
+                    inFlight.remove(fileName);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(fileName);
+            log.warn("이미지 리사이즈 대기열이 가득 차 건너뜀 - file={}", fileName);
+            return false;
+        }
+    }
+
+    private void generate(String fileName) {
+        Path root = Paths.get(uploadDir);
+        Path source = root.resolve(fileName);
+        try {
+            BufferedImage image = ImageIO.read(source.toFile());
+            if (image == null) {
+                log.warn("이미지로 읽을 수 없는 파일 - file={}", fileName);
+                return;
+            }
+
+            String format = StringUtils.getFilenameExtension(fileName).toLowerCase();
+            for (ImageVariant variant : ImageVariant.values()) {
+                Path target = root.resolve(variant.fileName(fileName));
+                if (Files.exists(target)) {
+                    continue;
+                }
+
+                // 임시 파일에 쓴 뒤 옮겨서 조회 시 쓰다 만 파일이 보이지 않게 한다
+                Path temp = Files.createTempFile(root, "variant-", ".tmp");
+                try {
+                    if (Math.max(image.getWidth(), image.getHeight()) <= variant.getMaxSize()) {
+                        Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+                    } else if (!ImageIO.write(resize(image, variant.getMaxSize(), format), format, temp.toFile())) {
+                        log.warn("이미지 형식을 저장할 수 없음 - file={}", fileName);
+                        return;
+                    }
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이미지 리사이즈 실패 - file={}", fileName, e);
+        }
+    }
+
+    private BufferedImage resize(BufferedImage image, int maxSize, String format) {
+        double scale = (double) maxSize / Math.max(image.getWidth(), image.getHeight());
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        // jpg/bmp 는 알파 채널을 저장할 수 없다
+        boolean alpha = format.equals("png") || format.equals("gif");
+        BufferedImage resized = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+}
@@ -0,0 +1,31 @@
+package com.coffeebean.global.file;
+
+import java.nio.file.Path;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 내려줄 파일 정보
+ *
+ * @param path      실제 파일 경로 (리사이즈 버전이 없으면 원본)
+ * @param size      파일 크기
+ * @param etag      강한 ETag (내용 해시 이름이면 해시, 그 외에는 수정 시각 + 크기)
+ * @param immutable 내용 해시 이름이라 내용이 절대 바뀌지 않는 파일인지 여부
+ */
+public record ServedFile(String fileName, Path path, long size, String etag, boolean immutable,
+                         MediaType contentType) {
+
+    // If-None-Match: "a", "b" 또는 *
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
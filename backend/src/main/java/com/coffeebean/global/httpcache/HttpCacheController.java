@@ -0,0 +1,29 @@
+package com.coffeebean.global.httpcache;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coffeebean.global.dto.RsData;
+import com.coffeebean.global.security.annotations.AdminOnly;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/http-cache")
+public class HttpCacheController {
+
+    private final HttpResponseCache httpResponseCache;
+
+    // 관리자 - 응답 캐시 현황 (hit ratio, 304 로 절약한 바이트)
+    @AdminOnly
+    @GetMapping("/stats")
+    public RsData<HttpCacheStatsDto> getStats() {
+        return new RsData<>(
+                "200-1",
+                "응답 캐시 현황이 조회되었습니다.",
+                httpResponseCache.getStats()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.coffeebean.global.httpcache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HttpCacheStatsDto {
+
+    private final long requestCount;
+
+    private final long hitCount; // 캐시된 JSON 을 그대로 응답
+
+    private final long notModifiedCount; // 304 응답
+
+    private final long missCount; // 컨트롤러 호출 후 직렬화
+
+    private final double hitRatio; // (hit + 304) / 요청 수
+
+    private final long bytesSaved; // 304 로 보내지 않은 본문 크기 합
+
+    private final long bytesServedFromCache; // 직렬화 없이 캐시에서 보낸 본문 크기 합
+
+    private final long size; // 캐시된 응답 수
+
+    private final long evictionCount;
+}
@@ -0,0 +1,19 @@
+package com.coffeebean.global.httpcache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 응답 캐시 대상 GET 메서드.
+ * 같은 region 에 속한 응답은 HttpResponseCache.evict(region) 이 호출될 때까지 직렬화된 JSON 을 재사용하고,
+ * If-None-Match 가 현재 ETag 와 같으면 컨트롤러를 호출하지 않고 304 로 응답한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HttpCached {
+
+    // 무효화 단위 (예: notices, items)
+    String value();
+}
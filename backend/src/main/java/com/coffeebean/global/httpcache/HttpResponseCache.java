@@ -0,0 +1,126 @@
+package com.coffeebean.global.httpcache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * GET 응답 캐시.
+ * region 마다 버전(워터마크)을 두고 쓰기가 일어나면 버전을 올린다.
+ * ETag 는 (region, 버전) 으로 만들어지므로 조건부 요청은 저장소를 조회하지 않고 판단할 수 있고,
+ * 캐시 키에도 버전이 들어가므로 옛 버전의 응답은 다시 조회되지 않고 크기 제한에 따라 밀려난다.
+ */
+@Component
+public class HttpResponseCache {
+
+    @Value("${http-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${http-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 재시작 전에 발급한 ETag 와 겹치지 않도록 시작 시각부터 시작
+    private final long startedAt = System.currentTimeMillis();
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private Cache<Key, CachedResponse> responses;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+
+    record Key(String region, long version, String path) {
+    }
+
+    public record CachedResponse(int status, byte[] body) {
+    }
+
+    @PostConstruct
+    public void init() {
+        responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, CachedResponse response) -> response.body().length + key.path().length())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public long version(String region) {
+        return versions.computeIfAbsent(region, key -> new AtomicLong(startedAt)).get();
+    }
+
+    public String etag(String region, long version) {
+        return "W/\"" + region + "-" + Long.toHexString(version) + "\"";
+    }
+
+    public CachedResponse get(String region, long version, String path) {
+        requests.increment();
+        CachedResponse response = responses.getIfPresent(new Key(region, version, path));
+        if (response != null) {
+            hits.increment();
+            bytesServed.add(response.body().length);
+        }
+        return response;
+    }
+
+    // If-None-Match 일치 - 알고 있는 본문 크기만큼 절약
+    public void notModified(String region, long version, String path) {
+        requests.increment();
+        notModified.increment();
+        CachedResponse response = responses.getIfPresent(new Key(region, version, path));
+        if (response != null) {
+            bytesSaved.add(response.body().length);
+        }
+    }
+
+    public void put(String region, long version, String path, CachedResponse response) {
+        responses.put(new Key(region, version, path), response);
+    }
+
+    // 쓰기 트랜잭션 커밋 전에 다른 요청이 옛 값을 새 버전으로 캐시할 수 있으므로 커밋 이후에도 한 번 더 올린다
+    public void evict(String region) {
+        AtomicLong version = versions.computeIfAbsent(region, key -> new AtomicLong(startedAt));
+        version.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    public HttpCacheStatsDto getStats() {
+        long requestCount = requests.sum();
+        long hitCount = hits.sum();
+        long notModifiedCount = notModified.sum();
+        return new HttpCacheStatsDto(
+                requestCount,
+                hitCount,
+                notModifiedCount,
+                requestCount - hitCount - notModifiedCount,
+                requestCount == 0 ? 0 : (double) (hitCount + notModifiedCount) / requestCount,
+                bytesSaved.sum(),
+                bytesServed.sum(),
+                responses.estimatedSize(),
+                responses.stats().evictionCount()
+        );
+    }
+}
@@ -2,7 +2,6 @@ package com.coffeebean.global.init;
 
 import java.net.URI;
 import java.net.URL;
-import java.util.List;
 
 import com.coffeebean.domain.cart.cart.entity.Cart;
 import com.coffeebean.domain.cart.cart.repository.CartRepository;
@@ -30,6 +29,7 @@ import com.coffeebean.domain.question.answer.service.AnswerService;
 import com.coffeebean.domain.question.question.entity.Question;
 import com.coffeebean.domain.question.question.repository.QuestionRepository;
 import com.coffeebean.domain.user.pointHitstory.entity.PointHistory;
+import com.coffeebean.domain.user.pointHitstory.repository.PointHistoryRepository;
 import com.coffeebean.domain.user.user.Address;
 import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.repository.UserRepository;
@@ -43,6 +43,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class BaseInit {
 
 	private final UserRepository userRepository;
+	private final PointHistoryRepository pointHistoryRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final ItemRepository itemRepository;
 	private final CartService cartService;
@@ -67,12 +68,9 @@ public class BaseInit {
 					.name("user1")
 					.address(new Address("서울", "관악구 원두아파트", "12345"))
 					.totalPoints(5000)
-					.pointHistories(List.of(PointHistory.builder()
-						.amount(5000)
-						.description("샘플 데이터 테스트를 위해 기본으로 지급되는 포인트")
-						.build()))
 					.build();
 				userRepository.save(user);
+				pointHistoryRepository.save(new PointHistory(user, 5000, "샘플 데이터 테스트를 위해 기본으로 지급되는 포인트"));
 
 				User user2 = User.builder()
 					.email("user2@exam.com")
@@ -80,12 +78,9 @@ public class BaseInit {
 					.name("user2")
 					.address(new Address("수원", "수원구 원두아파트", "43251"))
 					.totalPoints(5000)
-					.pointHistories(List.of(PointHistory.builder()
-						.amount(5000)
-						.description("샘플 데이터 테스트를 위해 기본으로 지급되는 포인트")
-						.build()))
 					.build();
 				userRepository.save(user2);
+				pointHistoryRepository.save(new PointHistory(user2, 5000, "샘플 데이터 테스트를 위해 기본으로 지급되는 포인트"));
 			}
 		};
 	}
@@ -0,0 +1,25 @@
+package com.coffeebean.global.jdbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EndpointQueryStatsDto {
+
+    private final String endpoint; // "GET /api/v1/items/{id}"
+
+    private final long requestCount;
+
+    private final double avgStatements; // 요청당 평균 SQL 수
+
+    private final long maxStatements;
+
+    private final double avgRows;
+
+    private final double avgJdbcMillis;
+
+    private final double avgElapsedMillis; // 요청 전체 처리 시간 평균
+
+    private final long slowCount; // 기준을 넘어 경고 로그를 남긴 요청 수
+}
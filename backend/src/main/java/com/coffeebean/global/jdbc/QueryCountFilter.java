@@ -0,0 +1,134 @@
+package com.coffeebean.global.jdbc;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청마다 QueryCounter 범위를 열어 SQL 수, 행 수, JDBC 시간을 집계한다.
+ * headers-enabled 면 응답 헤더로 내려주고 (본문을 쓰기 시작할 때까지 실행된 SQL 기준),
+ * SQL 수나 처리 시간이 기준을 넘으면 많이 실행된 SQL 과 함께 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String ROWS_HEADER = "X-Query-Rows";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private final QueryMetrics queryMetrics;
+
+    @Value("${jdbc.query-log.headers-enabled:false}")
+    private boolean headersEnabled;
+
+    @Value("${jdbc.query-log.statement-threshold:30}")
+    private long statementThreshold;
+
+    @Value("${jdbc.query-log.slow-request-ms:1000}")
+    private long slowRequestMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        try (QueryStats stats = QueryCounter.begin()) {
+            try {
+                filterChain.doFilter(request, headersEnabled ? new StatsHeaderResponse(response, stats) : response);
+            } finally {
+                long elapsedNanos = System.nanoTime() - startedAt;
+                // 본문 없이 끝난 응답 (304, 204, sendfile 등)
+                if (headersEnabled && !response.isCommitted()) {
+                    writeHeaders(response, stats);
+                }
+                record(request, stats, elapsedNanos);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats, long elapsedNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        boolean slow = stats.getStatementCount() > statementThreshold || elapsedMillis > slowRequestMs;
+        queryMetrics.record(request.getMethod(), pattern == null ? "(unmapped)" : pattern.toString(), stats,
+                elapsedNanos, slow);
+
+        if (slow) {
+            log.warn("SQL 이 많거나 느린 요청: {} {}, SQL {}개, 행 {}개, JDBC {}ms, 전체 {}ms\n{}",
+                    request.getMethod(), request.getRequestURI(), stats.getStatementCount(), stats.getRowCount(),
+                    stats.getJdbcMillis(), elapsedMillis, stats.summary(10));
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, QueryStats stats) {
+        response.setHeader(COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+        response.setHeader(ROWS_HEADER, String.valueOf(stats.getRowCount()));
+        response.setHeader(TIME_HEADER, String.valueOf(stats.getJdbcMillis()));
+    }
+
+    // 헤더는 커밋 전에만 쓸 수 있으므로 본문을 쓰기 직전에 추가
+    private static class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void beforeCommit() {
+            if (!written && !isCommitted()) {
+                written = true;
+                writeHeaders((HttpServletResponse) getResponse(), stats);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            beforeCommit();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            beforeCommit();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            beforeCommit();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            beforeCommit();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            beforeCommit();
+            super.sendError(sc);
+        }
+    }
+}
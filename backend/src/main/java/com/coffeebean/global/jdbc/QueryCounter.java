@@ -0,0 +1,58 @@
+package com.coffeebean.global.jdbc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 을 집계하는 범위(scope).
+ * QueryCountFilter 가 요청마다 범위를 열고, 테스트에서는 begin() 으로 직접 열 수 있다.
+ * 범위는 중첩될 수 있고 SQL 은 열려 있는 모든 범위에 집계된다. (다른 스레드에서 실행된 SQL 은 집계되지 않음)
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<QueryStats>> SCOPES = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    // try-with-resources 로 닫으면 범위가 끝난다
+    public static QueryStats begin() {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        QueryStats stats = new QueryStats();
+        scopes.push(stats);
+        return stats;
+    }
+
+    static void end(QueryStats stats) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(stats);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    static boolean isActive() {
+        return SCOPES.get() != null;
+    }
+
+    static void statement(String sql, long nanos, long rows) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(stats -> stats.addStatement(sql, nanos, rows));
+        }
+    }
+
+    static void rows(long rows) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(stats -> stats.addRows(rows));
+        }
+    }
+}
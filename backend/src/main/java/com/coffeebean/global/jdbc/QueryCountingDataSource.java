@@ -0,0 +1,163 @@
+package com.coffeebean.global.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Connection / Statement / ResultSet 을 프록시로 감싸 QueryCounter 범위에 SQL 수, 행 수, JDBC 시간을 집계한다.
+ * 범위가 열려 있지 않으면 집계 없이 그대로 위임한다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[] {type}, handler));
+    }
+
+    // Hibernate 는 Statement, ResultSet 을 Map 의 키로 관리하므로 equals/hashCode 는 프록시 기준으로 처리
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> target.toString();
+                default -> handle(method, args);
+            };
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        new StatementHandler(result, (String) args[0]));
+                case "prepareCall" -> proxy(CallableStatement.class, new StatementHandler(result, (String) args[0]));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(result, null));
+                default -> result;
+            };
+        }
+    }
+
+    private static class StatementHandler extends DelegatingHandler {
+
+        private final String sql;
+
+        StatementHandler(Object target, String sql) {
+            super(target);
+            this.sql = sql;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!QueryCounter.isActive()) {
+                return delegate(method, args);
+            }
+            if (!name.startsWith("execute")) {
+                Object result = delegate(method, args);
+                return name.equals("getResultSet") && result != null
+                        ? proxy(ResultSet.class, new ResultSetHandler(result))
+                        : result;
+            }
+
+            // Statement.execute(sql) 는 인자로, PreparedStatement 는 prepare 시점의 SQL
+            String executed = args != null && args.length > 0 && args[0] instanceof String argument ? argument : sql;
+            long startedAt = System.nanoTime();
+            Object result = null;
+            try {
+                result = delegate(method, args);
+            } finally {
+                QueryCounter.statement(executed, System.nanoTime() - startedAt, updatedRows(result));
+            }
+            return result instanceof ResultSet ? proxy(ResultSet.class, new ResultSetHandler(result)) : result;
+        }
+
+        private long updatedRows(Object result) {
+            long rows = 0;
+            switch (result) {
+                case Integer count -> rows = Math.max(count, 0);
+                case Long count -> rows = Math.max(count, 0);
+                case int[] counts -> {
+                    for (int count : counts) {
+                        rows += Math.max(count, 0);
+                    }
+                }
+                case long[] counts -> {
+                    for (long count : counts) {
+                        rows += Math.max(count, 0);
+                    }
+                }
+                case null, default -> {
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static class ResultSetHandler extends DelegatingHandler {
+
+        ResultSetHandler(Object target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                QueryCounter.rows(1);
+            }
+            return result;
+        }
+    }
+}
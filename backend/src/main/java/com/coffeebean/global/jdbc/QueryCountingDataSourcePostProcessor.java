@@ -0,0 +1,19 @@
+package com.coffeebean.global.jdbc;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+// 애플리케이션의 DataSource 를 QueryCountingDataSource 로 감싼다 (Hibernate, JdbcTemplate 모두 같은 DataSource 사용)
+@Component
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+            return new QueryCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
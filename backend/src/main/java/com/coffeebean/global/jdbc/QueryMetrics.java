@@ -0,0 +1,88 @@
+package com.coffeebean.global.jdbc;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엔드포인트(HTTP 메서드 + 매핑 패턴)별 SQL 집계.
+ * 요청당 평균 SQL 수가 많은 순으로 보면 N+1 이 있는 API 를 찾을 수 있다.
+ * 요청당 SQL 수는 coffeebean.http.jdbc.statements 메트릭으로도 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param method  HTTP 메서드
+     * @param pattern 매핑 패턴 ("/api/v1/items/{id}", 매핑되지 않은 요청은 "(unmapped)")
+     */
+    public void record(String method, String pattern, QueryStats stats, long elapsedNanos, boolean slow) {
+        EndpointStats endpointStats = endpoints.computeIfAbsent(method + " " + pattern,
+                key -> new EndpointStats(DistributionSummary.builder("coffeebean.http.jdbc.statements")
+                        .description("요청당 실행된 SQL 수")
+                        .tag("method", method)
+                        .tag("uri", pattern)
+                        .register(meterRegistry)));
+        endpointStats.statementSummary.record(stats.getStatementCount());
+        endpointStats.requests.increment();
+        endpointStats.statements.add(stats.getStatementCount());
+        endpointStats.maxStatements.accumulate(stats.getStatementCount());
+        endpointStats.rows.add(stats.getRowCount());
+        endpointStats.jdbcNanos.add(stats.getJdbcNanos());
+        endpointStats.elapsedNanos.add(elapsedNanos);
+        if (slow) {
+            endpointStats.slowRequests.increment();
+        }
+    }
+
+    public List<EndpointQueryStatsDto> getStats() {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingDouble(EndpointQueryStatsDto::getAvgStatements).reversed())
+                .toList();
+    }
+
+    private static class EndpointStats {
+
+        private final DistributionSummary statementSummary;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Long::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private final LongAdder slowRequests = new LongAdder();
+
+        EndpointStats(DistributionSummary statementSummary) {
+            this.statementSummary = statementSummary;
+        }
+
+        EndpointQueryStatsDto toDto(String endpoint) {
+            long requestCount = Math.max(requests.sum(), 1);
+            return new EndpointQueryStatsDto(
+                    endpoint,
+                    requests.sum(),
+                    (double) statements.sum() / requestCount,
+                    maxStatements.get(),
+                    (double) rows.sum() / requestCount,
+                    jdbcNanos.sum() / 1_000_000.0 / requestCount,
+                    elapsedNanos.sum() / 1_000_000.0 / requestCount,
+                    slowRequests.sum()
+            );
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.coffeebean.global.jdbc;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+
+/**
+ * 하나의 범위(요청, 테스트 블록)에서 실행된 SQL 집계.
+ * 같은 SQL 은 횟수와 시간을 합쳐서 보관하므로 N+1 은 "같은 SQL n회" 로 드러난다.
+ */
+public class QueryStats implements AutoCloseable {
+
+    // SQL 종류가 이보다 많으면 나머지는 개수만 센다
+    private static final int MAX_DISTINCT_SQL = 100;
+
+    @Getter
+    private long statementCount;
+
+    @Getter
+    private long rowCount; // 조회한 행 수 + 변경된 행 수
+
+    @Getter
+    private long jdbcNanos;
+
+    private final Map<String, SqlStats> statements = new LinkedHashMap<>();
+
+    void addStatement(String sql, long nanos, long rows) {
+        statementCount++;
+        rowCount += rows;
+        jdbcNanos += nanos;
+
+        String key = sql == null ? "(unknown)" : sql.strip();
+        SqlStats sqlStats = statements.get(key);
+        if (sqlStats == null && statements.size() < MAX_DISTINCT_SQL) {
+            sqlStats = new SqlStats();
+            statements.put(key, sqlStats);
+        }
+        if (sqlStats != null) {
+            sqlStats.count++;
+            sqlStats.nanos += nanos;
+        }
+    }
+
+    void addRows(long rows) {
+        rowCount += rows;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    /**
+     * 실행 횟수가 많은 순으로 SQL 요약
+     *
+     * @param limit 보여줄 SQL 종류 수
+     */
+    public String summary(int limit) {
+        return statements.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, SqlStats> entry) -> entry.getValue().count)
+                        .reversed())
+                .limit(limit)
+                .map(entry -> "  %dx %.1fms %s".formatted(entry.getValue().count,
+                        entry.getValue().nanos / 1_000_000.0, entry.getKey()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void close() {
+        QueryCounter.end(this);
+    }
+
+    private static class SqlStats {
+        private long count;
+        private long nanos;
+    }
+}
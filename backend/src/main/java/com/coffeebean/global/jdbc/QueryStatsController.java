@@ -0,0 +1,31 @@
+package com.coffeebean.global.jdbc;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coffeebean.global.dto.RsData;
+import com.coffeebean.global.security.annotations.AdminOnly;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/query-stats")
+public class QueryStatsController {
+
+    private final QueryMetrics queryMetrics;
+
+    // 관리자 - API 별 SQL 수, JDBC 시간 (요청당 평균 SQL 수가 많은 순)
+    @AdminOnly
+    @GetMapping
+    public RsData<List<EndpointQueryStatsDto>> getStats() {
+        return new RsData<>(
+                "200-1",
+                "API 별 SQL 통계가 조회되었습니다.",
+                queryMetrics.getStats()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.coffeebean.global.jdbc;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * IDENTITY 에서 시퀀스로 바꾼 테이블의 시퀀스를 기존 최대 id 뒤로 맞춘다.
+ * ddl-auto: update 는 시퀀스를 1 부터 새로 만들기 때문에, IDENTITY 로 쌓인 데이터가 있는 DB 에서는
+ * 맞추지 않으면 첫 insert 부터 PK 가 중복된다. 이미 최대 id 보다 앞서 있으면 아무것도 하지 않는다.
+ * (샘플 데이터를 넣는 BaseInit 보다 먼저 실행)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SequenceInitializer implements ApplicationRunner {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 한다
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String[][] SEQUENCES = {
+            // 시퀀스, 테이블, id 컬럼
+            {"orders_seq", "orders", "order_id"},
+            {"order_item_seq", "order_item", "id"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String[] sequence : SEQUENCES) {
+            try {
+                alignSequence(sequence[0], sequence[1], sequence[2]);
+            } catch (DataAccessException e) {
+                log.warn("시퀀스 {} 를 맞추지 못했습니다: {}", sequence[0], e.getMessage());
+            }
+        }
+    }
+
+    private void alignSequence(String sequenceName, String tableName, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("select max(%s) from %s".formatted(idColumn, tableName), Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        // H2: BASE_VALUE 는 다음 nextval 이 돌려줄 값
+        Long nextValue = jdbcTemplate.queryForObject(
+                "select base_value from information_schema.sequences where upper(sequence_name) = upper(?)",
+                Long.class, sequenceName);
+        // pooled 옵티마이저는 nextval 값 v 에 대해 (v - allocationSize, v] 범위의 id 를 쓴다
+        if (nextValue != null && nextValue - ALLOCATION_SIZE >= maxId) {
+            return;
+        }
+
+        long restartWith = maxId + ALLOCATION_SIZE;
+        jdbcTemplate.execute("alter sequence %s restart with %d".formatted(sequenceName, restartWith));
+        log.info("시퀀스 {} 를 {} 로 맞춤 ({}.{} 최대값 {})", sequenceName, restartWith, tableName, idColumn, maxId);
+    }
+}
@@ -0,0 +1,59 @@
+package com.coffeebean.global.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 주문 처리 비즈니스 카운터.
+ * 주문 수와 사용 적립금은 롤백된 주문이 집계되지 않도록 커밋 이후에 센다.
+ * (초당 주문 수는 Prometheus 에서 rate(coffeebean_orders_created_total[1m]))
+ */
+@Component
+public class CheckoutMetrics {
+
+    private final Counter ordersCreated;
+    private final Counter stockRejections;
+    private final Counter pointsSpent;
+
+    public CheckoutMetrics(MeterRegistry meterRegistry) {
+        ordersCreated = Counter.builder("coffeebean.orders.created")
+                .description("커밋된 주문 수")
+                .register(meterRegistry);
+        stockRejections = Counter.builder("coffeebean.stock.rejections")
+                .description("재고 부족으로 거절된 주문 수")
+                .register(meterRegistry);
+        pointsSpent = Counter.builder("coffeebean.points.spent")
+                .description("주문에 사용된 적립금")
+                .baseUnit("points")
+                .register(meterRegistry);
+    }
+
+    public void orderCreated() {
+        afterCommit(ordersCreated::increment);
+    }
+
+    public void stockRejected() {
+        stockRejections.increment();
+    }
+
+    public void pointsSpent(int amount) {
+        afterCommit(() -> pointsSpent.increment(amount));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
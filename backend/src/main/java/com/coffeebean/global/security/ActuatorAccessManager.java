@@ -0,0 +1,50 @@
+package com.coffeebean.global.security;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import com.coffeebean.global.util.JwtUtil;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * /actuator/** (health 제외) 접근 허용 기준: 관리자 토큰이거나 management.allowed-ips 에서 온 요청 (Prometheus 수집기).
+ * 관리자 토큰은 SecurityContext 에 인증 객체를 만들지 않으므로 AdminOnlyAspect 와 같이 클레임의 role 로 판단한다.
+ */
+@Component
+public class ActuatorAccessManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final List<IpAddressMatcher> allowedIps;
+
+    public ActuatorAccessManager(@Value("${management.allowed-ips:127.0.0.1/32,::1/128}") List<String> allowedIps) {
+        this.allowedIps = allowedIps.stream().map(String::trim).map(IpAddressMatcher::new).toList();
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        return new AuthorizationDecision(isAdmin(request) || isAllowedIp(request));
+    }
+
+    private boolean isAdmin(HttpServletRequest request) {
+        try {
+            return JwtUtil.getPayload(request)
+                    .map(payload -> "ROLE_ADMIN".equals(payload.get("role")))
+                    .orElse(false);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isAllowedIp(HttpServletRequest request) {
+        return allowedIps.stream().anyMatch(matcher -> matcher.matches(request));
+    }
+}
@@ -0,0 +1,42 @@
+package com.coffeebean.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.coffeebean.global.exception.ServiceException;
+
+/**
+ * 커서 토큰 인코딩/디코딩.
+ * 마지막으로 조회한 정렬 키 값들을 구분자로 이어 base64url 로 감싼 불투명(opaque) 토큰을 만든다.
+ */
+public class CursorUtil {
+
+    private static final String DELIMITER = "\u001F";
+
+    private CursorUtil() {
+    }
+
+    public static String encode(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(DELIMITER);
+            }
+            sb.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedLength) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER, -1);
+            if (values.length != expectedLength) {
+                throw new IllegalArgumentException();
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException("400-7", "잘못된 커서입니다.");
+        }
+    }
+}
@@ -32,14 +32,12 @@ public class JwtAuthenticationFilterFromCookie extends OncePerRequestFilter {
         FilterChain filterChain) throws ServletException, IOException {
 
         try {
-            // 1. 쿠키에서 JWT 추출
-            Optional<String> token = JwtUtil.getJwtFromCookies(request);
-            log.info("JWT Token={}", token.orElse("No Token Found"));
+            // 1. 쿠키에서 JWT 추출 + 2. 페이로드 조회 (검증 결과는 캐시 / request attribute 로 재사용)
+            Optional<Map<String, Object>> payload = JwtUtil.getPayload(request);
 
-            if (token.isPresent()) {
-                // 2. 페이로드 조회
-                Map<String, Object> claims = JwtUtil.getPayload(token.get());
-                log.info("JWT Claims={}", claims);
+            if (payload.isPresent()) {
+                Map<String, Object> claims = payload.get();
+                log.debug("JWT Claims={}", claims);
 
                 // 3. 필수 클레임 검증
                 if (!claims.containsKey("email")) {
@@ -59,12 +57,11 @@ public class JwtAuthenticationFilterFromCookie extends OncePerRequestFilter {
                 // 5. DB 조회 생략
                 // 6. 인증 객체 생성 및 저장 ✅
                 CustomUserDetails customUserDetails = new CustomUserDetails(userId, email);
-                log.info("customUserDetails={}", customUserDetails);
+                log.debug("customUserDetails={}", customUserDetails);
 
                 // 권한은 필요없어서 빈 리스트로 반환
                 Authentication authentication = new UsernamePasswordAuthenticationToken(customUserDetails,
                     null, Collections.emptyList());
-                log.info("authentication={}", authentication);
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -1,19 +1,33 @@
 package com.coffeebean.global.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -25,9 +39,57 @@ public class JwtUtil {
     private static final String SECRET_KEY = "676e27c6-60e8-49c7-8c0f-adf8e7ecaa2e";
     private static final long EXPIRATION_TIME = 1000L * 3600 * 24; // 1일 (24시간)
 
+    // 한 요청 안에서 필터와 AdminOnlyAspect 가 검증 결과를 공유하기 위한 request attribute
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".claims";
+
+    // 키와 파서는 불변이라 한 번만 만들어 재사용
+    private static final SecretKey SECRET = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private static final JwtParser PARSER = Jwts.parser()
+        .verifyWith(SECRET)
+        .build();
+
+    private static final int VERIFIED_CACHE_MAX_SIZE = 10_000;
+
+    // 검증을 통과한 토큰의 클레임 캐시 (키: 토큰의 SHA-256, 토큰의 exp 시각에 만료)
+    private static final Cache<String, VerifiedToken> VERIFIED_TOKENS = Caffeine.newBuilder()
+        .maximumSize(VERIFIED_CACHE_MAX_SIZE)
+        .expireAfter(new Expiry<String, VerifiedToken>() {
+            @Override
+            public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                return token.timeToLiveNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return token.timeToLiveNanos();
+            }
+
+            @Override
+            public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        })
+        .build();
+
+    // 정적 유틸리티라 MeterRegistry 를 주입받지 않고 전역 레지스트리에 등록 (스프링이 애플리케이션 레지스트리를 연결해 준다)
+    private static final Timer PAYLOAD_CACHED = Timer.builder("coffeebean.jwt.parse")
+        .description("JWT 페이로드 추출 (cache=hit 는 검증 결과 재사용, miss 는 서명 검증)")
+        .tag("cache", "hit")
+        .register(Metrics.globalRegistry);
+    private static final Timer PAYLOAD_PARSED = Timer.builder("coffeebean.jwt.parse")
+        .description("JWT 페이로드 추출 (cache=hit 는 검증 결과 재사용, miss 는 서명 검증)")
+        .tag("cache", "miss")
+        .register(Metrics.globalRegistry);
+
+    private record VerifiedToken(Map<String, Object> claims, long expiresAtMillis) {
+
+        long timeToLiveNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(expiresAtMillis - System.currentTimeMillis(), 0));
+        }
+    }
+
     // JWT 생성 (추가적인 Claims 포함 가능)
     public static String createToken(Map<String, Object> claims) {
-        SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
         Date issuedAt = new Date();
         Date expiration = new Date(issuedAt.getTime() + EXPIRATION_TIME);
 
@@ -35,35 +97,69 @@ public class JwtUtil {
             .setClaims(claims) // 추가적인 claims 포함
             .setIssuedAt(issuedAt)
             .setExpiration(expiration)
-            .signWith(secretKey, SignatureAlgorithm.HS256)
+            .signWith(SECRET, SignatureAlgorithm.HS256)
             .compact();
     }
 
     // JWT 유효성 검사
     public static boolean isValidToken(String token) {
         try {
-            SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
-
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parse(token);
-
+            getPayload(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
 
-    // JWT 페이로드 추출
+    // JWT 페이로드 추출 (검증된 토큰은 만료 전까지 캐시된 클레임 반환)
     public static Map<String, Object> getPayload(String token) {
-        SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        long startedAt = System.nanoTime();
+        String key = hash(token);
+        VerifiedToken verified = VERIFIED_TOKENS.getIfPresent(key);
+        if (verified != null) {
+            PAYLOAD_CACHED.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return verified.claims();
+        }
+
+        try {
+            Claims claims = parse(token);
+            // 캐시 여부와 상관없이 항상 같은 읽기 전용 클레임 반환
+            Map<String, Object> payload = Collections.unmodifiableMap(claims);
+            // exp 가 없는 토큰은 캐시하지 않음
+            if (claims.getExpiration() != null) {
+                VERIFIED_TOKENS.put(key, new VerifiedToken(payload, claims.getExpiration().getTime()));
+            }
+            return payload;
+        } finally {
+            PAYLOAD_PARSED.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 현재 요청의 JWT 페이로드 추출 - 요청당 한 번만 검증하고 결과를 request attribute 에 보관
+    @SuppressWarnings("unchecked")
+    public static Optional<Map<String, Object>> getPayload(HttpServletRequest request) {
+        Object cached = request.getAttribute(CLAIMS_ATTRIBUTE);
+        if (cached != null) {
+            return Optional.of((Map<String, Object>) cached);
+        }
+
+        Optional<Map<String, Object>> claims = getJwtFromCookies(request).map(JwtUtil::getPayload);
+        claims.ifPresent(value -> request.setAttribute(CLAIMS_ATTRIBUTE, value));
+        return claims;
+    }
 
-        return (Map<String, Object>) Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parse(token)
-            .getPayload();
+    // 서명, 만료 검증 후 페이로드 반환 (캐시를 거치지 않음)
+    static Claims parse(String token) {
+        return PARSER.parseSignedClaims(token).getPayload();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     // JWT를 쿠키에 저장
@@ -87,9 +183,6 @@ public class JwtUtil {
             return Optional.empty();
         }
 
-        Arrays.stream(cookies)
-            .forEach(cookie -> log.info("Cookie Name: {}, Value: {}", cookie.getName(), cookie.getValue()));
-
         return Arrays.stream(cookies)
             .filter(cookie -> "token".equals(cookie.getName()))
             .map(Cookie::getValue)
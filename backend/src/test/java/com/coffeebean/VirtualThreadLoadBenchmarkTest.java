@@ -0,0 +1,238 @@
+package com.coffeebean;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.global.email.FakeJavaMailSender;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 요청 처리 부하 비교
+ * (./gradlew benchmark --tests '*VirtualThreadLoadBenchmarkTest' -Dbenchmark.clients=100,1000,10000)
+ * 모드마다 애플리케이션을 임의 포트로 띄우고 (spring.threads.virtual.enabled 만 다름)
+ * 동시 클라이언트 수별로 상품 조회, 주문 (JDBC), 비회원 이메일 인증 (SMTP 지연) 요청을 섞어 보내
+ * 요청 종류별 처리량, p50/p99 지연, 실패 수를 출력한다.
+ * 10,000 클라이언트는 클라이언트/서버 소켓을 합쳐 2만 개 이상의 파일 디스크립터가 필요하다 (ulimit -n).
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+	private static final List<Integer> CLIENTS = Arrays.stream(
+			System.getProperty("benchmark.clients", "100,1000,10000").split(","))
+		.map(String::trim)
+		.map(Integer::parseInt)
+		.toList();
+	private static final int DURATION_SECONDS = Integer.getInteger("benchmark.durationSeconds", 10);
+	private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmupSeconds", 3);
+	private static final long SMTP_LATENCY_MS = Long.getLong("benchmark.smtpLatencyMs", 50);
+	private static final int ITEMS = 100;
+
+	private enum RequestType {
+		ITEM, ORDER, VERIFY
+	}
+
+	@Test
+	@DisplayName("동시 클라이언트 수별 플랫폼 스레드 / 가상 스레드 처리량과 p99 지연 비교")
+	void compare() throws Exception {
+		Map<String, Long> succeeded = new LinkedHashMap<>();
+		for (boolean virtual : new boolean[] {false, true}) {
+			String mode = virtual ? "virtual" : "platform";
+			try (ConfigurableApplicationContext context = start(mode, virtual)) {
+				int port = ((WebServerApplicationContext)context).getWebServer().getPort();
+				List<Long> itemIds = prepare(context);
+
+				load(port, itemIds, Math.min(CLIENTS.getFirst(), 100), WARMUP_SECONDS);
+				for (int clients : CLIENTS) {
+					Map<RequestType, Samples> result = load(port, itemIds, clients, DURATION_SECONDS);
+					report(mode, clients, result);
+					succeeded.merge(mode, result.values().stream().mapToLong(Samples::size).sum(), Long::sum);
+				}
+			}
+		}
+
+		assertThat(succeeded).allSatisfy((mode, count) -> assertThat(count).isPositive());
+	}
+
+	private ConfigurableApplicationContext start(String mode, boolean virtual) {
+		return new SpringApplicationBuilder(CoffeebeanApplication.class)
+			.profiles("test")
+			.properties(
+				"server.port=0",
+				"spring.threads.virtual.enabled=" + virtual,
+				"spring.datasource.url=jdbc:h2:mem:load_" + mode + ";MODE=MySQL",
+				"spring.jpa.properties.hibernate.generate_statistics=false",
+				"server.tomcat.max-connections=20000",
+				"server.tomcat.accept-count=1000",
+				"mail.outbox.worker-enabled=false",
+				"mail.send-threads=" + Integer.getInteger("benchmark.mailSendThreads", 8),
+				"spring.jpa.show-sql=false",
+				"logging.level.root=WARN",
+				"logging.level.org.hibernate.SQL=WARN",
+				"logging.level.org.hibernate.orm.jdbc.bind=WARN",
+				"logging.level.org.hibernate.orm.jdbc.extract=WARN")
+			.run();
+	}
+
+	// 재고가 부족해지지 않도록 넉넉한 재고의 상품을 여러 개 만들어 주문을 분산
+	private List<Long> prepare(ConfigurableApplicationContext context) {
+		context.getBean(FakeJavaMailSender.class).setLatencyMillis(SMTP_LATENCY_MS);
+		ItemService itemService = context.getBean(ItemService.class);
+		List<Long> itemIds = new ArrayList<>();
+		for (int i = 0; i < ITEMS; i++) {
+			itemIds.add(itemService.addItem("부하 테스트 원두 " + i, 10000, 1_000_000_000, "부하 테스트", "load.png")
+				.getId());
+		}
+		return itemIds;
+	}
+
+	private Map<RequestType, Samples> load(int port, List<Long> itemIds, int clients, int seconds)
+		throws Exception {
+		long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+		Map<RequestType, Samples> merged = new EnumMap<>(RequestType.class);
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+			HttpClient http = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(executor)
+				.connectTimeout(Duration.ofSeconds(30))
+				.build()) {
+			List<Future<Map<RequestType, Samples>>> results = new ArrayList<>();
+			for (int i = 0; i < clients; i++) {
+				results.add(executor.submit(() -> client(http, port, itemIds, deadline)));
+			}
+			for (Future<Map<RequestType, Samples>> result : results) {
+				result.get().forEach((type, samples) -> merged.merge(type, samples, Samples::merge));
+			}
+		}
+		return merged;
+	}
+
+	// 요청 10개 중 상품 조회 7, 주문 2, 이메일 인증 1
+	private Map<RequestType, Samples> client(HttpClient http, int port, List<Long> itemIds, long deadline) {
+		Map<RequestType, Samples> samples = new EnumMap<>(RequestType.class);
+		for (RequestType type : RequestType.values()) {
+			samples.put(type, new Samples());
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (System.nanoTime() < deadline) {
+			int slot = random.nextInt(10);
+			RequestType type = slot < 7 ? RequestType.ITEM : slot < 9 ? RequestType.ORDER : RequestType.VERIFY;
+			HttpRequest request = request(type, port, itemIds.get(random.nextInt(itemIds.size())));
+
+			long startedAt = System.nanoTime();
+			try {
+				HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+				if (response.statusCode() / 100 == 2) {
+					samples.get(type).add(System.nanoTime() - startedAt);
+				} else {
+					samples.get(type).errors++;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (Exception e) {
+				samples.get(type).errors++;
+			}
+		}
+		return samples;
+	}
+
+	private HttpRequest request(RequestType type, int port, long itemId) {
+		String baseUrl = "http://localhost:" + port;
+		HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(60));
+		return switch (type) {
+			case ITEM -> builder.uri(URI.create(baseUrl + "/api/v1/items/" + itemId)).GET().build();
+			case ORDER -> builder.uri(URI.create(baseUrl + "/api/v1/orders"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString("""
+					{
+					  "items": [{"id": %d, "count": 1}],
+					  "address": {"city": "서울", "street": "원두아파트 100동 1201호", "zipcode": "23578"},
+					  "email": "example@exam.com",
+					  "cartOrder": false,
+					  "point": 0
+					}
+					""".formatted(itemId)))
+				.build();
+			case VERIFY -> builder.uri(URI.create(baseUrl + "/api/v1/non-user/verify"))
+				.header("Content-Type", "text/plain")
+				.POST(HttpRequest.BodyPublishers.ofString("load@exam.com"))
+				.build();
+		};
+	}
+
+	private void report(String mode, int clients, Map<RequestType, Samples> result) {
+		for (Map.Entry<RequestType, Samples> entry : result.entrySet()) {
+			Samples samples = entry.getValue();
+			long[] sorted = samples.sorted();
+			System.out.printf("mode=%s, clients=%d, type=%s, requests=%d, throughput=%.1f/s, p50=%.1fms, p99=%.1fms, "
+					+ "errors=%d%n",
+				mode, clients, entry.getKey(), sorted.length, (double)sorted.length / DURATION_SECONDS,
+				percentile(sorted, 0.50), percentile(sorted, 0.99), samples.errors);
+		}
+	}
+
+	private double percentile(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int)Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1_000_000.0;
+	}
+
+	// 클라이언트 하나가 기록하는 응답 시간 (ns)
+	private static class Samples {
+
+		private long[] values = new long[256];
+		private int size;
+		private long errors;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		int size() {
+			return size;
+		}
+
+		long[] sorted() {
+			long[] sorted = Arrays.copyOf(values, size);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+		Samples merge(Samples other) {
+			for (int i = 0; i < other.size; i++) {
+				add(other.values[i]);
+			}
+			errors += other.errors;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.coffeebean.domain.cart.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.cart.cart.entity.Cart;
+import com.coffeebean.domain.cart.cart.repository.CartRepository;
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.user.user.enitity.User;
+import com.coffeebean.domain.user.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 주문 완료 후 장바구니 정리 벤치마크 (./gradlew benchmark -Dbenchmark.cartLines=5000)
+ * 장바구니 전체를 로딩해 메모리에서 제거하는 방식과 bulk delete 방식을 비교한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"mail.outbox.worker-enabled=false",
+	"spring.jpa.show-sql=false",
+	"logging.level.org.hibernate.SQL=WARN",
+	"logging.level.org.hibernate.orm.jdbc.bind=WARN",
+	"logging.level.org.hibernate.orm.jdbc.extract=WARN"
+})
+@ActiveProfiles("test")
+class CartCheckoutBenchmarkTest {
+
+	private static final int CART_LINES = Integer.getInteger("benchmark.cartLines", 1_000);
+	private static final int ORDERED_LINES = Integer.getInteger("benchmark.orderedLines", CART_LINES / 2);
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private User actor;
+	private Long cartId;
+	private List<Long> itemIds;
+	private List<Object[]> originalCartItems;
+
+	@BeforeEach
+	void setUp() {
+		actor = userRepository.findByEmail("example@exam.com").get();
+		cartId = transactionTemplate.execute(status -> cartService.getMyCart(actor).getId());
+		// 다른 테스트가 사용하는 기존 장바구니 상품은 끝난 뒤 복원
+		originalCartItems = jdbcTemplate.query("select item_id, quantity from cart_item where cart_id = ?",
+			(rs, rowNum) -> new Object[] {cartId, rs.getLong("item_id"), rs.getInt("quantity")}, cartId);
+
+		List<Object[]> itemRows = new ArrayList<>();
+		for (int i = 0; i < CART_LINES; i++) {
+			itemRows.add(new Object[] {"bench-cart-" + i});
+		}
+		jdbcTemplate.batchUpdate("insert into item (name, price, stock_quantity) values (?, 10000, 100)", itemRows);
+		itemIds = jdbcTemplate.queryForList("select item_id from item where name like 'bench-cart-%' order by item_id",
+			Long.class);
+	}
+
+	private void fillCart() {
+		jdbcTemplate.update("delete from cart_item where cart_id = ?", cartId);
+		jdbcTemplate.batchUpdate("insert into cart_item (cart_id, item_id, quantity) values (?, ?, 1)",
+			itemIds.stream().map(itemId -> new Object[] {cartId, itemId}).toList());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from cart_item where cart_id = ?", cartId);
+		jdbcTemplate.update("delete from item where name like 'bench-cart-%'");
+		jdbcTemplate.batchUpdate("insert into cart_item (cart_id, item_id, quantity) values (?, ?, ?)",
+			originalCartItems);
+	}
+
+	@Test
+	@DisplayName("장바구니 상품이 많아도 bulk delete 는 쿼리 수가 일정하다")
+	void removeItems() {
+		List<Long> ordered = itemIds.subList(0, ORDERED_LINES);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		// 변경 전 방식: 장바구니 컬렉션 로딩 후 removeIf + orphanRemoval 로 1건씩 delete
+		fillCart();
+		statistics.clear();
+		long legacyStartedAt = System.nanoTime();
+		transactionTemplate.executeWithoutResult(status -> {
+			Cart cart = cartRepository.findById(cartId).get();
+			List<Item> items = cart.getCartItems().stream()
+				.map(cartItem -> cartItem.getItem())
+				.filter(item -> ordered.contains(item.getId()))
+				.toList();
+			cart.getCartItems().removeIf(cartItem -> items.contains(cartItem.getItem()));
+		});
+		long legacyMillis = (System.nanoTime() - legacyStartedAt) / 1_000_000;
+		long legacyStatements = statistics.getPrepareStatementCount();
+
+		fillCart();
+		statistics.clear();
+		long bulkStartedAt = System.nanoTime();
+		int deleted = transactionTemplate.execute(status -> cartService.removeItems(actor, ordered));
+		long bulkMillis = (System.nanoTime() - bulkStartedAt) / 1_000_000;
+		long bulkStatements = statistics.getPrepareStatementCount();
+
+		System.out.printf("cartLines=%d, ordered=%d, legacy=%dms/%d statements, bulk=%dms/%d statements%n",
+			CART_LINES, ORDERED_LINES, legacyMillis, legacyStatements, bulkMillis, bulkStatements);
+
+		assertThat(deleted).isEqualTo(ORDERED_LINES);
+		assertThat(bulkStatements).isEqualTo(2);
+		assertThat(jdbcTemplate.queryForObject("select count(*) from cart_item where cart_id = ?", Integer.class,
+			cartId)).isEqualTo(CART_LINES - ORDERED_LINES);
+	}
+}
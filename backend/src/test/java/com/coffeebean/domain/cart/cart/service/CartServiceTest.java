@@ -0,0 +1,153 @@
+package com.coffeebean.domain.cart.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.cart.cart.dto.CartItemDto;
+import com.coffeebean.domain.cart.cart.dto.CartListResponseDto;
+import com.coffeebean.domain.cart.cart.entity.Cart;
+import com.coffeebean.domain.cart.cart.repository.CartRepository;
+import com.coffeebean.domain.cart.cartItem.entity.CartItem;
+import com.coffeebean.domain.cart.cartItem.repository.CartItemRepository;
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.user.user.enitity.User;
+import com.coffeebean.domain.user.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class CartServiceTest {
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private CartItemRepository cartItemRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	private User actor;
+	private Cart cart;
+	private final List<Item> items = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		actor = userRepository.findByEmail("example@exam.com").get();
+		cart = cartService.getMyCart(actor);
+
+		for (int i = 0; i < 20; i++) {
+			Item item = Item.builder().name("장바구니 원두 " + i).price(10000).stockQuantity(100).build();
+			em.persist(item);
+			items.add(item);
+			cart.getCartItems().add(CartItem.builder().cart(cart).item(item).quantity(1).build());
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("장바구니 조회는 상품 수와 관계없이 쿼리 1번이며 금액은 SQL 에서 계산된다")
+	void getCartView() {
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		statistics.clear();
+		CartListResponseDto before = cartService.getCartView(actor.getId());
+		long statementsBefore = statistics.getPrepareStatementCount();
+
+		for (int i = 0; i < 30; i++) {
+			Item item = Item.builder().name("추가 원두 " + i).price(5000).stockQuantity(1).build();
+			em.persist(item);
+			em.persist(CartItem.builder().cart(em.getReference(Cart.class, cart.getId())).item(item).quantity(2).build());
+		}
+		em.flush();
+		em.clear();
+
+		statistics.clear();
+		CartListResponseDto after = cartService.getCartView(actor.getId());
+
+		assertThat(statementsBefore).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(after.getItems()).hasSize(before.getItems().size() + 30);
+		assertThat(after.getTotalPrice()).isEqualTo(before.getTotalPrice() + 30 * 5000 * 2);
+		assertThat(after.getTotalPrice()).isEqualTo(
+			after.getItems().stream().mapToLong(CartItemDto::getTotalPrice).sum());
+		assertThat(after.getItems()).filteredOn(cartItem -> cartItem.getName().startsWith("추가 원두"))
+			.allSatisfy(cartItem -> assertThat(cartItem.isAvailable()).isFalse()); // 재고 1, 수량 2
+	}
+
+	@Test
+	@DisplayName("장바구니가 없는 회원의 조회는 장바구니를 생성하지 않는다")
+	void getCartView_noCart() {
+		long carts = cartRepository.count();
+
+		CartListResponseDto view = cartService.getCartView(Long.MAX_VALUE);
+
+		assertThat(view.getItems()).isEmpty();
+		assertThat(view.getTotalPrice()).isZero();
+		assertThat(cartRepository.count()).isEqualTo(carts);
+	}
+
+	@Test
+	@DisplayName("주문한 상품은 장바구니를 로딩하지 않고 delete 한 번으로 제거한다")
+	void removeItems() {
+		List<Long> ordered = items.subList(0, 15).stream().map(Item::getId).toList();
+		int before = cartItemRepository.findByCart(cart).size();
+		em.clear();
+
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		int deleted = cartService.removeItems(actor, ordered);
+
+		assertThat(deleted).isEqualTo(15);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 장바구니 id 조회 + delete
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(cartItemRepository.findByCart(cart)).hasSize(before - 15);
+	}
+
+	@Test
+	@DisplayName("같은 트랜잭션에서 이미 로딩된 장바구니는 분리되어 다시 조회하면 삭제 결과가 반영된다")
+	void removeItems_loadedCart() {
+		Cart loaded = cartService.getMyCart(actor);
+		int before = loaded.getCartItems().size();
+
+		cartService.removeItems(actor, List.of(items.get(0).getId(), items.get(1).getId()));
+
+		assertThat(em.contains(loaded)).isFalse();
+		Cart reloaded = cartService.getMyCart(actor);
+		assertThat(reloaded.getCartItems()).hasSize(before - 2);
+		assertThat(reloaded.getCartItems())
+			.noneMatch(cartItem -> cartItem.getItem().getId().equals(items.get(0).getId()));
+	}
+
+	@Test
+	@DisplayName("삭제할 상품이 없으면 쿼리를 실행하지 않는다")
+	void removeItems_empty() {
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		assertThat(cartService.removeItems(actor, List.of())).isZero();
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+}
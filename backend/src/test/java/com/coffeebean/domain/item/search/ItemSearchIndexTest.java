@@ -0,0 +1,158 @@
+package com.coffeebean.domain.item.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.global.exception.ServiceException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemSearchIndexTest {
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private ItemSearchIndex itemSearchIndex;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final List<Item> items = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		items.forEach(item -> itemRepository.findById(item.getId()).ifPresent(itemService::deleteItem));
+	}
+
+	private Item add(String name, int price, int stockQuantity, String description) {
+		// 서비스를 통해 추가해야 색인에 반영된다
+		Item item = itemService.addItem(name, price, stockQuantity, description, "search.png");
+		items.add(item);
+		return item;
+	}
+
+	private List<String> searchNames(ItemSearchCondition condition) {
+		return itemService.searchItems(condition, 0, 10).getContent().stream().map(ItemDto::getName).toList();
+	}
+
+	@Test
+	@DisplayName("한글 상품명 일부로 검색하고 상품명 일치가 설명 일치보다 앞에 온다")
+	void search_korean() {
+		add("과테말라 안티구아 검색용", 15000, 5, "초콜릿 향");
+		add("콜롬비아 수프리모 검색용", 14000, 5, "안티구아 와 비슷한 산미");
+
+		assertThat(searchNames(new ItemSearchCondition("안티구", null, null, null)))
+			.containsExactly("과테말라 안티구아 검색용", "콜롬비아 수프리모 검색용");
+		assertThat(searchNames(new ItemSearchCondition("수프리모검색", null, null, null))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("가격, 재고 조건으로 검색 결과를 거른다")
+	void search_filter() {
+		add("케냐 AA 필터검색", 10000, 0, "");
+		add("케냐 AB 필터검색", 20000, 3, "");
+		add("케냐 PB 필터검색", 30000, 3, "");
+
+		assertThat(searchNames(new ItemSearchCondition("필터검색", 15000, null, null)))
+			.containsExactlyInAnyOrder("케냐 AB 필터검색", "케냐 PB 필터검색");
+		assertThat(searchNames(new ItemSearchCondition("필터검색", null, 25000, 1)))
+			.containsExactly("케냐 AB 필터검색");
+	}
+
+	@Test
+	@DisplayName("검색 결과는 페이지로 나뉘고 전체 개수를 함께 반환한다")
+	void search_paging() {
+		for (int i = 0; i < 5; i++) {
+			add("페이지검색 원두 " + i, 10000, 1, "");
+		}
+
+		Page<ItemDto> second = itemService.searchItems(new ItemSearchCondition("페이지검색", null, null, null), 1, 2);
+
+		assertThat(second.getTotalElements()).isEqualTo(5);
+		assertThat(second.getContent()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("상품 수정/삭제가 색인에 반영된다")
+	void modifyAndDelete() {
+		Item item = add("브라질 산토스 수정전", 12000, 5, "");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Item managed = itemService.getItem(item.getId()).get();
+			itemService.modifyItem(managed, "브라질 세하도 수정후", 12000, 5, "");
+		});
+		assertThat(searchNames(new ItemSearchCondition("수정전", null, null, null))).isEmpty();
+		assertThat(searchNames(new ItemSearchCondition("세하도", null, null, null)))
+			.containsExactly("브라질 세하도 수정후");
+
+		itemService.deleteItem(itemRepository.findById(item.getId()).get());
+		assertThat(searchNames(new ItemSearchCondition("세하도", null, null, null))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("롤백된 수정은 색인에 반영되지 않는다")
+	void modify_rollback() {
+		Item item = add("에티오피아 롤백검색", 12000, 5, "");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Item managed = itemService.getItem(item.getId()).get();
+			itemService.modifyItem(managed, "이름변경 원두", 12000, 5, "");
+			status.setRollbackOnly();
+		});
+
+		assertThat(searchNames(new ItemSearchCondition("롤백검색", null, null, null)))
+			.containsExactly("에티오피아 롤백검색");
+	}
+
+	@Test
+	@DisplayName("상품명 또는 상품명 중간 어절의 앞부분으로 자동완성한다")
+	void suggest() {
+		add("자동완성 예가체프 G1", 12000, 5, "");
+		add("자동완성 예가체프 G2", 12000, 5, "");
+		add("시다모 자동완성", 12000, 5, "");
+
+		// 짧은 (사전순으로 앞선) 후보부터
+		assertThat(itemService.suggestItemNames("자동완", 10))
+			.containsExactly("시다모 자동완성", "자동완성 예가체프 G1", "자동완성 예가체프 G2");
+		assertThat(itemService.suggestItemNames("예가체프 g", 1)).containsExactly("자동완성 예가체프 G1");
+		assertThat(itemService.suggestItemNames("", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("검색어가 없으면 예외")
+	void search_blank() {
+		assertThatThrownBy(() -> itemService.searchItems(new ItemSearchCondition(" ", null, null, null), 0, 10))
+			.isInstanceOf(ServiceException.class);
+	}
+
+	@Test
+	@DisplayName("재색인 후에도 같은 결과를 반환한다")
+	void rebuild() {
+		add("재색인 테스트 원두", 12000, 5, "");
+
+		itemSearchIndex.rebuild();
+
+		assertThat(itemSearchIndex.size()).isEqualTo((int)itemRepository.count());
+		assertThat(searchNames(new ItemSearchCondition("재색인", null, null, null)))
+			.containsExactly("재색인 테스트 원두");
+	}
+}
@@ -0,0 +1,106 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.global.util.CursorUtil;
+
+/**
+ * OFFSET 페이징과 커서 페이징의 깊은 페이지 조회 시간 비교 (./gradlew benchmark -Dbenchmark.items=1000000)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"spring.jpa.show-sql=false",
+	"logging.level.org.hibernate.SQL=WARN",
+	"logging.level.org.hibernate.orm.jdbc.bind=WARN",
+	"logging.level.org.hibernate.orm.jdbc.extract=WARN",
+	"logging.level.org.springframework.transaction.interceptor=WARN"
+})
+@ActiveProfiles("test")
+class ItemPaginationBenchmarkTest {
+
+	private static final int ITEM_COUNT = Integer.getInteger("benchmark.items", 1_000_000);
+	private static final long ID_BASE = 100_000_000L;
+	private static final int PAGE_SIZE = 20;
+	private static final int DEEP_PAGE = 10_000;
+	private static final int RUNS = 20;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		List<Object[]> batch = new ArrayList<>(10_000);
+		for (long i = 0; i < ITEM_COUNT; i++) {
+			batch.add(new Object[] {ID_BASE + i, "bench-%07d".formatted(i), 1000 + (int)(i * 7919 % 50_000)});
+			if (batch.size() == 10_000 || i == ITEM_COUNT - 1) {
+				jdbcTemplate.batchUpdate(
+					"insert into item (item_id, name, price, stock_quantity) values (?, ?, ?, 100)", batch);
+				batch.clear();
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from item where item_id >= ?", ID_BASE);
+	}
+
+	private long medianMicros(Runnable query) {
+		long[] elapsed = new long[RUNS];
+		for (int i = 0; i < RUNS; i++) {
+			long startedAt = System.nanoTime();
+			query.run();
+			elapsed[i] = (System.nanoTime() - startedAt) / 1000;
+		}
+		Arrays.sort(elapsed);
+		return elapsed[RUNS / 2];
+	}
+
+	@Test
+	@DisplayName("커서 페이징은 깊은 페이지도 첫 페이지와 비슷한 시간에 조회된다")
+	void offsetVsCursor() {
+		Sort sort = Sort.by("price").ascending().and(Sort.by("id").ascending());
+
+		// 10,000 번째 페이지 직전 상품의 (price, id) 로 커서 생성
+		Map<String, Object> last = jdbcTemplate.queryForMap(
+			"select price, item_id from item order by price, item_id limit 1 offset ?",
+			(long)DEEP_PAGE * PAGE_SIZE - 1);
+		String deepCursor = CursorUtil.encode("price", "asc", last.get("PRICE"), last.get("ITEM_ID"));
+
+		long offsetFirst = medianMicros(() -> itemRepository.findAll(PageRequest.of(0, PAGE_SIZE, sort)));
+		long offsetDeep = medianMicros(() -> itemRepository.findAll(PageRequest.of(DEEP_PAGE, PAGE_SIZE, sort)));
+		long cursorFirst = medianMicros(() -> itemService.getItemsByCursor("", PAGE_SIZE, "price", "asc", false));
+		long cursorDeep = medianMicros(
+			() -> itemService.getItemsByCursor(deepCursor, PAGE_SIZE, "price", "asc", false));
+
+		System.out.printf("items=%d, page size=%d%n", ITEM_COUNT, PAGE_SIZE);
+		System.out.printf("offset: page 1 = %dus, page %d = %dus%n", offsetFirst, DEEP_PAGE, offsetDeep);
+		System.out.printf("cursor: page 1 = %dus, page %d = %dus%n", cursorFirst, DEEP_PAGE, cursorDeep);
+
+		assertThat(cursorDeep).isLessThan(offsetDeep);
+	}
+}
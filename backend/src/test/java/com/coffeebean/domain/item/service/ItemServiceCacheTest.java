@@ -0,0 +1,132 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.item.cache.ItemCatalogCache;
+import com.coffeebean.domain.item.dto.ItemCacheStatsDto;
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemServiceCacheTest {
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private StockService stockService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ItemCatalogCache itemCatalogCache;
+
+	private Item item;
+
+	@BeforeEach
+	void setUp() {
+		// 서비스를 통해 추가/삭제해야 목록 캐시가 무효화된다
+		item = itemService.addItem("캐시 테스트 원두", 12000, 10, "캐시 테스트", "cache.png");
+	}
+
+	@AfterEach
+	void tearDown() {
+		itemRepository.findById(item.getId()).ifPresent(itemService::deleteItem);
+	}
+
+	private ItemCacheStatsDto itemStats() {
+		Map<String, ItemCacheStatsDto> stats = itemService.getCacheStats();
+		return stats.get("items");
+	}
+
+	@Test
+	@DisplayName("같은 상품을 다시 조회하면 캐시에서 반환한다")
+	void getItemDto_hit() {
+		long hitBefore = itemStats().getHitCount();
+
+		itemService.getItemDto(item.getId());
+		ItemDto cached = itemService.getItemDto(item.getId()).get();
+
+		assertThat(cached.getName()).isEqualTo("캐시 테스트 원두");
+		assertThat(itemStats().getHitCount()).isEqualTo(hitBefore + 1);
+	}
+
+	@Test
+	@DisplayName("상품을 수정하면 캐시가 무효화되어 수정된 정보가 조회된다")
+	void modifyItem_evict() {
+		itemService.getItemDto(item.getId());
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Item managed = itemService.getItem(item.getId()).get();
+			itemService.modifyItem(managed, "이름 변경 원두", 15000, 10, "수정");
+		});
+
+		ItemDto modified = itemService.getItemDto(item.getId()).get();
+		assertThat(modified.getName()).isEqualTo("이름 변경 원두");
+		assertThat(modified.getPrice()).isEqualTo(15000);
+	}
+
+	@Test
+	@DisplayName("주문으로 재고가 차감되면 캐시된 상품도 최신 재고로 조회된다")
+	void reserve_stockNotStale() {
+		assertThat(itemService.getItemDto(item.getId()).get().getStockQuantity()).isEqualTo(10);
+		assertThat(itemService.getItemPage(0, 100, "id", "desc").getContent())
+			.filteredOn(dto -> dto.getId().equals(item.getId()))
+			.extracting(ItemDto::getStockQuantity)
+			.containsExactly(10);
+
+		transactionTemplate.executeWithoutResult(status -> stockService.reserve(Map.of(item.getId(), 3)));
+
+		assertThat(itemService.getItemDto(item.getId()).get().getStockQuantity()).isEqualTo(7);
+		assertThat(itemService.getItemPage(0, 100, "id", "desc").getContent())
+			.filteredOn(dto -> dto.getId().equals(item.getId()))
+			.extracting(ItemDto::getStockQuantity)
+			.containsExactly(7);
+	}
+
+	@Test
+	@DisplayName("상품이 추가되면 목록 캐시가 무효화된다")
+	void addItem_evictPages() {
+		long totalBefore = itemService.getItemPage(0, 10, "id", "asc").getTotalElements();
+
+		Item added = itemService.addItem("새 원두", 9000, 5, "추가", "new.png");
+		try {
+			assertThat(itemService.getItemPage(0, 10, "id", "asc").getTotalElements()).isEqualTo(totalBefore + 1);
+		} finally {
+			itemService.deleteItem(added);
+		}
+	}
+
+	@Test
+	@DisplayName("조회하는 동안 상품이 수정되면 조회한 옛 값은 캐시에 남지 않는다")
+	void getItem_evictedWhileLoading() {
+		ItemDto stale = itemService.getItemDto(item.getId()).get();
+		itemCatalogCache.evictItem(item.getId());
+
+		// 옛 값을 읽은 뒤 다른 요청의 수정이 커밋되어 무효화된 상황
+		itemCatalogCache.getItem(item.getId(), id -> {
+			itemCatalogCache.evictItem(id);
+			return stale;
+		});
+
+		ItemDto fresh = stale.withStockQuantity(stale.getStockQuantity() + 1);
+		assertThat(itemCatalogCache.getItem(item.getId(), id -> fresh)).containsSame(fresh);
+	}
+}
@@ -0,0 +1,80 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.global.dto.CursorPage;
+import com.coffeebean.global.exception.ServiceException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemServiceCursorTest {
+
+	@Autowired
+	private ItemService itemService;
+
+	private List<ItemDto> walk(String sortBy, String direction, int size) {
+		List<ItemDto> all = new ArrayList<>();
+		String cursor = "";
+		while (true) {
+			CursorPage<ItemDto> page = itemService.getItemsByCursor(cursor, size, sortBy, direction, false);
+			all.addAll(page.getContent());
+			if (!page.isHasNext()) {
+				return all;
+			}
+			cursor = page.getNextCursor();
+		}
+	}
+
+	@Test
+	@DisplayName("커서로 끝까지 조회하면 모든 상품을 중복 없이 정렬 순서대로 조회한다")
+	void walkAllPages() {
+		List<Item> items = itemService.getItems();
+
+		List<ItemDto> byPriceDesc = walk("price", "desc", 4);
+		assertThat(byPriceDesc).extracting(ItemDto::getId).doesNotHaveDuplicates().hasSize(items.size());
+		assertThat(byPriceDesc).isSortedAccordingTo(
+			Comparator.comparing(ItemDto::getPrice).reversed().thenComparing(ItemDto::getId, Comparator.reverseOrder()));
+
+		List<ItemDto> byName = walk("name", "asc", 3);
+		assertThat(byName).extracting(ItemDto::getId).doesNotHaveDuplicates().hasSize(items.size());
+		assertThat(byName).isSortedAccordingTo(
+			Comparator.comparing(ItemDto::getName).thenComparing(ItemDto::getId));
+
+		List<ItemDto> byId = walk("id", "asc", 5);
+		assertThat(byId).extracting(ItemDto::getId).isSorted().hasSize(items.size());
+	}
+
+	@Test
+	@DisplayName("withTotal 을 요청한 경우에만 전체 개수를 함께 반환한다")
+	void withTotal() {
+		assertThat(itemService.getItemsByCursor("", 5, "id", "asc", false).getTotalCount()).isNull();
+		assertThat(itemService.getItemsByCursor("", 5, "id", "asc", true).getTotalCount())
+			.isEqualTo(itemService.count());
+	}
+
+	@Test
+	@DisplayName("인덱스가 없는 정렬 기준이나 다른 정렬의 커서는 사용할 수 없다")
+	void invalidRequest() {
+		assertThatThrownBy(() -> itemService.getItemsByCursor("", 5, "description", "asc", false))
+			.isInstanceOf(ServiceException.class);
+
+		String priceCursor = itemService.getItemsByCursor("", 1, "price", "asc", false).getNextCursor();
+		assertThatThrownBy(() -> itemService.getItemsByCursor(priceCursor, 5, "name", "asc", false))
+			.isInstanceOf(ServiceException.class)
+			.hasMessage("잘못된 커서입니다.");
+		assertThatThrownBy(() -> itemService.getItemsByCursor("not-a-cursor!", 5, "price", "asc", false))
+			.isInstanceOf(ServiceException.class);
+	}
+}
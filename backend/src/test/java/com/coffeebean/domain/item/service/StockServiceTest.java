@@ -0,0 +1,190 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.order.repository.OrderRepository;
+import com.coffeebean.domain.order.order.service.OrderService;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+import com.coffeebean.domain.order.orderItem.service.OrderItemService;
+import com.coffeebean.global.exception.DataNotFoundException;
+import com.coffeebean.global.exception.ServiceException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockServiceTest {
+
+	private static final int STOCK = 100;
+	private static final int ORDER_COUNT = 300;
+
+	@Autowired
+	private StockService stockService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private OrderItemService orderItemService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private Item item;
+
+	@BeforeEach
+	void setUp() {
+		item = itemRepository.save(Item.builder()
+			.name("동시성 테스트 원두")
+			.price(10000)
+			.stockQuantity(STOCK)
+			.description("재고 동시성 테스트용 상품")
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		List<OrderItem> orderItems = findOrderItems();
+		List<Order> orders = orderItems.stream().map(OrderItem::getOrder).distinct().toList();
+		orderItemRepository.deleteAll(orderItems);
+		orderRepository.deleteAll(orders);
+		itemRepository.deleteById(item.getId());
+	}
+
+	private List<OrderItem> findOrderItems() {
+		return transactionTemplate.execute(status -> orderItemRepository.findAll().stream()
+			.filter(orderItem -> orderItem.getItem().getId().equals(item.getId()))
+			.peek(orderItem -> orderItem.getOrder().getId())
+			.toList());
+	}
+
+	private int currentStock() {
+		return itemRepository.findById(item.getId()).orElseThrow().getStockQuantity();
+	}
+
+	@Test
+	@DisplayName("재고가 충분하면 조건부 UPDATE 한 번으로 재고가 차감된다")
+	void reserve() {
+		transactionTemplate.executeWithoutResult(status -> stockService.reserve(Map.of(item.getId(), 30)));
+
+		assertThat(currentStock()).isEqualTo(STOCK - 30);
+	}
+
+	@Test
+	@DisplayName("주문 상품 중 하나라도 재고가 부족하면 전체 차감이 롤백된다")
+	void reserve_shortage_rollback() {
+		Item other = itemRepository.save(Item.builder()
+			.name("재고 1개 원두")
+			.price(5000)
+			.stockQuantity(1)
+			.build());
+
+		try {
+			assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+				status -> stockService.reserve(Map.of(item.getId(), 10, other.getId(), 2))))
+				.isInstanceOf(ServiceException.class)
+				.hasMessage("재고가 충분하지 않습니다. 상품 수량을 확인하세요.");
+
+			assertThat(currentStock()).isEqualTo(STOCK);
+			assertThat(itemRepository.findById(other.getId()).orElseThrow().getStockQuantity()).isEqualTo(1);
+		} finally {
+			itemRepository.deleteById(other.getId());
+		}
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 상품이 포함되면 DataNotFoundException 이 발생한다")
+	void reserve_notFound() {
+		assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+			status -> stockService.reserve(Map.of(item.getId(), 1, Long.MAX_VALUE, 1))))
+			.isInstanceOf(DataNotFoundException.class);
+
+		assertThat(currentStock()).isEqualTo(STOCK);
+	}
+
+	@Test
+	@DisplayName("수량이 1개 미만이면 재고를 차감하지 않는다")
+	void reserve_invalidCount() {
+		assertThatThrownBy(() -> stockService.reserve(Map.of(item.getId(), 0)))
+			.isInstanceOf(ServiceException.class)
+			.hasMessage("수량은 1개 이상입니다.");
+
+		assertThat(currentStock()).isEqualTo(STOCK);
+	}
+
+	@Test
+	@DisplayName("동시에 여러 주문이 들어와도 재고보다 많이 판매되지 않는다")
+	void createOrder_concurrent_noOversell() throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(ORDER_COUNT);
+		AtomicInteger success = new AtomicInteger();
+		AtomicInteger shortage = new AtomicInteger();
+		List<Throwable> unexpected = new ArrayList<>();
+
+		for (int i = 0; i < ORDER_COUNT; i++) {
+			int no = i;
+			executor.submit(() -> {
+				try {
+					ready.await();
+					// OrderCheckoutService.checkout 과 같은 트랜잭션 경계로 주문 생성
+					transactionTemplate.executeWithoutResult(status -> {
+						Order order = orderService.createOrder("stock%d@exam.com".formatted(no), "서울", "원두로 1",
+							"12345");
+						orderItemService.createOrderItem(order, Map.of(item.getId(), 1),
+							order.getEmail(), false, 0);
+					});
+					success.incrementAndGet();
+				} catch (ServiceException e) {
+					shortage.incrementAndGet();
+				} catch (Throwable e) {
+					synchronized (unexpected) {
+						unexpected.add(e);
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.countDown();
+		assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		assertThat(unexpected).isEmpty();
+		assertThat(success.get()).isEqualTo(STOCK);
+		assertThat(shortage.get()).isEqualTo(ORDER_COUNT - STOCK);
+		assertThat(currentStock()).isZero();
+		// 실패한 주문은 주문/주문상품까지 모두 롤백되어야 한다
+		assertThat(findOrderItems()).hasSize(STOCK);
+	}
+}
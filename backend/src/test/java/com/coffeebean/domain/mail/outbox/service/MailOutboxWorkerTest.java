@@ -0,0 +1,139 @@
+package com.coffeebean.domain.mail.outbox.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.mail.outbox.MailStatus;
+import com.coffeebean.domain.mail.outbox.entity.MailOutbox;
+import com.coffeebean.domain.mail.outbox.repository.MailOutboxRepository;
+import com.coffeebean.global.email.FakeJavaMailSender;
+
+@SpringBootTest(properties = {
+	"mail.outbox.max-attempts=3",
+	"mail.outbox.backoff-base-ms=0"
+})
+@ActiveProfiles("test")
+class MailOutboxWorkerTest {
+
+	@Autowired
+	private MailOutboxService mailOutboxService;
+
+	@Autowired
+	private MailOutboxWorker mailOutboxWorker;
+
+	@Autowired
+	private MailOutboxRepository mailOutboxRepository;
+
+	@Autowired
+	private FakeJavaMailSender fakeJavaMailSender;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		fakeJavaMailSender.reset();
+		mailOutboxRepository.deleteAll();
+	}
+
+	@AfterEach
+	void tearDown() {
+		mailOutboxRepository.deleteAll();
+	}
+
+	private void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("5초 안에 조건을 만족하지 못했습니다.");
+			}
+			Thread.sleep(50);
+		}
+	}
+
+	@Test
+	@DisplayName("트랜잭션이 커밋되면 아웃박스의 메일이 비동기로 발송된다")
+	void sendAfterCommit() throws InterruptedException {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < 20; i++) {
+				mailOutboxService.enqueue("user%d@exam.com".formatted(i), "배송이 시작되었습니다.", "본문 " + i);
+			}
+		});
+
+		await(() -> mailOutboxRepository.countByStatus(MailStatus.SENT) == 20);
+
+		assertThat(fakeJavaMailSender.getSentMessages()).hasSize(20);
+		assertThat(mailOutboxWorker.getStats().getPending()).isZero();
+		assertThat(mailOutboxWorker.getStats().getTotalSent()).isGreaterThanOrEqualTo(20);
+	}
+
+	@Test
+	@DisplayName("트랜잭션이 롤백되면 메일이 저장되지도 발송되지도 않는다")
+	void notSendWhenRollback() throws InterruptedException {
+		transactionTemplate.executeWithoutResult(status -> {
+			mailOutboxService.enqueue("rollback@exam.com", "제목", "본문");
+			status.setRollbackOnly();
+		});
+
+		mailOutboxWorker.drain();
+
+		assertThat(mailOutboxRepository.count()).isZero();
+		assertThat(fakeJavaMailSender.getSentMessages()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("발송에 계속 실패하면 최대 횟수만큼 재시도한 뒤 DEAD 상태가 된다")
+	void deadAfterMaxAttempts() throws InterruptedException {
+		fakeJavaMailSender.failFor("fail@exam.com");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			mailOutboxService.enqueue("fail@exam.com", "제목", "본문");
+			mailOutboxService.enqueue("ok@exam.com", "제목", "본문");
+		});
+
+		await(() -> mailOutboxRepository.countByStatus(MailStatus.DEAD) == 1
+			&& mailOutboxRepository.countByStatus(MailStatus.SENT) == 1);
+
+		List<MailOutbox> mails = mailOutboxRepository.findAll();
+		MailOutbox dead = mails.stream().filter(mail -> mail.getStatus() == MailStatus.DEAD).findFirst().get();
+		assertThat(dead.getRecipient()).isEqualTo("fail@exam.com");
+		assertThat(dead.getAttempts()).isEqualTo(3);
+		assertThat(dead.getLastError()).isNotBlank();
+		assertThat(fakeJavaMailSender.getSentMessages()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("다른 워커가 다시 가져간 메일은 이전 토큰으로 발송 결과를 기록하지 않는다")
+	void notMarkWithStaleToken() {
+		MailOutbox mail = mailOutboxRepository.save(MailOutbox.builder()
+			.recipient("stale@exam.com")
+			.subject("제목")
+			.content("본문")
+			.status(MailStatus.SENDING)
+			.claimToken("new-token")
+			.nextAttemptAt(LocalDateTime.now())
+			.build());
+
+		assertThat(mailOutboxRepository.markSent(mail.getId(), "old-token", LocalDateTime.now())).isZero();
+		assertThat(mailOutboxRepository.markFailed(mail.getId(), "old-token", MailStatus.DEAD, 3,
+			LocalDateTime.now(), "error")).isZero();
+
+		MailOutbox found = mailOutboxRepository.findById(mail.getId()).get();
+		assertThat(found.getStatus()).isEqualTo(MailStatus.SENDING);
+		assertThat(found.getClaimToken()).isEqualTo("new-token");
+
+		assertThat(mailOutboxRepository.markSent(mail.getId(), "new-token", LocalDateTime.now())).isOne();
+	}
+}
@@ -0,0 +1,122 @@
+package com.coffeebean.domain.order.delivery.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 대량 주문 배송 상태 변경 벤치마크 (./gradlew benchmark -Dbenchmark.orders=1000000)
+ * 처리 중 힙 사용량을 주기적으로 기록하여 주문 수와 무관하게 힙이 일정한지 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"mail.outbox.worker-enabled=false",
+	"order.delivery.parallelism=4",
+	"spring.jpa.show-sql=false",
+	"logging.level.org.hibernate.SQL=WARN",
+	"logging.level.org.hibernate.orm.jdbc.bind=WARN",
+	"logging.level.org.hibernate.orm.jdbc.extract=WARN",
+	"logging.level.org.springframework.transaction.interceptor=WARN"
+})
+@ActiveProfiles("test")
+class DeliveryStatusProcessorBenchmarkTest {
+
+	private static final int ORDER_COUNT = Integer.getInteger("benchmark.orders", 1_000_000);
+	private static final long ID_BASE = 100_000_000L;
+	private static final LocalDate RUN_DATE = LocalDate.of(2000, 1, 1);
+
+	@Autowired
+	private DeliveryStatusProcessor deliveryStatusProcessor;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> batch = new ArrayList<>(10_000);
+		for (long i = 0; i < ORDER_COUNT; i++) {
+			batch.add(new Object[] {ID_BASE + i, "bench%d@exam.com".formatted(i), i % 2 == 0 ? "READY" : "START", now});
+			if (batch.size() == 10_000 || i == ORDER_COUNT - 1) {
+				jdbcTemplate.batchUpdate(
+					"insert into orders (order_id, email, city, street, zipcode, delivery_status, order_status, order_date)"
+						+ " values (?, ?, '서울', '원두로 1', '12345', ?, 'ORDER', ?)", batch);
+				batch.clear();
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from orders where order_id >= ?", ID_BASE);
+		jdbcTemplate.update("delete from mail_outbox where recipient like 'bench%'");
+		jdbcTemplate.update("delete from delivery_checkpoint where run_date = ?", RUN_DATE);
+	}
+
+	@Test
+	@DisplayName("주문 수가 많아도 청크 단위로 처리되어 힙 사용량이 일정하다")
+	void run_flatHeap() throws InterruptedException {
+		System.gc();
+		long baseline = retainedHeap();
+
+		List<Long> samples = new ArrayList<>();
+		AtomicBoolean running = new AtomicBoolean(true);
+		Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+			while (running.get()) {
+				synchronized (samples) {
+					samples.add(retainedHeap());
+				}
+				try {
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		});
+
+		long startedAt = System.currentTimeMillis();
+		deliveryStatusProcessor.run(RUN_DATE);
+		long elapsed = System.currentTimeMillis() - startedAt;
+
+		running.set(false);
+		sampler.join();
+
+		long peak = samples.stream().mapToLong(Long::longValue).max().orElse(baseline);
+		System.out.printf("orders=%d, elapsed=%dms, %.0f orders/sec, retained heap baseline=%dMB, peak=%dMB, samples=%d%n",
+			ORDER_COUNT, elapsed, ORDER_COUNT * 1000.0 / Math.max(elapsed, 1),
+			baseline >> 20, peak >> 20, samples.size());
+
+		Integer remaining = jdbcTemplate.queryForObject(
+			"select count(*) from orders where order_id >= ? and delivery_status in ('READY', 'START')",
+			Integer.class, ID_BASE);
+		assertThat(remaining).isEqualTo((ORDER_COUNT + 1) / 2); // READY -> START 로 변경된 주문만 남음
+
+		// 주문 전체를 메모리에 올리면 100만 건 기준 수백 MB 가 필요하다
+		assertThat(peak - baseline).isLessThan(128L << 20);
+	}
+
+	// 마지막 GC 직후의 힙 사용량 (가비지를 제외한 실제 보유 메모리)
+	private long retainedHeap() {
+		return ManagementFactory.getMemoryPoolMXBeans().stream()
+			.filter(pool -> pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null)
+			.mapToLong(pool -> pool.getCollectionUsage().getUsed())
+			.sum();
+	}
+}
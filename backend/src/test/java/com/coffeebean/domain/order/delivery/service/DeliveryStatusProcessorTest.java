@@ -0,0 +1,134 @@
+package com.coffeebean.domain.order.delivery.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coffeebean.domain.order.delivery.entity.DeliveryCheckpoint;
+import com.coffeebean.domain.order.delivery.repository.DeliveryCheckpointRepository;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.order.repository.OrderRepository;
+import com.coffeebean.domain.user.user.Address;
+
+@SpringBootTest(properties = {
+	"order.delivery.chunk-size=3",
+	"order.delivery.parallelism=3",
+	"mail.outbox.worker-enabled=false"
+})
+@ActiveProfiles("test")
+class DeliveryStatusProcessorTest {
+
+	private static final LocalDate RUN_DATE = LocalDate.of(2025, 2, 23);
+
+	@Autowired
+	private DeliveryStatusProcessor deliveryStatusProcessor;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private DeliveryCheckpointRepository deliveryCheckpointRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Map<Long, String> existingStatuses;
+
+	private final List<Order> orders = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		existingStatuses = jdbcTemplate.queryForList("select order_id, delivery_status from orders").stream()
+			.collect(Collectors.toMap(row -> ((Number)row.get("ORDER_ID")).longValue(),
+				row -> (String)row.get("DELIVERY_STATUS")));
+
+		for (int i = 0; i < 20; i++) {
+			orders.add(Order.builder()
+				.email("delivery%d@exam.com".formatted(i))
+				.deliveryAddress(new Address("서울", "강남구", "12345"))
+				.deliveryStatus(i % 2 == 0 ? DeliveryStatus.READY : DeliveryStatus.START)
+				.orderStatus(OrderStatus.ORDER)
+				.orderDate(LocalDateTime.now())
+				.build());
+		}
+		orderRepository.saveAll(orders);
+	}
+
+	@AfterEach
+	void tearDown() {
+		orderRepository.deleteAll(orders);
+		existingStatuses.forEach((id, status) ->
+			jdbcTemplate.update("update orders set delivery_status = ? where order_id = ?", status, id));
+		deliveryCheckpointRepository.deleteAll();
+		jdbcTemplate.update("delete from mail_outbox");
+	}
+
+	private DeliveryStatus deliveryStatusOf(Order order) {
+		return orderRepository.findById(order.getId()).get().getDeliveryStatus();
+	}
+
+	@Test
+	@DisplayName("파티션별로 청크 단위로 나누어 모든 주문의 배송 상태를 한 단계씩 변경한다")
+	void run() {
+		deliveryStatusProcessor.run(RUN_DATE);
+
+		for (int i = 0; i < orders.size(); i++) {
+			DeliveryStatus expected = i % 2 == 0 ? DeliveryStatus.START : DeliveryStatus.DONE;
+			assertThat(deliveryStatusOf(orders.get(i))).isEqualTo(expected);
+		}
+
+		List<DeliveryCheckpoint> checkpoints = deliveryCheckpointRepository.findAll();
+		assertThat(checkpoints).hasSize(6); // 2단계 x 파티션 3개
+		assertThat(checkpoints).allMatch(DeliveryCheckpoint::isCompleted);
+
+		Integer mailCount = jdbcTemplate.queryForObject(
+			"select count(*) from mail_outbox where recipient like 'delivery%'", Integer.class);
+		assertThat(mailCount).isEqualTo(orders.size());
+	}
+
+	@Test
+	@DisplayName("중단된 작업은 체크포인트 이후의 주문부터 이어서 처리한다")
+	void run_resumeFromCheckpoint() {
+		// 배송 완료 단계는 끝났고, 배송 시작 단계는 10번째 주문까지 처리한 상태에서 중단된 상황
+		long lastId = orders.getLast().getId();
+		long resumeAfter = orders.get(9).getId();
+		deliveryCheckpointRepository.saveAll(List.of(
+			DeliveryCheckpoint.builder()
+				.runDate(RUN_DATE).fromStatus(DeliveryStatus.START).partitionNo(0)
+				.lastOrderId(lastId).upperOrderId(lastId).completed(true)
+				.build(),
+			DeliveryCheckpoint.builder()
+				.runDate(RUN_DATE).fromStatus(DeliveryStatus.READY).partitionNo(0)
+				.lastOrderId(resumeAfter).upperOrderId(lastId).completed(false)
+				.build()
+		));
+
+		deliveryStatusProcessor.run(RUN_DATE);
+
+		for (int i = 0; i < orders.size(); i++) {
+			DeliveryStatus expected;
+			if (i % 2 == 1) {
+				expected = DeliveryStatus.START; // 완료된 단계는 다시 실행하지 않음
+			} else {
+				expected = i > 9 ? DeliveryStatus.START : DeliveryStatus.READY;
+			}
+			assertThat(deliveryStatusOf(orders.get(i))).isEqualTo(expected);
+		}
+	}
+}
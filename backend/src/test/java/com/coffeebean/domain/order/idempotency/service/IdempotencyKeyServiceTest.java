@@ -0,0 +1,202 @@
+package com.coffeebean.domain.order.idempotency.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.order.idempotency.dto.IdempotentOrderResponse;
+import com.coffeebean.domain.order.order.dto.OrderCreateRequest;
+import com.coffeebean.domain.order.order.service.OrderCheckoutService;
+import com.coffeebean.global.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = "mail.outbox.worker-enabled=false")
+@ActiveProfiles("test")
+class IdempotencyKeyServiceTest {
+
+	private static final String EMAIL = "idempotency@exam.com";
+	private static final int STOCK = 100;
+	private static final int THREADS = 50;
+
+	@Autowired
+	private IdempotencyKeyService idempotencyKeyService;
+
+	@Autowired
+	private OrderCheckoutService orderCheckoutService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Item item;
+
+	@BeforeEach
+	void setUp() {
+		item = itemRepository.save(Item.builder()
+			.name("멱등성 테스트 원두")
+			.price(10000)
+			.stockQuantity(STOCK)
+			.description("Idempotency-Key 테스트용 상품")
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from order_item where order_id in (select order_id from orders where email = ?)",
+			EMAIL);
+		jdbcTemplate.update("delete from orders where email = ?", EMAIL);
+		jdbcTemplate.update("delete from mail_outbox where recipient = ?", EMAIL);
+		jdbcTemplate.update("delete from idempotency_key");
+		itemRepository.deleteById(item.getId());
+	}
+
+	private OrderCreateRequest request(int count) throws Exception {
+		return objectMapper.readValue("""
+			{
+			  "items": [{"id": %d, "count": %d}],
+			  "address": {"city": "서울", "street": "원두아파트 100동 1201호", "zipcode": "23578"},
+			  "email": "%s",
+			  "cartOrder": false,
+			  "point": 0
+			}
+			""".formatted(item.getId(), count, EMAIL), OrderCreateRequest.class);
+	}
+
+	private IdempotentOrderResponse order(String key, OrderCreateRequest request) {
+		return idempotencyKeyService.execute(EMAIL, key, request, () -> orderCheckoutService.checkout(request, key));
+	}
+
+	private int currentStock() {
+		return itemRepository.findById(item.getId()).orElseThrow().getStockQuantity();
+	}
+
+	private long orderCount() {
+		return jdbcTemplate.queryForObject("select count(*) from orders where email = ?", Long.class, EMAIL);
+	}
+
+	private long keyCount() {
+		return jdbcTemplate.queryForObject("select count(*) from idempotency_key", Long.class);
+	}
+
+	@Test
+	@DisplayName("같은 키로 동시에 여러 번 주문해도 주문은 한 번만 생성되고 모두 같은 응답을 받는다")
+	void execute_concurrent_sameKey() throws Exception {
+		OrderCreateRequest request = request(2);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(THREADS);
+		List<IdempotentOrderResponse> responses = new ArrayList<>();
+		List<Throwable> unexpected = new ArrayList<>();
+
+		for (int i = 0; i < THREADS; i++) {
+			executor.submit(() -> {
+				try {
+					ready.await();
+					IdempotentOrderResponse response = order("order-key-1", request);
+					synchronized (responses) {
+						responses.add(response);
+					}
+				} catch (Throwable e) {
+					synchronized (unexpected) {
+						unexpected.add(e);
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.countDown();
+		assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		assertThat(unexpected).isEmpty();
+		assertThat(responses).hasSize(THREADS);
+		assertThat(responses).filteredOn(response -> !response.replayed()).hasSize(1);
+		assertThat(responses).extracting(response -> response.response().getId()).containsOnly(
+			responses.getFirst().response().getId());
+		assertThat(responses).extracting(response -> response.response().getTotalPrice()).containsOnly(20000);
+		assertThat(orderCount()).isEqualTo(1);
+		assertThat(currentStock()).isEqualTo(STOCK - 2);
+	}
+
+	@Test
+	@DisplayName("처리가 끝난 키로 다시 요청하면 저장된 응답을 그대로 돌려준다")
+	void execute_completed_replay() throws Exception {
+		OrderCreateRequest request = request(1);
+
+		IdempotentOrderResponse first = order("order-key-2", request);
+		IdempotentOrderResponse second = order("order-key-2", request);
+
+		assertThat(first.replayed()).isFalse();
+		assertThat(second.replayed()).isTrue();
+		assertThat(second.response().getId()).isEqualTo(first.response().getId());
+		assertThat(second.response().getOrderDate()).isEqualTo(first.response().getOrderDate());
+		assertThat(second.response().getItems()).hasSize(1);
+		assertThat(second.response().getDeliveryAddress().getCity()).isEqualTo("서울");
+		assertThat(orderCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 키로 다른 주문을 요청하면 실패한다")
+	void execute_differentRequest() throws Exception {
+		order("order-key-3", request(1));
+
+		OrderCreateRequest other = request(3);
+		assertThatThrownBy(() -> order("order-key-3", other))
+			.isInstanceOf(ServiceException.class)
+			.hasMessage("같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다.");
+
+		assertThat(orderCount()).isEqualTo(1);
+		assertThat(currentStock()).isEqualTo(STOCK - 1);
+	}
+
+	@Test
+	@DisplayName("주문이 실패하면 키가 지워져서 같은 키로 다시 시도할 수 있다")
+	void execute_failure_release() throws Exception {
+		OrderCreateRequest request = request(STOCK + 1);
+
+		assertThatThrownBy(() -> order("order-key-4", request))
+			.isInstanceOf(ServiceException.class)
+			.hasMessage("재고가 충분하지 않습니다. 상품 수량을 확인하세요.");
+		assertThat(keyCount()).isZero();
+
+		jdbcTemplate.update("update item set stock_quantity = ? where item_id = ?", STOCK + 1, item.getId());
+
+		assertThat(order("order-key-4", request).replayed()).isFalse();
+		assertThat(orderCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("만료된 키는 스케줄러가 삭제한다")
+	void deleteExpired() throws Exception {
+		order("order-key-5", request(1));
+		assertThat(keyCount()).isEqualTo(1);
+
+		jdbcTemplate.update("update idempotency_key set expires_at = dateadd('HOUR', -1, now())");
+		idempotencyKeyService.deleteExpired();
+
+		assertThat(keyCount()).isZero();
+	}
+}
@@ -1,5 +1,6 @@
 package com.coffeebean.domain.order.order.controller;
 
+import static com.coffeebean.global.jdbc.QueryAssertions.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -21,10 +23,12 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.coffeebean.domain.user.pointHitstory.entity.PointHistory;
+import com.coffeebean.domain.user.pointHitstory.repository.PointHistoryRepository;
 import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.repository.UserRepository;
 import com.coffeebean.domain.user.user.service.UserService;
 
+import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -45,6 +49,10 @@ class ApiV1OrderControllerTest {
 	private HttpServletResponse httpServletResponse;
 	@Autowired
 	private UserRepository userRepository;
+	@Autowired
+	private PointHistoryRepository pointHistoryRepository;
+	@Autowired
+	private EntityManager entityManager;
 
 	@BeforeEach
 	void setUp() {
@@ -54,36 +62,42 @@ class ApiV1OrderControllerTest {
 	@Test
 	@DisplayName("회원은 주문을 등록할 수 있다")
 	void createOrderByUser() throws Exception {
-		ResultActions resultActions = mvc.perform(
-				post("/api/v1/orders")
-					.content("""
-						{
-						  "items": [
-						    {
-						      "id": 1,
-						      "count": 2
-						    },
-						    {
-						      "id": 2,
-						      "count": 3
-						    }
-						  ],
-						  "address": {
-						    "city": "서울",
-						    "street": "원두아파트 100동 1201호",
-						    "zipcode": "23578"
-						  },
-						  "email": "example@exam.com",
-						  "cartOrder": false,
-						  "point": 0
-						}
-						""".trim().stripIndent())
-					.cookie(new Cookie("token", authToken))
-					.contentType(
-						new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)
-					)
-			)
-			.andDo(print());
+		// 주문 등록 SQL 수 상한 (N+1 이 생기면 실패)
+		// 테스트 트랜잭션 안이라 커밋 시점의 INSERT / UPDATE 가 빠지지 않도록 측정 구간 안에서 flush 한다
+		ResultActions resultActions = assertMaxQueries(25, () -> {
+			ResultActions result = mvc.perform(
+					post("/api/v1/orders")
+						.content("""
+							{
+							  "items": [
+							    {
+							      "id": 1,
+							      "count": 2
+							    },
+							    {
+							      "id": 2,
+							      "count": 3
+							    }
+							  ],
+							  "address": {
+							    "city": "서울",
+							    "street": "원두아파트 100동 1201호",
+							    "zipcode": "23578"
+							  },
+							  "email": "example@exam.com",
+							  "cartOrder": false,
+							  "point": 0
+							}
+							""".trim().stripIndent())
+						.cookie(new Cookie("token", authToken))
+						.contentType(
+							new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)
+						)
+				)
+				.andDo(print());
+			entityManager.flush();
+			return result;
+		});
 
 		resultActions
 			.andExpect(status().isCreated())
@@ -151,7 +165,8 @@ class ApiV1OrderControllerTest {
 				.andExpect(jsonPath("$.data.orderDate").isNotEmpty());
 
 			User user = userRepository.findByEmail("example@exam.com").get();
-			PointHistory lastPointHistory = user.getPointHistories().getLast();
+			PointHistory lastPointHistory = pointHistoryRepository.findLatest(user.getId(), PageRequest.of(0, 1))
+				.getFirst();
 			assertThat(lastPointHistory.getAmount()).isEqualTo(-2000);
 			assertThat(lastPointHistory.getDescription()).isEqualTo("상품 결제에 적립금 사용");
 
@@ -0,0 +1,174 @@
+package com.coffeebean.domain.order.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.dto.OrderExportFormat;
+import com.coffeebean.domain.order.order.dto.OrderListDto;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.user.user.Address;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderExportServiceTest {
+
+	private static final String EMAIL = "export@exam.com";
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private OrderExportService orderExportService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManager em;
+
+	private Item bean;
+
+	@BeforeEach
+	void setUp() {
+		bean = Item.builder().name("케냐, AA").price(12000).stockQuantity(100).build();
+		em.persist(bean);
+
+		// 1월 1일 ~ 1월 10일, 짝수 번째 주문은 배송 완료
+		for (int day = 1; day <= 10; day++) {
+			createOrder(LocalDate.of(2025, 1, day), day % 2 == 0 ? DeliveryStatus.DONE : DeliveryStatus.READY);
+		}
+		em.flush();
+		em.clear();
+	}
+
+	private void createOrder(LocalDate orderDate, DeliveryStatus deliveryStatus) {
+		Order order = Order.builder()
+			.email(EMAIL)
+			.deliveryAddress(new Address("서울", "원두로 1", "12345"))
+			.deliveryStatus(deliveryStatus)
+			.orderStatus(OrderStatus.ORDER)
+			.build();
+		em.persist(order);
+		em.persist(OrderItem.builder().order(order).item(bean).orderPrice(12000).count(1).build());
+		em.persist(OrderItem.builder().order(order).item(bean).orderPrice(12000).count(2).build());
+		em.flush();
+
+		// 주문일은 auditing 으로 채워지므로 직접 변경
+		em.createQuery("update Order o set o.orderDate = :orderDate where o.id = :id")
+			.setParameter("orderDate", orderDate.atTime(12, 0))
+			.setParameter("id", order.getId())
+			.executeUpdate();
+	}
+
+	private OrderSearchCondition condition() {
+		OrderSearchCondition condition = new OrderSearchCondition();
+		condition.setEmail(EMAIL);
+		return condition;
+	}
+
+	@Test
+	@DisplayName("관리자 주문 목록은 조건과 페이지 크기만큼만 조회한다")
+	void searchOrders() {
+		OrderSearchCondition condition = condition();
+		condition.setDeliveryStatus(DeliveryStatus.DONE);
+		condition.setFrom(LocalDate.of(2025, 1, 3));
+		condition.setTo(LocalDate.of(2025, 1, 8));
+
+		Page<OrderListDto> page = orderService.searchOrders(condition, PageRequest.of(0, 2));
+
+		// 1/4, 1/6, 1/8 주문
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThat(page.getContent()).hasSize(2);
+		assertThat(page.getContent()).allSatisfy(order -> {
+			assertThat(order.getDeliveryStatus()).isEqualTo(DeliveryStatus.DONE);
+			assertThat(order.getOrderItems()).hasSize(2);
+		});
+		assertThat(page.getContent()).extracting(OrderListDto::getId)
+			.isSortedAccordingTo((a, b) -> Long.compare(b, a));
+	}
+
+	@Test
+	@DisplayName("NDJSON 내보내기는 주문 1건당 한 줄로 주문 상품을 묶어서 쓴다")
+	void exportNdjson() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = orderExportService.export(condition(), OrderExportFormat.NDJSON, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(count).isEqualTo(10);
+		assertThat(lines).hasSize(10);
+
+		JsonNode first = objectMapper.readTree(lines.get(0));
+		assertThat(first.get("email").asText()).isEqualTo(EMAIL);
+		assertThat(first.get("orderItems")).hasSize(2);
+		assertThat(first.get("orderItems").get(0).get("itemName").asText()).isEqualTo("케냐, AA");
+	}
+
+	@Test
+	@DisplayName("CSV 내보내기는 주문 상품 1건당 한 줄이며 쉼표가 포함된 값은 따옴표로 감싼다")
+	void exportCsv() {
+		OrderSearchCondition condition = condition();
+		condition.setDeliveryStatus(DeliveryStatus.READY);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = orderExportService.export(condition, OrderExportFormat.CSV, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(count).isEqualTo(5);
+		assertThat(lines).hasSize(1 + 5 * 2); // 헤더 + 주문 상품 행
+		assertThat(lines.get(0)).startsWith("\uFEFForder_id,email");
+		assertThat(lines.get(1)).contains(",\"케냐, AA\",");
+	}
+
+	@Test
+	@DisplayName("CSV 내보내기는 수식으로 시작하는 값 앞에 ' 를 붙여 스프레드시트에서 실행되지 않게 한다")
+	void exportCsv_formula() {
+		Item formula = Item.builder().name("=HYPERLINK(\"http://evil\",\"원두\")").price(1000).stockQuantity(10).build();
+		em.persist(formula);
+		Order order = Order.builder()
+			.email("@formula@exam.com")
+			.deliveryAddress(new Address("서울", "원두로 1", "12345"))
+			.deliveryStatus(DeliveryStatus.READY)
+			.orderStatus(OrderStatus.ORDER)
+			.build();
+		em.persist(order);
+		em.persist(OrderItem.builder().order(order).item(formula).orderPrice(1000).count(1).build());
+		em.flush();
+
+		OrderSearchCondition condition = new OrderSearchCondition();
+		condition.setEmail("@formula@exam.com");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		orderExportService.export(condition, OrderExportFormat.CSV, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(lines).hasSize(2);
+		assertThat(lines.get(1))
+			.contains(",'@formula@exam.com,")
+			.contains(",\"'=HYPERLINK(\"\"http://evil\"\",\"\"원두\"\")\",");
+	}
+}
@@ -0,0 +1,109 @@
+package com.coffeebean.domain.order.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderDto;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.user.user.Address;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderHistoryQueryCountTest {
+
+	private static final String EMAIL = "history@exam.com";
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private EntityManager em;
+
+	private Statistics statistics;
+
+	private Item americano;
+	private Item latte;
+
+	@BeforeEach
+	void setUp() {
+		statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		americano = Item.builder().name("아메리카노 원두").price(10000).stockQuantity(100).build();
+		latte = Item.builder().name("라떼 원두").price(3000).stockQuantity(100).build();
+		em.persist(americano);
+		em.persist(latte);
+	}
+
+	private void createOrders(int count) {
+		for (int i = 0; i < count; i++) {
+			Order order = Order.builder()
+				.email(EMAIL)
+				.deliveryAddress(new Address("서울", "원두로 1", "12345"))
+				.deliveryStatus(DeliveryStatus.READY)
+				.orderStatus(OrderStatus.ORDER)
+				.build();
+			em.persist(order);
+			em.persist(OrderItem.builder().order(order).item(americano).orderPrice(10000).count(2).build());
+			em.persist(OrderItem.builder().order(order).item(latte).orderPrice(3000).count(1).build());
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 5, 30})
+	@DisplayName("주문 수와 관계없이 주문 내역 조회는 쿼리 1번으로 처리된다")
+	void getOrdersByEmail_singleQuery(int orderCount) {
+		createOrders(orderCount);
+		statistics.clear();
+
+		List<OrderDto> orders = orderService.getOrdersByEmail(EMAIL);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(orders).hasSize(orderCount);
+		assertThat(orders).allSatisfy(order -> {
+			assertThat(order.getItemName()).isEqualTo("아메리카노 원두"); // 첫 번째 주문 상품
+			assertThat(order.getTotalPrice()).isEqualTo(10000 * 2 + 3000);
+		});
+	}
+
+	@Test
+	@DisplayName("최근 주문 3건과 페이징 조회도 고정된 수의 쿼리로 처리된다")
+	void recentAndPage() {
+		createOrders(10);
+
+		statistics.clear();
+		List<OrderDto> recent = orderService.getRecentOrdersByEmail(EMAIL);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(recent).hasSize(3);
+		assertThat(recent).extracting(OrderDto::getOrderId).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+
+		statistics.clear();
+		Page<OrderDto> page = orderService.getOrdersByEmail(EMAIL, PageRequest.of(1, 4));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 목록 + count
+		assertThat(page.getTotalElements()).isEqualTo(10);
+		assertThat(page.getContent()).hasSize(4);
+	}
+}
@@ -1,67 +1,98 @@
 package com.coffeebean.domain.order.order.service;
 
+import com.coffeebean.domain.mail.outbox.service.MailOutboxService;
+import com.coffeebean.domain.order.delivery.repository.DeliveryCheckpointRepository;
 import com.coffeebean.domain.order.order.DeliveryStatus;
 import com.coffeebean.domain.order.order.OrderStatus;
 import com.coffeebean.domain.order.order.entity.Order;
 import com.coffeebean.domain.order.order.repository.OrderRepository;
 import com.coffeebean.domain.user.user.service.MailService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import com.coffeebean.domain.user.user.Address;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @ActiveProfiles("test")
-@ExtendWith(MockitoExtension.class)
 class OrderSchedulerTest {
 
-    @MockitoSpyBean
+    @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private DeliveryCheckpointRepository deliveryCheckpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @MockitoSpyBean
     private MailService mailService;
 
     @MockitoSpyBean
-    private OrderService orderService;
+    private MailOutboxService mailOutboxService;
 
     @Autowired
     private OrderScheduler orderScheduler;
 
     private static final String TEST_TIME = "Asia/Seoul"; // 한국 시간대
 
+    private Map<Long, String> existingStatuses; // 다른 테스트 데이터 복구용
+
+    private Order readyOrder;
+    private Order startOrder;
+    private Order canceledOrder;
+
     @BeforeEach
     void setUp() {
+        existingStatuses = jdbcTemplate.queryForList("select order_id, delivery_status from orders").stream()
+                .collect(Collectors.toMap(row -> ((Number) row.get("ORDER_ID")).longValue(),
+                        row -> (String) row.get("DELIVERY_STATUS")));
 
         // 테스트용 주문 데이터
-        Order order1 = Order.builder()
-                .id(1L)
-                .email("jmskkr@naver.com")
+        readyOrder = orderRepository.save(order("ready@exam.com", DeliveryStatus.READY, OrderStatus.ORDER));
+        startOrder = orderRepository.save(order("start@exam.com", DeliveryStatus.START, OrderStatus.ORDER));
+        canceledOrder = orderRepository.save(order("cancel@exam.com", DeliveryStatus.CANCELLED, OrderStatus.CANCELED));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllById(List.of(readyOrder.getId(), startOrder.getId(), canceledOrder.getId()));
+        existingStatuses.forEach((id, status) ->
+                jdbcTemplate.update("update orders set delivery_status = ? where order_id = ?", status, id));
+        deliveryCheckpointRepository.deleteAll();
+    }
+
+    private Order order(String email, DeliveryStatus deliveryStatus, OrderStatus orderStatus) {
+        return Order.builder()
+                .email(email)
                 .deliveryAddress(new Address("서울", "강남구", "12345"))
-                .deliveryStatus(DeliveryStatus.READY)
-                .orderStatus(OrderStatus.ORDER)
+                .deliveryStatus(deliveryStatus)
+                .orderStatus(orderStatus)
                 .orderDate(LocalDateTime.now())
                 .build();
+    }
 
-        when(orderRepository.findByDeliveryStatusIn(List.of(DeliveryStatus.READY, DeliveryStatus.START)))
-                .thenReturn(List.of(order1));
-
-        doCallRealMethod().when(orderService).updateDeliveryStatus();
+    private DeliveryStatus deliveryStatusOf(Order order) {
+        return orderRepository.findById(order.getId()).get().getDeliveryStatus();
     }
 
     @Test
@@ -76,13 +107,28 @@ class OrderSchedulerTest {
         // 스케줄러 강제 실행
         orderScheduler.scheduledDelivery();
 
-        // 배송상태 변경 검증
-        verify(orderService, times(1)).updateDeliveryStatus();
+        // 배송상태 변경 검증 (하루에 한 단계씩만 진행)
+        assertThat(deliveryStatusOf(readyOrder)).isEqualTo(DeliveryStatus.START);
+        assertThat(deliveryStatusOf(startOrder)).isEqualTo(DeliveryStatus.DONE);
+        assertThat(deliveryStatusOf(canceledOrder)).isEqualTo(DeliveryStatus.CANCELLED);
+
+        // 메일은 아웃박스에 저장된 뒤 커밋 이후 비동기로 전송
+        verify(mailOutboxService, times(1)).enqueue(eq("ready@exam.com"), eq("배송이 시작되었습니다."), anyString());
+        verify(mailOutboxService, times(1)).enqueue(eq("start@exam.com"), eq("배송이 완료되었습니다."), anyString());
+        verify(mailOutboxService, never()).enqueue(eq("cancel@exam.com"), anyString(), anyString());
+        verify(mailService, timeout(5000)).sendMailToUser(eq("ready@exam.com"), anyString(), anyString());
+        verify(mailService, timeout(5000)).sendMailToUser(eq("start@exam.com"), anyString(), anyString());
+    }
 
-        verify(orderRepository, times(1)).findByDeliveryStatusIn(anyList());
+    @Test
+    @DisplayName("같은 날 다시 실행해도 이미 완료된 배송 상태 변경은 반복되지 않는다")
+    void changeDeliveryStatus_sameDayRerun() {
+        orderScheduler.scheduledDelivery();
+        orderScheduler.scheduledDelivery();
 
-        // 메일 전송 검증
-        verify(mailService, times(1)).sendMailToUser(anyString(), anyString(), anyString());
+        assertThat(deliveryStatusOf(readyOrder)).isEqualTo(DeliveryStatus.START);
+        assertThat(deliveryCheckpointRepository.findAll())
+                .allMatch(checkpoint -> checkpoint.getRunDate().equals(LocalDate.now()) && checkpoint.isCompleted());
+        verify(mailOutboxService, times(1)).enqueue(eq("ready@exam.com"), anyString(), anyString());
     }
-
 }
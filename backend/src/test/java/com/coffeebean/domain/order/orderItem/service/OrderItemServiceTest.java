@@ -0,0 +1,104 @@
+package com.coffeebean.domain.order.orderItem.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.order.repository.OrderRepository;
+import com.coffeebean.domain.order.order.service.OrderService;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderItemServiceTest {
+
+	private static final int LINE_COUNT = 50;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private OrderItemService orderItemService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Item> items = new ArrayList<>();
+
+	private Order order;
+
+	private List<OrderItem> orderItems = List.of();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < LINE_COUNT; i++) {
+			items.add(Item.builder()
+				.name("배치 테스트 원두 " + i)
+				.price(1000 + i)
+				.stockQuantity(10)
+				.build());
+		}
+		itemRepository.saveAll(items);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (order != null) {
+			orderItemRepository.deleteAll(orderItems);
+			orderRepository.deleteById(order.getId());
+		}
+		itemRepository.deleteAll(items);
+	}
+
+	@Test
+	@DisplayName("50개 상품 주문도 상품 조회와 insert 가 배치로 처리되어 일정한 수의 쿼리만 실행된다")
+	void createOrderItem_batch() {
+		Map<Long, Integer> orderLines = new LinkedHashMap<>();
+		items.forEach(item -> orderLines.put(item.getId(), 2));
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		orderItems = transactionTemplate.execute(status -> {
+			order = orderService.createOrder("batch@exam.com", "서울", "원두아파트 1동", "12345");
+			return orderItemService.createOrderItem(order, orderLines, order.getEmail(), false, 0);
+		});
+
+		assertThat(orderItems).hasSize(LINE_COUNT);
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(LINE_COUNT + 1);
+		// 재고 차감 1 + 상품 IN 조회 1 + 회원 조회 1 + 시퀀스 + 배치 insert 2 (주문, 주문 상품)
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+	}
+}
@@ -0,0 +1,195 @@
+package com.coffeebean.domain.question.question.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.question.answer.service.AnswerService;
+import com.coffeebean.domain.question.question.QuestionSearchCondition;
+import com.coffeebean.domain.question.question.dto.QuestionDto;
+import com.coffeebean.domain.question.question.entity.Question;
+import com.coffeebean.domain.user.user.enitity.User;
+import com.coffeebean.domain.user.user.repository.UserRepository;
+import com.coffeebean.global.dto.CursorPage;
+import com.coffeebean.global.exception.ServiceException;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionCursorQueryTest {
+
+	@Autowired
+	private QuestionService questionService;
+
+	@Autowired
+	private AnswerService answerService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	private Statistics statistics;
+
+	private User author;
+	private Item item;
+	private Item otherItem;
+
+	@BeforeEach
+	void setUp() {
+		statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		author = userRepository.findById(1L).get();
+		item = Item.builder().name("질문 원두").price(10000).stockQuantity(100).build();
+		otherItem = Item.builder().name("다른 원두").price(10000).stockQuantity(100).build();
+		em.persist(item);
+		em.persist(otherItem);
+	}
+
+	private Question persistQuestion(Item target, String subject, LocalDateTime createDate) {
+		Question question = Question.builder().author(author).item(target).subject(subject).content("내용").build();
+		em.persist(question);
+		em.flush();
+
+		// 작성일은 auditing 이 채우므로 저장 후 변경
+		em.createQuery("update Question q set q.createDate = :createDate where q.id = :id")
+			.setParameter("createDate", createDate)
+			.setParameter("id", question.getId())
+			.executeUpdate();
+		return question;
+	}
+
+	private List<QuestionDto> readAll(Function<String, CursorPage<QuestionDto>> pageOf) {
+		List<QuestionDto> all = new ArrayList<>();
+		String cursor = null;
+		do {
+			CursorPage<QuestionDto> page = pageOf.apply(cursor);
+			all.addAll(page.getContent());
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		return all;
+	}
+
+	@Test
+	@DisplayName("상품별 질문을 최신순 커서로 끝까지 조회하면 중복/누락 없이 한 번씩 조회된다")
+	void itemQuestions_createDateDesc() {
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			// 같은 작성일이 섞여 있어도 id 로 순서가 정해진다
+			expected.add(persistQuestion(item, "질문 " + i, base.plusDays(i / 2)).getId());
+		}
+		persistQuestion(otherItem, "다른 상품 질문", base.plusDays(10));
+		em.clear();
+
+		List<QuestionDto> questions = readAll(cursor -> questionService.getQuestionsByCursor(
+			QuestionSearchCondition.ofItem(item.getId()), cursor, 3, "desc"));
+
+		assertThat(questions).extracting(QuestionDto::getId).containsExactlyElementsOf(expected.reversed());
+	}
+
+	@Test
+	@DisplayName("질문 한 페이지는 작성자 이름, 답변까지 쿼리 1번으로 조회된다")
+	void itemQuestions_singleQuery() {
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+		for (int i = 0; i < 30; i++) {
+			Question question = persistQuestion(item, "질문 " + i, base.plusMinutes(i));
+			if (i % 2 == 0) {
+				answerService.writeAnswer(question, "답변 " + i);
+			}
+		}
+		em.flush();
+		em.clear();
+		statistics.clear();
+
+		CursorPage<QuestionDto> page = questionService.getQuestionsByCursor(
+			QuestionSearchCondition.ofItem(item.getId()), null, 10, "desc");
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(page.getContent()).hasSize(10);
+		assertThat(page.isHasNext()).isTrue();
+		QuestionDto latest = page.getContent().getFirst();
+		assertThat(latest.getName()).isEqualTo(author.getName());
+		assertThat(latest.isAnswered()).isFalse();
+		assertThat(latest.getAnswer()).isNull();
+		QuestionDto answered = page.getContent().get(1);
+		assertThat(answered.isAnswered()).isTrue();
+		assertThat(answered.getAnswer().getContent()).isEqualTo("답변 28");
+	}
+
+	@Test
+	@DisplayName("답변 대기열은 미답변 질문을 오래된 순으로 먼저, 이후 답변된 질문을 조회한다")
+	void queue_unansweredFirst() {
+		LocalDateTime base = LocalDateTime.of(2025, 2, 1, 9, 0);
+		Question answeredOld = persistQuestion(item, "답변된 질문", base);
+		Question unansweredNew = persistQuestion(otherItem, "새 질문", base.plusDays(2));
+		Question unansweredOld = persistQuestion(item, "오래된 질문", base.plusDays(1));
+		answerService.writeAnswer(answeredOld, "답변");
+		em.flush();
+		em.clear();
+
+		// 다른 테스트 데이터와 섞이지 않도록 상품별로 조회
+		List<QuestionDto> itemQueue = readAll(cursor -> questionService.getQuestionQueue(
+			QuestionSearchCondition.ofItem(item.getId()), cursor, 1));
+		assertThat(itemQueue).extracting(QuestionDto::getId)
+			.containsExactly(unansweredOld.getId(), answeredOld.getId());
+
+		List<QuestionDto> unanswered = readAll(cursor -> questionService.getQuestionQueue(
+			new QuestionSearchCondition(null, false), cursor, 2));
+		assertThat(unanswered).extracting(QuestionDto::getId)
+			.contains(unansweredOld.getId(), unansweredNew.getId())
+			.doesNotContain(answeredOld.getId());
+		assertThat(unanswered).allMatch(question -> !question.isAnswered());
+	}
+
+	@Test
+	@DisplayName("답변을 삭제하면 다시 미답변으로 조회된다")
+	void deleteAnswer_unanswered() {
+		Question question = persistQuestion(item, "질문", LocalDateTime.now());
+		answerService.writeAnswer(question, "답변");
+		em.flush();
+		em.clear();
+
+		questionService.deleteAnswer(question.getId());
+		em.flush();
+		em.clear();
+
+		List<QuestionDto> questions = questionService.getQuestionsByCursor(
+			QuestionSearchCondition.ofItem(item.getId()), null, 10, "desc").getContent();
+		assertThat(questions).singleElement().satisfies(dto -> {
+			assertThat(dto.isAnswered()).isFalse();
+			assertThat(dto.getAnswer()).isNull();
+		});
+	}
+
+	@Test
+	@DisplayName("다른 정렬 방향의 커서나 잘못된 커서는 거부한다")
+	void invalidCursor() {
+		persistQuestion(item, "질문 1", LocalDateTime.now());
+		persistQuestion(item, "질문 2", LocalDateTime.now());
+		QuestionSearchCondition condition = QuestionSearchCondition.ofItem(item.getId());
+		String descCursor = questionService.getQuestionsByCursor(condition, null, 1, "desc").getNextCursor();
+
+		assertThatThrownBy(() -> questionService.getQuestionsByCursor(condition, descCursor, 10, "asc"))
+			.isInstanceOf(ServiceException.class);
+		assertThatThrownBy(() -> questionService.getQuestionQueue(condition, "invalid", 10))
+			.isInstanceOf(ServiceException.class);
+	}
+}
@@ -0,0 +1,99 @@
+package com.coffeebean.domain.review.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coffeebean.global.file.ImageVariant;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FileStorageServiceTest {
+
+	@Autowired
+	private FileStorageService fileStorageService;
+
+	@Value("${file.upload-dir}")
+	private String uploadDir;
+
+	private static byte[] png(int width, int height, int rgb) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int x = 0; x < width; x++) {
+			image.setRGB(x, 0, rgb);
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+
+	private Path waitFor(Path path) throws InterruptedException {
+		for (int i = 0; i < 100 && !Files.exists(path); i++) {
+			Thread.sleep(100);
+		}
+		return path;
+	}
+
+	@Test
+	@DisplayName("같은 내용의 파일은 파일명이 달라도 한 번만 저장된다")
+	void storeFile_dedup() throws IOException {
+		byte[] content = png(10, 10, 0x112233);
+
+		String first = fileStorageService.storeFile(new MockMultipartFile("image", "a.PNG", "image/png", content));
+		String second = fileStorageService.storeFile(new MockMultipartFile("image", "b.png", "image/png", content));
+
+		assertThat(first).isEqualTo(second).matches("[0-9a-f]{64}\\.png");
+		assertThat(Files.readAllBytes(Paths.get(uploadDir).resolve(first))).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("다른 내용의 파일은 다른 이름으로 저장된다")
+	void storeFile_differentContent() throws IOException {
+		String first = fileStorageService.storeFile(
+			new MockMultipartFile("image", "a.png", "image/png", png(10, 10, 0x445566)));
+		String second = fileStorageService.storeFile(
+			new MockMultipartFile("image", "a.png", "image/png", png(10, 10, 0x778899)));
+
+		assertThat(first).isNotEqualTo(second);
+	}
+
+	@Test
+	@DisplayName("이미지를 저장하면 썸네일/중간 크기 버전이 비동기로 만들어진다")
+	void storeFile_variants() throws Exception {
+		String fileName = fileStorageService.storeFile(
+			new MockMultipartFile("image", "large.png", "image/png", png(1200, 800, 0xaabbcc)));
+
+		Path thumbnail = waitFor(Paths.get(uploadDir).resolve(ImageVariant.THUMBNAIL.fileName(fileName)));
+		Path medium = waitFor(Paths.get(uploadDir).resolve(ImageVariant.MEDIUM.fileName(fileName)));
+
+		BufferedImage thumbnailImage = ImageIO.read(thumbnail.toFile());
+		assertThat(thumbnailImage.getWidth()).isEqualTo(200);
+		assertThat(thumbnailImage.getHeight()).isEqualTo(133);
+		assertThat(ImageIO.read(medium.toFile()).getWidth()).isEqualTo(600);
+	}
+
+	@Test
+	@DisplayName("업로드 파일 URL 은 리사이즈 버전 URL 로 바뀌고 그 외 URL 은 그대로다")
+	void variantUrl() {
+		assertThat(ImageVariant.THUMBNAIL.url("http://localhost:8080/files/abc.jpg"))
+			.isEqualTo("http://localhost:8080/files/abc_thumb.jpg");
+		assertThat(ImageVariant.of("abc_medium.jpg")).isEqualTo(ImageVariant.MEDIUM);
+		assertThat(ImageVariant.MEDIUM.originalFileName("abc_medium.jpg")).isEqualTo("abc.jpg");
+		assertThat(ImageVariant.THUMBNAIL.url("http://localhost:8080/1.webp")).isEqualTo("http://localhost:8080/1.webp");
+		assertThat(ImageVariant.THUMBNAIL.url(null)).isNull();
+	}
+}
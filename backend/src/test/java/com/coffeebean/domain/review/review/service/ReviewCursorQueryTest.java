@@ -0,0 +1,192 @@
+package com.coffeebean.domain.review.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.review.review.ReviewSearchCondition;
+import com.coffeebean.domain.review.review.entity.Review;
+import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
+import com.coffeebean.domain.user.user.Address;
+import com.coffeebean.global.dto.CursorPage;
+import com.coffeebean.global.exception.ServiceException;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewCursorQueryTest {
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private EntityManager em;
+
+	private Statistics statistics;
+
+	private Item item;
+	private Item otherItem;
+	private Order order;
+
+	@BeforeEach
+	void setUp() {
+		statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		item = Item.builder().name("리뷰 원두").price(10000).stockQuantity(100).build();
+		otherItem = Item.builder().name("다른 원두").price(10000).stockQuantity(100).build();
+		em.persist(item);
+		em.persist(otherItem);
+
+		order = Order.builder()
+			.email("review@exam.com")
+			.deliveryAddress(new Address("서울", "원두로 1", "12345"))
+			.deliveryStatus(DeliveryStatus.DONE)
+			.orderStatus(OrderStatus.COMPLETED)
+			.build();
+		em.persist(order);
+	}
+
+	private Review persistReview(Item target, int rating, String fileName, LocalDateTime createDate) {
+		OrderItem orderItem = OrderItem.builder().order(order).item(target).orderPrice(10000).count(1).build();
+		em.persist(orderItem);
+		Review review = Review.builder()
+			.orderItem(orderItem)
+			.content("리뷰 " + rating)
+			.rating(rating)
+			.generatedFileName(fileName)
+			.build();
+		em.persist(review);
+		em.flush();
+
+		// 작성일은 auditing 이 채우므로 저장 후 변경
+		em.createQuery("update Review r set r.createDate = :createDate where r.id = :id")
+			.setParameter("createDate", createDate)
+			.setParameter("id", review.getId())
+			.executeUpdate();
+		return review;
+	}
+
+	private List<ReviewDetailNotImageDto> readAll(ReviewSearchCondition condition, String sortBy, String direction,
+		int size) {
+		List<ReviewDetailNotImageDto> all = new ArrayList<>();
+		String cursor = null;
+		do {
+			CursorPage<ReviewDetailNotImageDto> page = reviewService.getReviewsByCursor(condition, cursor, size,
+				sortBy, direction);
+			all.addAll(page.getContent());
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		return all;
+	}
+
+	@Test
+	@DisplayName("리뷰 저장 시 주문 상품의 상품 id 가 함께 저장된다")
+	void itemIdDenormalized() {
+		Review review = persistReview(item, 5, null, LocalDateTime.now());
+
+		assertThat(review.getItemId()).isEqualTo(item.getId());
+	}
+
+	@Test
+	@DisplayName("상품별 리뷰를 최신순 커서로 끝까지 조회하면 중복/누락 없이 한 번씩 조회된다")
+	void itemReviews_createDateDesc() {
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			// 같은 작성일이 섞여 있어도 id 로 순서가 정해진다
+			expected.add(persistReview(item, 1 + i % 5, null, base.plusDays(i / 2)).getId());
+		}
+		persistReview(otherItem, 5, null, base.plusDays(10));
+		em.clear();
+
+		List<ReviewDetailNotImageDto> reviews = readAll(ReviewSearchCondition.ofItem(item.getId()), "createDate",
+			"desc", 3);
+
+		assertThat(reviews).extracting(ReviewDetailNotImageDto::getReviewId)
+			.containsExactlyElementsOf(expected.reversed());
+	}
+
+	@Test
+	@DisplayName("상품별 리뷰를 별점순으로 조회할 수 있다")
+	void itemReviews_ratingDesc() {
+		LocalDateTime now = LocalDateTime.now();
+		for (int rating : new int[] {3, 5, 1, 5, 4}) {
+			persistReview(item, rating, null, now);
+		}
+		em.clear();
+
+		List<ReviewDetailNotImageDto> reviews = readAll(ReviewSearchCondition.ofItem(item.getId()), "rating",
+			"desc", 2);
+
+		assertThat(reviews).extracting(ReviewDetailNotImageDto::getRating).containsExactly(5, 5, 4, 3, 1);
+	}
+
+	@Test
+	@DisplayName("리뷰 한 페이지 조회는 쿼리 1번으로 처리된다")
+	void itemReviews_singleQuery() {
+		for (int i = 0; i < 30; i++) {
+			persistReview(item, 4, null, LocalDateTime.now());
+		}
+		em.clear();
+		statistics.clear();
+
+		CursorPage<ReviewDetailNotImageDto> page = reviewService.getReviewsByCursor(
+			ReviewSearchCondition.ofItem(item.getId()), null, 10, "createDate", "desc");
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(page.getContent()).hasSize(10);
+		assertThat(page.isHasNext()).isTrue();
+	}
+
+	@Test
+	@DisplayName("관리자 리뷰 목록은 별점, 포토 여부, 작성일 구간으로 거를 수 있다")
+	void adminReviews_filter() {
+		LocalDateTime base = LocalDateTime.of(2025, 3, 10, 9, 0);
+		Review target = persistReview(item, 5, "photo.png", base);
+		persistReview(item, 5, null, base);                       // 포토 아님
+		persistReview(otherItem, 4, "photo.png", base);           // 별점 다름
+		persistReview(otherItem, 5, "photo.png", base.minusDays(3)); // 구간 밖
+		em.clear();
+
+		ReviewSearchCondition condition = new ReviewSearchCondition(null, 5, true,
+			LocalDate.of(2025, 3, 9), LocalDate.of(2025, 3, 10));
+
+		assertThat(readAll(condition, "createDate", "desc", 20))
+			.extracting(ReviewDetailNotImageDto::getReviewId)
+			.containsExactly(target.getId());
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 정렬 기준이나 다른 정렬의 커서는 거부한다")
+	void invalidSortOrCursor() {
+		persistReview(item, 5, null, LocalDateTime.now());
+		persistReview(item, 4, null, LocalDateTime.now());
+		ReviewSearchCondition condition = ReviewSearchCondition.ofItem(item.getId());
+		String ratingCursor = reviewService.getReviewsByCursor(condition, null, 1, "rating", "desc").getNextCursor();
+
+		assertThatThrownBy(() -> reviewService.getReviewsByCursor(condition, null, 10, "content", "desc"))
+			.isInstanceOf(ServiceException.class);
+		assertThatThrownBy(() -> reviewService.getReviewsByCursor(condition, ratingCursor, 10, "createDate", "desc"))
+			.isInstanceOf(ServiceException.class);
+	}
+}
@@ -0,0 +1,171 @@
+package com.coffeebean.domain.review.stats.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.review.review.entity.Review;
+import com.coffeebean.domain.review.stats.entity.ItemReviewStats;
+import com.coffeebean.domain.review.stats.repository.ItemReviewStatsRepository;
+import com.coffeebean.domain.user.user.Address;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemReviewStatsServiceTest {
+
+	@Autowired
+	private ItemReviewStatsService itemReviewStatsService;
+
+	@Autowired
+	private ItemReviewStatsRepository itemReviewStatsRepository;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private EntityManager em;
+
+	private Item item;
+
+	@BeforeEach
+	void setUp() {
+		item = itemService.addItem("통계 테스트 원두", 10000, 100, "통계", "stats.png");
+	}
+
+	private ItemReviewStats stats(Long itemId) {
+		em.flush();
+		em.clear();
+		return itemReviewStatsRepository.findById(itemId).orElseThrow();
+	}
+
+	// 리뷰 테이블에 직접 저장 (통계는 갱신하지 않음)
+	private void persistReviews(Item target, int... ratings) {
+		Order order = Order.builder()
+			.email("stats@exam.com")
+			.deliveryAddress(new Address("서울", "원두로 1", "12345"))
+			.deliveryStatus(DeliveryStatus.DONE)
+			.orderStatus(OrderStatus.COMPLETED)
+			.build();
+		em.persist(order);
+
+		for (int rating : ratings) {
+			OrderItem orderItem = OrderItem.builder().order(order).item(target).orderPrice(10000).count(1).build();
+			em.persist(orderItem);
+			em.persist(Review.builder().orderItem(orderItem).content("리뷰").rating(rating).build());
+		}
+	}
+
+	@Test
+	@DisplayName("상품을 등록하면 리뷰 0건의 통계 행이 함께 생성된다")
+	void create() {
+		ItemReviewStats stats = stats(item.getId());
+
+		assertThat(stats.getReviewCount()).isZero();
+		assertThat(stats.getAverageRating()).isZero();
+	}
+
+	@Test
+	@DisplayName("리뷰 작성/별점 수정/삭제 시 리뷰 수, 평균, 별점 분포가 증감으로 갱신된다")
+	void incremental() {
+		itemReviewStatsService.reviewAdded(item.getId(), 5);
+		itemReviewStatsService.reviewAdded(item.getId(), 4);
+		itemReviewStatsService.reviewAdded(item.getId(), 3);
+
+		ItemReviewStats added = stats(item.getId());
+		assertThat(added.getReviewCount()).isEqualTo(3);
+		assertThat(added.getRatingSum()).isEqualTo(12);
+		assertThat(added.getAverageRating()).isEqualTo(4.0);
+		assertThat(added.getStarCounts()).containsExactly(0, 0, 1, 1, 1);
+
+		itemReviewStatsService.ratingChanged(item.getId(), 3, 1);
+		ItemReviewStats changed = stats(item.getId());
+		assertThat(changed.getReviewCount()).isEqualTo(3);
+		assertThat(changed.getAverageRating()).isEqualTo(10 / 3.0);
+		assertThat(changed.getStarCounts()).containsExactly(1, 0, 0, 1, 1);
+
+		itemReviewStatsService.reviewRemoved(item.getId(), 1);
+		itemReviewStatsService.reviewRemoved(item.getId(), 4);
+		itemReviewStatsService.reviewRemoved(item.getId(), 5);
+		ItemReviewStats removed = stats(item.getId());
+		assertThat(removed.getReviewCount()).isZero();
+		assertThat(removed.getAverageRating()).isZero();
+		assertThat(removed.getStarCounts()).containsOnly(0);
+	}
+
+	@Test
+	@DisplayName("통계 행이 없는 상품에 리뷰가 작성되면 통계 행을 만들어 반영한다")
+	void incremental_missingRow() {
+		itemReviewStatsService.delete(item.getId());
+
+		itemReviewStatsService.reviewAdded(item.getId(), 2);
+
+		ItemReviewStats stats = stats(item.getId());
+		assertThat(stats.getReviewCount()).isEqualTo(1);
+		assertThat(stats.getAverageRating()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("재집계 결과는 증감으로 유지한 통계와 같다")
+	void rebuild_matchesIncremental() {
+		int[] ratings = {5, 5, 4, 2, 1};
+		persistReviews(item, ratings);
+		for (int rating : ratings) {
+			itemReviewStatsService.reviewAdded(item.getId(), rating);
+		}
+		ItemReviewStats incremental = stats(item.getId());
+
+		// 통계를 임의로 틀어 놓은 뒤 재집계
+		incremental.reset(0, 0, new long[5]);
+		itemReviewStatsRepository.saveAndFlush(incremental);
+		itemReviewStatsService.rebuild();
+
+		ItemReviewStats rebuilt = stats(item.getId());
+		assertThat(rebuilt.getReviewCount()).isEqualTo(5);
+		assertThat(rebuilt.getRatingSum()).isEqualTo(17);
+		assertThat(rebuilt.getAverageRating()).isEqualTo(17 / 5.0);
+		assertThat(rebuilt.getStarCounts()).containsExactly(1, 1, 0, 1, 2);
+	}
+
+	@Test
+	@DisplayName("상품 목록을 평균 별점순으로 정렬하고 최소 평점으로 거를 수 있다")
+	void itemPage_sortAndFilterByRating() {
+		Item low = itemService.addItem("낮은 평점 원두", 10000, 100, "통계", "low.png");
+		itemReviewStatsService.reviewAdded(item.getId(), 5);
+		itemReviewStatsService.reviewAdded(item.getId(), 4);
+		itemReviewStatsService.reviewAdded(low.getId(), 2);
+		em.flush();
+		em.clear();
+
+		List<ItemDto> sorted = itemService.getItemPage(0, 100, "rating", "desc").getContent();
+		List<Long> ids = sorted.stream().map(ItemDto::getId).toList();
+		assertThat(ids.indexOf(item.getId())).isLessThan(ids.indexOf(low.getId()));
+
+		List<ItemDto> filtered = itemService.getItemPage(0, 100, "rating", "desc", 4.0).getContent();
+		assertThat(filtered).extracting(ItemDto::getId).contains(item.getId()).doesNotContain(low.getId());
+		assertThat(filtered).filteredOn(dto -> dto.getId().equals(item.getId()))
+			.singleElement()
+			.satisfies(dto -> {
+				assertThat(dto.getReviewCount()).isEqualTo(2);
+				assertThat(dto.getAverageRating()).isEqualTo(4.5);
+				assertThat(dto.getStarCounts()).containsExactly(0, 0, 0, 1, 1);
+			});
+	}
+}
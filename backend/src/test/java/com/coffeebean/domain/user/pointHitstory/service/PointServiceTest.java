@@ -0,0 +1,196 @@
+package com.coffeebean.domain.user.pointHitstory.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coffeebean.domain.user.pointHitstory.PointHistoryDto;
+import com.coffeebean.domain.user.pointHitstory.repository.PointHistoryRepository;
+import com.coffeebean.domain.user.user.enitity.User;
+import com.coffeebean.domain.user.user.repository.UserRepository;
+import com.coffeebean.domain.user.user.service.UserService;
+import com.coffeebean.global.dto.CursorPage;
+import com.coffeebean.global.exception.ServiceException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PointServiceTest {
+
+	private static final int THREADS = 32;
+
+	@Autowired
+	private PointService pointService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PointHistoryRepository pointHistoryRepository;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.builder()
+			.email("point@exam.com")
+			.password("password")
+			.name("point")
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointHistoryRepository.deleteAll(pointHistoryRepository.findLatest(user.getId(), PageRequest.of(0, 10000)));
+		userRepository.deleteById(user.getId());
+	}
+
+	private int balance() {
+		return userRepository.findById(user.getId()).get().getTotalPoints();
+	}
+
+	private User loadUser() {
+		return userRepository.findById(user.getId()).get();
+	}
+
+	@Test
+	@DisplayName("적립/사용하면 잔액이 바뀌고 원장에 내역이 쌓인다")
+	void earnAndUse() {
+		pointService.earn(loadUser(), 3000, "리뷰 작성 포인트 적립");
+		pointService.use(loadUser(), 1000, "상품 결제에 적립금 사용");
+
+		assertThat(balance()).isEqualTo(2000);
+		assertThat(pointHistoryRepository.findLatest(user.getId(), PageRequest.of(0, 10)))
+			.extracting(h -> h.getAmount())
+			.containsExactly(-1000, 3000);
+	}
+
+	@Test
+	@DisplayName("잔액보다 많이 사용하면 실패하고 잔액과 원장은 그대로다")
+	void use_insufficient() {
+		pointService.earn(loadUser(), 500, "적립");
+
+		assertThatThrownBy(() -> pointService.use(loadUser(), 501, "사용"))
+			.isInstanceOf(ServiceException.class)
+			.hasMessage("적립금이 부족합니다.");
+
+		assertThat(balance()).isEqualTo(500);
+		assertThat(pointHistoryRepository.sumAmountByUserId(user.getId())).isEqualTo(500);
+	}
+
+	@Test
+	@DisplayName("한 회원에게 동시에 적립/사용이 몰려도 갱신이 유실되지 않고 잔액과 원장 합계가 일치한다")
+	void concurrent_reconciles() throws InterruptedException {
+		int operations = 400;
+		pointService.earn(loadUser(), 1000, "초기 적립");
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(operations);
+		AtomicInteger earned = new AtomicInteger();
+		AtomicInteger used = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		List<Throwable> unexpected = new ArrayList<>();
+
+		for (int i = 0; i < operations; i++) {
+			boolean earn = i % 2 == 0;
+			executor.submit(() -> {
+				try {
+					User actor = loadUser();
+					ready.await();
+					if (earn) {
+						pointService.earn(actor, 10, "동시 적립");
+						earned.addAndGet(10);
+					} else {
+						pointService.use(actor, 30, "동시 사용");
+						used.addAndGet(30);
+					}
+				} catch (ServiceException e) {
+					rejected.incrementAndGet();
+				} catch (Throwable e) {
+					synchronized (unexpected) {
+						unexpected.add(e);
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.countDown();
+		assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		assertThat(unexpected).isEmpty();
+		int expected = 1000 + earned.get() - used.get();
+		assertThat(balance()).isEqualTo(expected).isNotNegative();
+		assertThat(pointHistoryRepository.sumAmountByUserId(user.getId())).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("동시에 사용해도 잔액보다 많이 차감되지 않는다")
+	void concurrent_noOverdraw() throws InterruptedException {
+		pointService.earn(loadUser(), 1000, "초기 적립");
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(50);
+		AtomicInteger success = new AtomicInteger();
+
+		for (int i = 0; i < 50; i++) {
+			executor.submit(() -> {
+				try {
+					User actor = loadUser();
+					ready.await();
+					pointService.use(actor, 100, "동시 사용");
+					success.incrementAndGet();
+				} catch (ServiceException | InterruptedException ignored) {
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.countDown();
+		assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		assertThat(success.get()).isEqualTo(10);
+		assertThat(balance()).isZero();
+	}
+
+	@Test
+	@DisplayName("포인트 내역은 최신순 커서로 끝까지 조회된다")
+	void pointHistories_cursor() {
+		for (int i = 1; i <= 5; i++) {
+			pointService.earn(loadUser(), i * 100, "적립 " + i);
+		}
+
+		List<Integer> amounts = new ArrayList<>();
+		String cursor = null;
+		do {
+			CursorPage<PointHistoryDto> page = userService.getPointHistories(user.getId(), cursor, 2);
+			page.getContent().forEach(history -> amounts.add(history.getAmount()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(amounts).containsExactly(500, 400, 300, 200, 100);
+	}
+}
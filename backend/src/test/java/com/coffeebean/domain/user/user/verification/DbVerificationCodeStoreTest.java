@@ -0,0 +1,102 @@
+package com.coffeebean.domain.user.user.verification;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coffeebean.domain.user.user.repository.EmailVerificationRepository;
+import com.coffeebean.domain.user.user.service.EmailVerificationService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DbVerificationCodeStoreTest {
+
+	private static final String EMAIL = "verify@exam.com";
+
+	@Autowired
+	private VerificationCodeStore verificationCodeStore;
+
+	@Autowired
+	private EmailVerificationService emailVerificationService;
+
+	@Autowired
+	private EmailVerificationRepository emailVerificationRepository;
+
+	@AfterEach
+	void tearDown() {
+		emailVerificationRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("기본 저장소는 DB 저장소이고 코드는 해시로 저장된다")
+	void save() {
+		verificationCodeStore.save(EMAIL, "aB3dE5gH");
+
+		assertThat(verificationCodeStore).isInstanceOf(DbVerificationCodeStore.class);
+		assertThat(emailVerificationRepository.findById(EMAIL)).get()
+			.satisfies(emailVerification -> {
+				assertThat(emailVerification.getCodeHash()).hasSize(64).doesNotContain("aB3dE5gH");
+				assertThat(emailVerification.isVerified()).isFalse();
+			});
+	}
+
+	@Test
+	@DisplayName("코드를 다시 요청하면 이전 코드는 무효가 되고, 일치하는 코드로 인증된다")
+	void verify() {
+		verificationCodeStore.save(EMAIL, "first111");
+		verificationCodeStore.save(EMAIL, "second22");
+
+		assertThat(verificationCodeStore.verify(EMAIL, "first111")).isEqualTo(VerificationResult.MISMATCH);
+		assertThat(verificationCodeStore.verify(EMAIL, "second22")).isEqualTo(VerificationResult.VERIFIED);
+		assertThat(verificationCodeStore.isVerified(EMAIL)).isTrue();
+		assertThat(verificationCodeStore.verify("none@exam.com", "second22")).isEqualTo(VerificationResult.NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("동시에 틀린 코드를 여러 번 입력해도 max-attempts 번까지만 확인한다")
+	void verify_concurrent_attempts() throws Exception {
+		verificationCodeStore.save(EMAIL, "aB3dE5gH");
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		List<Callable<VerificationResult>> tasks = IntStream.range(0, 50)
+			.<Callable<VerificationResult>>mapToObj(i -> () -> verificationCodeStore.verify(EMAIL, "wrong" + i))
+			.toList();
+		List<VerificationResult> results = executor.invokeAll(tasks).stream()
+			.map(future -> {
+				try {
+					return future.get();
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			})
+			.toList();
+		executor.shutdown();
+
+		assertThat(results).filteredOn(result -> result == VerificationResult.MISMATCH).hasSize(5);
+		assertThat(results).filteredOn(result -> result == VerificationResult.TOO_MANY_ATTEMPTS).hasSize(45);
+		assertThat(verificationCodeStore.verify(EMAIL, "aB3dE5gH")).isEqualTo(VerificationResult.TOO_MANY_ATTEMPTS);
+	}
+
+	@Test
+	@DisplayName("비회원 인증은 따옴표가 붙은 이메일도 같은 이메일로 처리한다")
+	void verifyEmailForGuest() {
+		verificationCodeStore.save(EMAIL, "aB3dE5gH");
+
+		assertThat(emailVerificationService.verifyEmailForGuest("\"" + EMAIL + "\"", "aB3dE5gH")).isTrue();
+		assertThat(emailVerificationService.isEmailVerified(EMAIL)).isTrue();
+		assertThatThrownBy(() -> emailVerificationService.verifyEmail("other@exam.com", "aB3dE5gH"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("이메일 인증 요청이 없습니다.");
+	}
+}
@@ -0,0 +1,127 @@
+package com.coffeebean.domain.user.user.verification;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryVerificationCodeStoreTest {
+
+	private static final String EMAIL = "verify@exam.com";
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	private MutableClock clock;
+	private InMemoryVerificationCodeStore store;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock();
+		store = new InMemoryVerificationCodeStore(TTL, 3, 1000, clock);
+	}
+
+	@Test
+	@DisplayName("코드가 일치하면 인증 완료 상태가 된다")
+	void verify() {
+		store.save(EMAIL, "aB3dE5gH");
+
+		assertThat(store.isVerified(EMAIL)).isFalse();
+		assertThat(store.verify(EMAIL, "aB3dE5gH")).isEqualTo(VerificationResult.VERIFIED);
+		assertThat(store.isVerified(EMAIL)).isTrue();
+	}
+
+	@Test
+	@DisplayName("코드를 다시 요청하면 이전 코드와 입력 횟수가 초기화된다")
+	void save_replace() {
+		store.save(EMAIL, "first111");
+		store.verify(EMAIL, "wrong");
+		store.verify(EMAIL, "wrong");
+		store.save(EMAIL, "second22");
+
+		assertThat(store.verify(EMAIL, "first111")).isEqualTo(VerificationResult.MISMATCH);
+		assertThat(store.verify(EMAIL, "second22")).isEqualTo(VerificationResult.VERIFIED);
+	}
+
+	@Test
+	@DisplayName("입력 횟수를 넘으면 맞는 코드도 거절된다")
+	void verify_tooManyAttempts() {
+		store.save(EMAIL, "aB3dE5gH");
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(store.verify(EMAIL, "wrong")).isEqualTo(VerificationResult.MISMATCH);
+		}
+
+		assertThat(store.verify(EMAIL, "aB3dE5gH")).isEqualTo(VerificationResult.TOO_MANY_ATTEMPTS);
+		assertThat(store.isVerified(EMAIL)).isFalse();
+	}
+
+	@Test
+	@DisplayName("ttl 이 지난 코드와 인증 상태는 만료된다")
+	void expire() {
+		store.save(EMAIL, "aB3dE5gH");
+		clock.advance(TTL);
+
+		assertThat(store.verify(EMAIL, "aB3dE5gH")).isEqualTo(VerificationResult.NOT_FOUND);
+
+		store.save(EMAIL, "aB3dE5gH");
+		store.verify(EMAIL, "aB3dE5gH");
+		clock.advance(TTL);
+
+		assertThat(store.isVerified(EMAIL)).isFalse();
+	}
+
+	@Test
+	@DisplayName("만료 정리는 만료된 코드만 지운다")
+	void deleteExpired() {
+		store.save("old@exam.com", "aB3dE5gH");
+		clock.advance(TTL.minusMinutes(1));
+		store.save(EMAIL, "aB3dE5gH");
+		clock.advance(Duration.ofMinutes(1));
+
+		assertThat(store.deleteExpired()).isEqualTo(1);
+		assertThat(store.size()).isEqualTo(1);
+		assertThat(store.verify(EMAIL, "aB3dE5gH")).isEqualTo(VerificationResult.VERIFIED);
+	}
+
+	@Test
+	@DisplayName("최대 보관 수를 넘으면 오래된 코드부터 지운다")
+	void maxEntries() {
+		for (int i = 0; i < 5000; i++) {
+			store.save("user%d@exam.com".formatted(i), "aB3dE5gH");
+		}
+
+		assertThat(store.size()).isLessThanOrEqualTo(1000);
+		assertThat(store.verify("user4999@exam.com", "aB3dE5gH")).isEqualTo(VerificationResult.VERIFIED);
+		assertThat(store.verify("user0@exam.com", "aB3dE5gH")).isEqualTo(VerificationResult.NOT_FOUND);
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.coffeebean.global.email;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 테스트용 메모리 JavaMailSender. 실제 SMTP 대신 발송된 메일을 보관한다.
+ * failFor 로 등록한 수신자에게 보내는 메일은 발송 실패로 처리한다.
+ * latencyMillis 를 주면 SMTP 응답을 기다리는 것처럼 발송마다 그만큼 대기한다 (부하 테스트용).
+ */
+public class FakeJavaMailSender implements JavaMailSender {
+
+	private final Session session = Session.getInstance(new Properties());
+	private final List<MimeMessage> sentMessages = new CopyOnWriteArrayList<>();
+	private final Set<String> failingRecipients = ConcurrentHashMap.newKeySet();
+	private volatile long latencyMillis;
+
+	public List<MimeMessage> getSentMessages() {
+		return sentMessages;
+	}
+
+	public void failFor(String recipient) {
+		failingRecipients.add(recipient);
+	}
+
+	public void setLatencyMillis(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+
+	public void reset() {
+		sentMessages.clear();
+		failingRecipients.clear();
+		latencyMillis = 0;
+	}
+
+	@Override
+	public MimeMessage createMimeMessage() {
+		return new MimeMessage(session);
+	}
+
+	@Override
+	public MimeMessage createMimeMessage(InputStream contentStream) {
+		try {
+			return new MimeMessage(session, contentStream);
+		} catch (MessagingException e) {
+			throw new MailSendException("메일 생성 실패", e);
+		}
+	}
+
+	@Override
+	public void send(MimeMessage mimeMessage) {
+		if (latencyMillis > 0) {
+			try {
+				Thread.sleep(latencyMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new MailSendException("발송 중단 (테스트)", e);
+			}
+		}
+		try {
+			for (Address address : mimeMessage.getAllRecipients()) {
+				if (failingRecipients.contains(address.toString())) {
+					throw new MailSendException("발송 실패 (테스트): " + address);
+				}
+			}
+		} catch (MessagingException e) {
+			throw new MailSendException("수신자 확인 실패", e);
+		}
+		sentMessages.add(mimeMessage);
+	}
+
+	@Override
+	public void send(MimeMessage... mimeMessages) {
+		for (MimeMessage mimeMessage : mimeMessages) {
+			send(mimeMessage);
+		}
+	}
+
+	@Override
+	public void send(MimeMessagePreparator mimeMessagePreparator) {
+		MimeMessage mimeMessage = createMimeMessage();
+		try {
+			mimeMessagePreparator.prepare(mimeMessage);
+		} catch (Exception e) {
+			throw new MailSendException("메일 생성 실패", e);
+		}
+		send(mimeMessage);
+	}
+
+	@Override
+	public void send(MimeMessagePreparator... mimeMessagePreparators) {
+		for (MimeMessagePreparator mimeMessagePreparator : mimeMessagePreparators) {
+			send(mimeMessagePreparator);
+		}
+	}
+
+	@Override
+	public void send(SimpleMailMessage simpleMessage) {
+		send(mimeMessage -> {
+			mimeMessage.setRecipients(MimeMessage.RecipientType.TO, String.join(",", simpleMessage.getTo()));
+			mimeMessage.setSubject(simpleMessage.getSubject());
+			mimeMessage.setText(simpleMessage.getText());
+		});
+	}
+
+	@Override
+	public void send(SimpleMailMessage... simpleMessages) {
+		for (SimpleMailMessage simpleMessage : simpleMessages) {
+			send(simpleMessage);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.coffeebean.global.email;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+// test 프로필에서는 실제 SMTP 대신 메모리 메일 발송기를 사용
+@Configuration
+@Profile("test")
+public class FakeMailConfig {
+
+	@Bean
+	@Primary
+	public FakeJavaMailSender fakeJavaMailSender() {
+		return new FakeJavaMailSender();
+	}
+}
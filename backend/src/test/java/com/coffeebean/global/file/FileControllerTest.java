@@ -0,0 +1,156 @@
+package com.coffeebean.global.file;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class FileControllerTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private FileServingService fileServingService;
+
+	@Value("${file.upload-dir}")
+	private String uploadDir;
+
+	private byte[] content;
+	private String hash;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		content = new byte[100_000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte)(i * 31);
+		}
+		hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+		Path root = Files.createDirectories(Paths.get(uploadDir));
+		Files.write(root.resolve(hash + ".jpg"), content);
+		Files.write(root.resolve(hash + "_thumb.jpg"), Arrays.copyOf(content, 1000));
+		Files.write(root.resolve("legacy-file.jpg"), content);
+	}
+
+	@Test
+	@DisplayName("내용 해시 이름의 파일은 해시 ETag 와 immutable 캐시 헤더로 내려준다")
+	void serve_contentAddressed() throws Exception {
+		byte[] body = mvc.perform(get("/files/" + hash + ".jpg"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+			.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+			.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length))
+			.andExpect(content().contentType("image/jpeg"))
+			.andReturn().getResponse().getContentAsByteArray();
+
+		assertThat(body).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("If-None-Match 가 ETag 와 같으면 본문 없이 304 로 응답한다")
+	void serve_notModified() throws Exception {
+		byte[] body = mvc.perform(get("/files/" + hash + ".jpg")
+				.header(HttpHeaders.IF_NONE_MATCH, "\"other\", \"" + hash + "\""))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+			.andReturn().getResponse().getContentAsByteArray();
+
+		assertThat(body).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Range 요청은 요청한 구간만 206 으로 내려준다")
+	void serve_range() throws Exception {
+		byte[] body = mvc.perform(get("/files/" + hash + ".jpg").header(HttpHeaders.RANGE, "bytes=100-199"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + content.length))
+			.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+			.andReturn().getResponse().getContentAsByteArray();
+
+		assertThat(body).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+
+		byte[] suffix = mvc.perform(get("/files/" + hash + ".jpg").header(HttpHeaders.RANGE, "bytes=-10"))
+			.andExpect(status().isPartialContent())
+			.andReturn().getResponse().getContentAsByteArray();
+		assertThat(suffix).isEqualTo(Arrays.copyOfRange(content, content.length - 10, content.length));
+	}
+
+	@Test
+	@DisplayName("파일 크기를 벗어난 Range 는 416, If-Range 가 다르면 전체 파일로 응답한다")
+	void serve_invalidRange() throws Exception {
+		mvc.perform(get("/files/" + hash + ".jpg").header(HttpHeaders.RANGE, "bytes=200000-"))
+			.andExpect(status().isRequestedRangeNotSatisfiable())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + content.length));
+
+		mvc.perform(get("/files/" + hash + ".jpg")
+				.header(HttpHeaders.RANGE, "bytes=0-9")
+				.header(HttpHeaders.IF_RANGE, "\"stale\""))
+			.andExpect(status().isOk())
+			.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length));
+	}
+
+	@Test
+	@DisplayName("자주 조회되는 썸네일은 메모리 캐시에서 내려준다")
+	void serve_hotThumbnail() throws Exception {
+		long hitBefore = fileServingService.getHotCacheStats().hitCount();
+
+		for (int i = 0; i < 3; i++) {
+			byte[] body = mvc.perform(get("/files/" + hash + "_thumb.jpg"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "_thumb\""))
+				.andReturn().getResponse().getContentAsByteArray();
+			assertThat(body).isEqualTo(Arrays.copyOf(content, 1000));
+		}
+
+		assertThat(fileServingService.getHotCacheStats().hitCount()).isEqualTo(hitBefore + 2);
+	}
+
+	@Test
+	@DisplayName("리사이즈 버전이 없으면 원본을 캐시 불가로 내려준다")
+	void serve_missingVariant() throws Exception {
+		mvc.perform(get("/files/" + hash + "_medium.jpg"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+	}
+
+	@Test
+	@DisplayName("해시 이름이 아닌 파일은 수정 시각 기반 ETag 로 재검증하게 한다")
+	void serve_legacy() throws Exception {
+		mvc.perform(get("/files/legacy-file.jpg"))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+	}
+
+	@Test
+	@DisplayName("없는 파일이나 업로드 디렉토리 밖의 경로는 404")
+	void serve_notFound() throws Exception {
+		mvc.perform(get("/files/missing.jpg"))
+			.andExpect(status().isNotFound());
+		mvc.perform(get("/files/..application.yml"))
+			.andExpect(status().isNotFound());
+	}
+}
@@ -0,0 +1,165 @@
+package com.coffeebean.global.httpcache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.domain.item.service.StockService;
+import com.coffeebean.domain.notice.notice.service.NoticeService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class HttpResponseCacheTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private HttpResponseCache httpResponseCache;
+
+	@Autowired
+	private NoticeService noticeService;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private StockService stockService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private Item item;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		item = itemService.addItem("응답 캐시 원두", 12000, 10, "응답 캐시", "http-cache.png");
+	}
+
+	@AfterEach
+	void tearDown() {
+		itemRepository.findById(item.getId()).ifPresent(itemService::deleteItem);
+	}
+
+	@Test
+	@DisplayName("같은 조회는 캐시된 JSON 으로 응답하고 If-None-Match 가 같으면 조회 없이 304")
+	void notices_cachedAndNotModified() throws Exception {
+		MvcResult first = mvc.perform(get("/api/v1/notices/list").param("page", "0").param("size", "5"))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andExpect(jsonPath("$.code").value("200-1"))
+			.andReturn();
+		String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+		byte[] body = first.getResponse().getContentAsByteArray();
+		HttpCacheStatsDto before = httpResponseCache.getStats();
+		statistics.clear();
+
+		byte[] cached = mvc.perform(get("/api/v1/notices/list").param("page", "0").param("size", "5"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, etag))
+			.andReturn().getResponse().getContentAsByteArray();
+		byte[] notModified = mvc.perform(get("/api/v1/notices/list").param("page", "0").param("size", "5")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified())
+			.andReturn().getResponse().getContentAsByteArray();
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(cached).isEqualTo(body);
+		assertThat(notModified).isEmpty();
+
+		HttpCacheStatsDto after = httpResponseCache.getStats();
+		assertThat(after.getHitCount()).isEqualTo(before.getHitCount() + 1);
+		assertThat(after.getNotModifiedCount()).isEqualTo(before.getNotModifiedCount() + 1);
+		assertThat(after.getBytesSaved()).isEqualTo(before.getBytesSaved() + body.length);
+	}
+
+	@Test
+	@DisplayName("공지사항을 작성하면 ETag 가 바뀌고 새 목록으로 응답한다")
+	void notices_evictOnWrite() throws Exception {
+		String etag = mvc.perform(get("/api/v1/notices/list"))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		noticeService.writeNotice("응답 캐시 공지", "내용");
+
+		mvc.perform(get("/api/v1/notices/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+			.andExpect(jsonPath("$.data.content[0].title").value("응답 캐시 공지"));
+	}
+
+	@Test
+	@DisplayName("관리자가 재고를 변경하면 상품 조회 응답 캐시가 무효화된다")
+	void items_evictOnChange() throws Exception {
+		String etag = mvc.perform(get("/api/v1/items/" + item.getId()))
+			.andExpect(jsonPath("$.data.stockQuantity").value(10))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		itemService.updateStockQuantity(itemRepository.findById(item.getId()).get(), 7);
+
+		mvc.perform(get("/api/v1/items/" + item.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.stockQuantity").value(7));
+	}
+
+	@Test
+	@DisplayName("주문으로 재고가 차감되어도 캐시된 상품 조회 응답은 무효화되지 않는다")
+	void items_notEvictedByOrder() throws Exception {
+		MvcResult first = mvc.perform(get("/api/v1/items/" + item.getId()))
+			.andExpect(status().isOk())
+			.andReturn();
+		String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+		HttpCacheStatsDto before = httpResponseCache.getStats();
+
+		stockService.reserve(Map.of(item.getId(), 3));
+
+		mvc.perform(get("/api/v1/items/" + item.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified());
+		byte[] cached = mvc.perform(get("/api/v1/items/" + item.getId()))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, etag))
+			.andReturn().getResponse().getContentAsByteArray();
+
+		assertThat(cached).isEqualTo(first.getResponse().getContentAsByteArray());
+		assertThat(httpResponseCache.getStats().getHitCount()).isEqualTo(before.getHitCount() + 1);
+	}
+
+	@Test
+	@DisplayName("실패 응답은 캐시하지 않는다")
+	void errorNotCached() throws Exception {
+		long sizeBefore = httpResponseCache.getStats().getSize();
+
+		mvc.perform(get("/api/v1/items/" + Long.MAX_VALUE))
+			.andExpect(status().isNotFound());
+
+		assertThat(httpResponseCache.getStats().getSize()).isEqualTo(sizeBefore);
+	}
+}
@@ -0,0 +1,28 @@
+package com.coffeebean.global.jdbc;
+
+/**
+ * 테스트용 SQL 수 검증.
+ * assertMaxQueries(10, () -> mvc.perform(get(...))) 처럼 감싸면 실행 중 SQL 이 n 개를 넘을 때
+ * 많이 실행된 SQL 요약과 함께 실패한다. (같은 스레드에서 실행된 SQL 만 집계)
+ */
+public final class QueryAssertions {
+
+	@FunctionalInterface
+	public interface QueryAction<T> {
+		T run() throws Exception;
+	}
+
+	private QueryAssertions() {
+	}
+
+	public static <T> T assertMaxQueries(int max, QueryAction<T> action) throws Exception {
+		try (QueryStats stats = QueryCounter.begin()) {
+			T result = action.run();
+			if (stats.getStatementCount() > max) {
+				throw new AssertionError("SQL 이 %d개 이하로 실행되어야 하지만 %d개 실행되었습니다.%n%s"
+					.formatted(max, stats.getStatementCount(), stats.summary(20)));
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.coffeebean.global.jdbc;
+
+import static com.coffeebean.global.jdbc.QueryAssertions.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.item.service.ItemService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class QueryCountFilterTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private QueryMetrics queryMetrics;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	private Item item;
+
+	@BeforeEach
+	void setUp() {
+		item = itemService.addItem("쿼리 집계 원두", 10000, 10, "쿼리 집계", "query-count.png");
+	}
+
+	@AfterEach
+	void tearDown() {
+		itemRepository.findById(item.getId()).ifPresent(itemService::deleteItem);
+	}
+
+	@Test
+	@DisplayName("범위 안에서 실행된 SQL 수, 조회/변경 행 수를 집계하고 중첩 범위에도 함께 집계한다")
+	void countStatementsAndRows() {
+		try (QueryStats outer = QueryCounter.begin()) {
+			try (QueryStats inner = QueryCounter.begin()) {
+				List<Long> ids = jdbcTemplate.queryForList("select item_id from item order by item_id limit 3",
+					Long.class);
+				jdbcTemplate.update("update item set price = price where item_id = ?", item.getId());
+
+				assertThat(inner.getStatementCount()).isEqualTo(2);
+				assertThat(inner.getRowCount()).isEqualTo(ids.size() + 1);
+			}
+			jdbcTemplate.queryForObject("select count(*) from item", Long.class);
+
+			assertThat(outer.getStatementCount()).isEqualTo(3);
+			assertThat(outer.summary(10)).contains("1x", "select count(*) from item");
+		}
+	}
+
+	@Test
+	@DisplayName("요청마다 SQL 수를 응답 헤더로 내려주고 API 별로 집계한다")
+	void headersAndMetrics() throws Exception {
+		String count = mvc.perform(get("/api/v1/items/" + item.getId()))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(QueryCountFilter.COUNT_HEADER))
+			.andExpect(header().exists(QueryCountFilter.ROWS_HEADER))
+			.andExpect(header().exists(QueryCountFilter.TIME_HEADER))
+			.andReturn().getResponse().getHeader(QueryCountFilter.COUNT_HEADER);
+
+		assertThat(Long.parseLong(count)).isPositive();
+		assertThat(queryMetrics.getStats())
+			.filteredOn(stats -> stats.getEndpoint().equals("GET /api/v1/items/{id}"))
+			.singleElement()
+			.satisfies(stats -> assertThat(stats.getRequestCount()).isPositive());
+	}
+
+	@Test
+	@DisplayName("assertMaxQueries 는 SQL 이 기준보다 많으면 실행된 SQL 과 함께 실패한다")
+	void assertMaxQueries_fail() throws Exception {
+		assertThat(assertMaxQueries(1, () -> jdbcTemplate.queryForObject("select 1", Integer.class))).isEqualTo(1);
+
+		assertThatThrownBy(() -> assertMaxQueries(1, () -> {
+			jdbcTemplate.queryForObject("select 1", Integer.class);
+			return jdbcTemplate.queryForObject("select 1", Integer.class);
+		}))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("2개 실행")
+			.hasMessageContaining("2x");
+	}
+}
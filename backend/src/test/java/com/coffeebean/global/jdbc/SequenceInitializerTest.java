@@ -0,0 +1,51 @@
+package com.coffeebean.global.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SequenceInitializerTest {
+
+	@Autowired
+	private SequenceInitializer sequenceInitializer;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private long nextValue(String sequenceName) {
+		return jdbcTemplate.queryForObject(
+			"select base_value from information_schema.sequences where upper(sequence_name) = upper(?)",
+			Long.class, sequenceName);
+	}
+
+	@Test
+	@DisplayName("IDENTITY 로 쌓인 id 보다 시퀀스가 뒤처져 있으면 최대 id 뒤로 맞춘다")
+	void alignSequence() {
+		// ddl-auto 가 새로 만든 시퀀스 (IDENTITY 로 쌓인 주문이 이미 있는 상태)
+		jdbcTemplate.execute("alter sequence orders_seq restart with 1");
+		Long maxId = jdbcTemplate.queryForObject("select max(order_id) from orders", Long.class);
+
+		sequenceInitializer.run(null);
+
+		assertThat(maxId).isNotNull();
+		assertThat(nextValue("orders_seq") - 50).isGreaterThanOrEqualTo(maxId);
+	}
+
+	@Test
+	@DisplayName("시퀀스가 이미 최대 id 보다 앞서 있으면 그대로 둔다")
+	void alignSequence_ahead() {
+		Long maxId = jdbcTemplate.queryForObject("select coalesce(max(order_id), 0) from orders", Long.class);
+		jdbcTemplate.execute("alter sequence orders_seq restart with " + (maxId + 1000));
+
+		sequenceInitializer.run(null);
+
+		assertThat(nextValue("orders_seq")).isEqualTo(maxId + 1000);
+	}
+}
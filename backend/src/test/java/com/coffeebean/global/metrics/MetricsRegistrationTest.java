@@ -0,0 +1,155 @@
+package com.coffeebean.global.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.domain.user.user.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.Cookie;
+
+@SpringBootTest(properties = "mail.outbox.worker-enabled=false")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsRegistrationTest {
+
+	private static final String EMAIL = "metrics@exam.com";
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Item item;
+	private String authToken;
+
+	@BeforeEach
+	void setUp() {
+		item = itemService.addItem("메트릭 원두", 10000, 5, "메트릭", "metrics.png");
+		authToken = userService.loginUser("example@exam.com", "password", new MockHttpServletResponse())
+			.get("token");
+	}
+
+	// 주문 테스트 데이터 정리 (다른 테스트의 주문 목록에 섞이지 않도록)
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from order_item where order_id in (select order_id from orders where email = ?)",
+			EMAIL);
+		jdbcTemplate.update("delete from orders where email = ?", EMAIL);
+		jdbcTemplate.update("delete from mail_outbox where recipient = ?", EMAIL);
+		itemRepository.findById(item.getId()).ifPresent(itemService::deleteItem);
+	}
+
+	private ResultActions order(int count) throws Exception {
+		return mvc.perform(post("/api/v1/orders")
+			.cookie(new Cookie("token", authToken))
+			.contentType(MediaType.APPLICATION_JSON)
+			.content("""
+				{
+				  "items": [{"id": %d, "count": %d}],
+				  "address": {"city": "서울", "street": "원두아파트 100동 1201호", "zipcode": "23578"},
+				  "email": "%s",
+				  "cartOrder": false,
+				  "point": 0
+				}
+				""".formatted(item.getId(), count, EMAIL)));
+	}
+
+	private long timerCount(String name) {
+		return meterRegistry.find(name).timers().stream().mapToLong(Timer::count).sum();
+	}
+
+	@Test
+	@DisplayName("주문 처리 경로의 타이머와 주문/재고 거절 카운터가 기록된다")
+	void checkoutMeters() throws Exception {
+		double ordersBefore = meterRegistry.get("coffeebean.orders.created").counter().count();
+		double rejectionsBefore = meterRegistry.get("coffeebean.stock.rejections").counter().count();
+		long reserveBefore = timerCount("coffeebean.stock.reserve");
+
+		order(2).andExpect(status().isCreated());
+		order(100).andExpect(status().isBadRequest());
+
+		assertThat(meterRegistry.get("coffeebean.orders.created").counter().count()).isEqualTo(ordersBefore + 1);
+		assertThat(meterRegistry.get("coffeebean.stock.rejections").counter().count()).isEqualTo(rejectionsBefore + 1);
+		assertThat(timerCount("coffeebean.stock.reserve")).isEqualTo(reserveBefore + 2);
+		assertThat(timerCount("coffeebean.order.items.create")).isPositive();
+		assertThat(meterRegistry.get("coffeebean.order.service").tag("method", "createOrder").timer().count())
+			.isPositive();
+		assertThat(timerCount("coffeebean.jwt.parse")).isPositive();
+		assertThat(meterRegistry.get("http.server.requests").tag("uri", "/api/v1/orders").timer().count())
+			.isPositive();
+		assertThat(meterRegistry.get("coffeebean.points.spent").counter()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("Prometheus 형식으로 요청 지연 히스토그램, 커넥션 풀, Hibernate 통계를 내보낸다")
+	void prometheusScrape() throws Exception {
+		order(1).andExpect(status().isCreated());
+
+		String scrape = mvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+
+		assertThat(scrape).contains(
+			"http_server_requests_seconds_bucket",
+			"coffeebean_order_items_create_seconds_bucket",
+			"coffeebean_orders_created_total",
+			"coffeebean_http_jdbc_statements",
+			"hikaricp_connections_active",
+			"hibernate_");
+	}
+
+	@Test
+	@DisplayName("actuator 는 health 만 공개하고, 외부 주소에서 온 메트릭 요청은 거절한다")
+	void actuatorAccess() throws Exception {
+		mvc.perform(get("/actuator/health").with(remoteAddr("203.0.113.10")))
+			.andExpect(status().isOk());
+		mvc.perform(get("/actuator/prometheus").with(remoteAddr("203.0.113.10")))
+			.andExpect(status().isForbidden());
+		mvc.perform(get("/actuator/prometheus").with(remoteAddr("203.0.113.10"))
+				.cookie(new Cookie("token", authToken)))
+			.andExpect(status().isForbidden());
+	}
+
+	private static RequestPostProcessor remoteAddr(String address) {
+		return request -> {
+			request.setRemoteAddr(address);
+			return request;
+		};
+	}
+}
@@ -0,0 +1,53 @@
+package com.coffeebean.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.Cookie;
+
+class JwtUtilTest {
+
+	@Test
+	@DisplayName("검증된 토큰은 캐시된 클레임을 반환한다")
+	void getPayload_cached() {
+		String token = JwtUtil.createToken(Map.of("id", 1L, "email", "jwt@exam.com"));
+
+		Map<String, Object> first = JwtUtil.getPayload(token);
+		Map<String, Object> second = JwtUtil.getPayload(token);
+
+		assertThat(first.get("email")).isEqualTo("jwt@exam.com");
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("서명이 다른 토큰은 캐시되지 않고 매번 검증에 실패한다")
+	void getPayload_invalid() {
+		String token = JwtUtil.createToken(Map.of("id", 1L, "email", "jwt@exam.com"));
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThatThrownBy(() -> JwtUtil.getPayload(tampered)).isInstanceOf(JwtException.class);
+		assertThatThrownBy(() -> JwtUtil.getPayload(tampered)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	@DisplayName("한 요청 안에서는 request attribute 에 저장된 검증 결과를 재사용한다")
+	void getPayload_request() {
+		String token = JwtUtil.createToken(Map.of("id", 1L, "email", "jwt@exam.com", "role", "ROLE_ADMIN"));
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie("token", token));
+
+		Optional<Map<String, Object>> payload = JwtUtil.getPayload(request);
+
+		assertThat(payload).isPresent();
+		assertThat(request.getAttribute(JwtUtil.CLAIMS_ATTRIBUTE)).isSameAs(payload.get());
+		assertThat(JwtUtil.getPayload(request)).containsSame(payload.get());
+		assertThat(JwtUtil.getPayload(new MockHttpServletRequest())).isEmpty();
+	}
+}
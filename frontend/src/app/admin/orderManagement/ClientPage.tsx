@@ -2,6 +2,7 @@
 
 import { useEffect, useState } from "react";
 import { useRouter } from "next/navigation";
+import { Button } from "@/components/ui/button";
 
 type Order = {
   id: number;
@@ -10,8 +11,12 @@ type Order = {
   deliveryStatus: string;
 };
 
+const PAGE_SIZE = 20;
+
 export default function OrderListPage() {
   const [orders, setOrders] = useState<Order[]>([]);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(1);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const router = useRouter();
@@ -22,7 +27,7 @@ export default function OrderListPage() {
       setError(null);
       try {
         const response = await fetch(
-          "http://localhost:8080/api/v1/orders/list",
+          `http://localhost:8080/api/v1/orders/list?page=${page}&size=${PAGE_SIZE}`,
           {
             method: "GET",
             credentials: "include",
@@ -35,6 +40,7 @@ export default function OrderListPage() {
 
         const data = await response.json();
         setOrders(data.data.orders);
+        setTotalPages(Math.max(data.data.totalPages, 1));
       } catch (error) {
         setError("관리자가 아닙니다.");
       } finally {
@@ -43,7 +49,7 @@ export default function OrderListPage() {
     }
 
     fetchOrders();
-  }, []);
+  }, [page]); // 페이지가 바뀌면 다시 불러오기
 
   return (
     <div className="container mx-auto p-6">
@@ -74,6 +80,29 @@ export default function OrderListPage() {
           ))}
         </tbody>
       </table>
+
+      {/* 페이징 컨트롤 UI */}
+      <div className="flex justify-center mt-6 gap-4">
+        <Button
+          onClick={() => setPage((prev) => Math.max(prev - 1, 0))}
+          disabled={page === 0}
+          className="bg-gray-400 px-4 py-2 rounded-md"
+        >
+          이전
+        </Button>
+        <span className="px-4 py-2">
+          {page + 1} / {totalPages}
+        </span>
+        <Button
+          onClick={() =>
+            setPage((prev) => (prev < totalPages - 1 ? prev + 1 : prev))
+          }
+          disabled={page >= totalPages - 1}
+          className="bg-gray-400 px-4 py-2 rounded-md"
+        >
+          다음
+        </Button>
+      </div>
     </div>
   );
 }
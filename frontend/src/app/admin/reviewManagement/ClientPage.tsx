@@ -16,7 +16,9 @@ export default function ReviewByItems() {
   const [error, setError] = useState("");
 
   useEffect(() => {
-    fetch("http://localhost:8080/api/v1/items/reviews")
+    fetch("http://localhost:8080/api/v1/items/reviews", {
+      credentials: "include",
+    })
       .then((response) => {
         if (!response.ok) {
           throw new Error("리뷰를 불러오는 데 실패했습니다.");